@@ -16,6 +16,9 @@ package org.pitest.mutationtest.commandline;
 
 import static org.pitest.mutationtest.config.ConfigOption.AVOID_CALLS;
 import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
+import static org.pitest.mutationtest.config.ConfigOption.AGENT_CACHE_DIRECTORY;
+import static org.pitest.mutationtest.config.ConfigOption.CACHE_AGENT_JAR;
+import static org.pitest.mutationtest.config.ConfigOption.CLASS_INFO_INDEX_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH_FILE;
 import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
@@ -25,7 +28,9 @@ import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_METHOD;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_TEST_CLASSES;
+import static org.pitest.mutationtest.config.ConfigOption.EXPORT_BINARY_LINE_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.EXPORT_LINE_COVERAGE;
+import static org.pitest.mutationtest.config.ConfigOption.EXPORT_METRICS;
 import static org.pitest.mutationtest.config.ConfigOption.FAIL_WHEN_NOT_MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.FEATURES;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_INPUT_LOCATION;
@@ -34,6 +39,8 @@ import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_TEST_METHODS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
+import static org.pitest.mutationtest.config.ConfigOption.MAX_KILLING_TESTS;
+import static org.pitest.mutationtest.config.ConfigOption.MINION_HEAP_RECYCLE_PERCENT;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTATIONS_PER_CLASS;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_SURVIVING;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
@@ -42,6 +49,8 @@ import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_UNIT_SIZE;
 import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
+import static org.pitest.mutationtest.config.ConfigOption.ORDER_TESTS_BY_HISTORY;
+import static org.pitest.mutationtest.config.ConfigOption.REDUCE_REDUNDANT_TESTS;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
@@ -98,6 +107,9 @@ public class OptionsParser {
   private final OptionSpec<File>                     sourceDirSpec;
   private final OptionSpec<File>                     historyOutputSpec;
   private final OptionSpec<File>                     historyInputSpec;
+  private final OptionSpec<File>                     classInfoIndexSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> cacheAgentJarSpec;
+  private final OptionSpec<File>                     agentCacheDirectorySpec;
   private final OptionSpec<String>                   mutators;
   private final OptionSpec<String>                   features;
   private final OptionSpec<String>                   jvmArgs;
@@ -121,8 +133,14 @@ public class OptionsParser {
   private final ArgumentAcceptingOptionSpec<Integer> mutationThreshHoldSpec;
   private final ArgumentAcceptingOptionSpec<Integer> coverageThreshHoldSpec;
   private final ArgumentAcceptingOptionSpec<Integer> maxSurvivingSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> maxKillingTestsSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> minionHeapRecyclePercentSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> reduceRedundantTestsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> orderTestsByHistorySpec;
   private final OptionSpec<String>                   mutationEngine;
   private final ArgumentAcceptingOptionSpec<Boolean> exportLineCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> exportBinaryLineCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> exportMetricsSpec;
   private final OptionSpec<String>                   javaExecutable;
   private final OptionSpec<KeyValuePair>             pluginPropertiesSpec;
   private final OptionSpec<String>                   testPluginSpec;
@@ -250,6 +268,21 @@ public class OptionsParser {
         .describedAs(
             "whether or not to dump per test line coverage data to disk");
 
+    this.exportBinaryLineCoverageSpec = parserAccepts(
+        EXPORT_BINARY_LINE_COVERAGE)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to dump per test line coverage data to disk in binary form");
+
+    this.exportMetricsSpec = parserAccepts(EXPORT_METRICS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to write run metrics to disk");
+
     this.includeLaunchClasspathSpec = parserAccepts(INCLUDE_LAUNCH_CLASSPATH)
         .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
         .describedAs("whether or not to analyse launch classpath");
@@ -307,6 +340,18 @@ public class OptionsParser {
         .withRequiredArg().ofType(File.class)
         .describedAs("File to write history to for incremental analysis");
 
+    this.classInfoIndexSpec = parserAccepts(CLASS_INFO_INDEX_LOCATION)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("File in which to keep parsed class information between runs");
+
+    this.cacheAgentJarSpec = parserAccepts(CACHE_AGENT_JAR)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
+        .describedAs("whether or not to keep the generated agent jar between runs");
+
+    this.agentCacheDirectorySpec = parserAccepts(AGENT_CACHE_DIRECTORY)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("Directory in which to keep the agent jar, defaults to .pitest/agents in the user's home");
+
     this.mutationThreshHoldSpec = parserAccepts(MUTATION_THRESHOLD)
         .withRequiredArg().ofType(Integer.class)
         .describedAs("Mutation score below which to throw an error")
@@ -317,6 +362,30 @@ public class OptionsParser {
         .describedAs("Maximum number of surviving mutants to allow without throwing an error")
         .defaultsTo(MAX_SURVIVING.getDefault(Integer.class));
 
+    this.maxKillingTestsSpec = parserAccepts(MAX_KILLING_TESTS)
+        .withRequiredArg().ofType(Integer.class)
+        .describedAs("Maximum number of tests to record as killing each mutant")
+        .defaultsTo(MAX_KILLING_TESTS.getDefault(Integer.class));
+
+    this.minionHeapRecyclePercentSpec = parserAccepts(MINION_HEAP_RECYCLE_PERCENT)
+        .withRequiredArg().ofType(Integer.class)
+        .describedAs("Percentage of tenured heap in use at which to move remaining mutations to a new minion. 0 to disable")
+        .defaultsTo(MINION_HEAP_RECYCLE_PERCENT.getDefault(Integer.class));
+
+    this.reduceRedundantTestsSpec = parserAccepts(REDUCE_REDUNDANT_TESTS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to skip tests whose coverage of a mutated method is a subset of another test's");
+
+    this.orderTestsByHistorySpec = parserAccepts(ORDER_TESTS_BY_HISTORY)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to run tests that killed a mutant in the previous run first");
+
     this.coverageThreshHoldSpec = parserAccepts(COVERAGE_THRESHOLD)
         .withRequiredArg().ofType(Integer.class)
         .describedAs("Line coverage below which to throw an error")
@@ -402,8 +471,18 @@ public class OptionsParser {
 
     data.setHistoryInputLocation(this.historyInputSpec.value(userArgs));
     data.setHistoryOutputLocation(this.historyOutputSpec.value(userArgs));
+    data.setClassInfoIndexLocation(this.classInfoIndexSpec.value(userArgs));
+    data.setCacheAgentJar(userArgs.valueOf(this.cacheAgentJarSpec));
+    data.setAgentCacheDirectory(this.agentCacheDirectorySpec.value(userArgs));
     data.setMutationThreshold(this.mutationThreshHoldSpec.value(userArgs));
     data.setMaximumAllowedSurvivors(this.maxSurvivingSpec.value(userArgs));
+    data.setMaxKillingTests(this.maxKillingTestsSpec.value(userArgs));
+    data.setMinionHeapRecyclePercent(this.minionHeapRecyclePercentSpec
+        .value(userArgs));
+    data.setReduceRedundantTests(userArgs.has(this.reduceRedundantTestsSpec)
+        && userArgs.valueOf(this.reduceRedundantTestsSpec));
+    data.setOrderTestsByHistory(userArgs
+        .valueOf(this.orderTestsByHistorySpec));
     data.setCoverageThreshold(this.coverageThreshHoldSpec.value(userArgs));
     data.setMutationEngine(this.mutationEngine.value(userArgs));
     data.setFreeFormProperties(listToProperties(this.pluginPropertiesSpec
@@ -411,6 +490,11 @@ public class OptionsParser {
 
     data.setExportLineCoverage(userArgs.has(this.exportLineCoverageSpec)
         && userArgs.valueOf(this.exportLineCoverageSpec));
+    data.setExportBinaryLineCoverage(userArgs
+        .has(this.exportBinaryLineCoverageSpec)
+        && userArgs.valueOf(this.exportBinaryLineCoverageSpec));
+    data.setExportMetrics(userArgs.has(this.exportMetricsSpec)
+        && userArgs.valueOf(this.exportMetricsSpec));
 
     setClassPath(userArgs, data);
 
@@ -358,6 +358,33 @@ public class OptionsParserTest {
     assertNull(actual.getHistoryOutputLocation());
   }
 
+  @Test
+  public void shouldParseClassInfoIndexLocation() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--classInfoIndexLocation", "foo");
+    assertEquals(new File("foo"), actual.getClassInfoIndexLocation());
+  }
+
+  @Test
+  public void shouldCacheAgentJarInDefaultDirectoryByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertTrue(actual.shouldCacheAgentJar());
+    assertNull(actual.getAgentCacheDirectory());
+  }
+
+  @Test
+  public void shouldNotCacheAgentJarWhenFalseSupplied() {
+    final ReportOptions actual = parseAddingRequiredArgs("--cacheAgentJar=false");
+    assertFalse(actual.shouldCacheAgentJar());
+  }
+
+  @Test
+  public void shouldParseAgentCacheDirectory() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--agentCacheDirectory", "foo");
+    assertEquals(new File("foo"), actual.getAgentCacheDirectory());
+  }
+
   @Test
   public void shouldParseHistoryInputLocation() {
     final ReportOptions actual = parseAddingRequiredArgs(
@@ -386,6 +413,56 @@ public class OptionsParserTest {
     assertEquals(42, actual.getMaximumAllowedSurvivors());
   }
 
+  @Test
+  public void shouldRecordSingleKillingTestByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(1, actual.getMaxKillingTests());
+  }
+
+  @Test
+  public void shouldParseMaximumKillingTests() {
+    final ReportOptions actual = parseAddingRequiredArgs("--maxKillingTests",
+        "3");
+    assertEquals(3, actual.getMaxKillingTests());
+  }
+
+  @Test
+  public void shouldRecycleMinionsAtEightyPercentHeapByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(80, actual.getMinionHeapRecyclePercent());
+  }
+
+  @Test
+  public void shouldParseMinionHeapRecyclePercent() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--minionHeapRecyclePercent", "60");
+    assertEquals(60, actual.getMinionHeapRecyclePercent());
+  }
+
+  @Test
+  public void shouldRunAllCoveringTestsByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.shouldReduceRedundantTests());
+  }
+
+  @Test
+  public void shouldParseReduceRedundantTestsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--reduceRedundantTests");
+    assertTrue(actual.shouldReduceRedundantTests());
+  }
+
+  @Test
+  public void shouldOrderTestsByHistoryByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertTrue(actual.shouldOrderTestsByHistory());
+  }
+
+  @Test
+  public void shouldParseOrderTestsByHistoryFlagWhenFalseSupplied() {
+    final ReportOptions actual = parseAddingRequiredArgs("--orderTestsByHistory=false");
+    assertFalse(actual.shouldOrderTestsByHistory());
+  }
+
   @Test
   public void shouldParseCoverageThreshold() {
     final ReportOptions actual = parseAddingRequiredArgs("--coverageThreshold",
@@ -430,6 +507,24 @@ public class OptionsParserTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  @Test
+  public void shouldParseExportBinaryLineCoverageFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--exportBinaryLineCoverage");
+    assertTrue(actual.shouldExportBinaryLineCoverage());
+  }
+
+  @Test
+  public void shouldParseExportMetricsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--exportMetrics");
+    assertTrue(actual.shouldExportMetrics());
+  }
+
+  @Test
+  public void shouldNotExportMetricsWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldExportMetrics());
+  }
+
   @Test
   public void shouldIncludeLaunchClasspathByDefault() {
     final ReportOptions actual = parseAddingRequiredArgs("");
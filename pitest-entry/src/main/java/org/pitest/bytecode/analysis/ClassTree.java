@@ -2,6 +2,8 @@ package org.pitest.bytecode.analysis;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.tree.AnnotationNode;
@@ -21,6 +23,7 @@ public class ClassTree {
   
   private final ClassNode rawNode;
   private FunctionalList<MethodTree> lazyMethods; 
+  private Map<Location, MethodTree> lazyMethodsByLocation;
 
   public ClassTree(ClassNode rawNode) {
     this.rawNode = rawNode;
@@ -42,8 +45,22 @@ public class ClassTree {
     return lazyMethods;
   }
   
+  /**
+   * Looks up a method by location. The lookup table is built on first use
+   * and shared by all callers, so interceptors should prefer this to
+   * searching methods() for each mutant.
+   * 
+   * @param loc location of method
+   * @return the method, or none if not present in this class
+   */
   public Option<MethodTree> method(Location loc) {
-   return methods().findFirst(MethodMatchers.forLocation(loc));
+    if (lazyMethodsByLocation == null) {
+      lazyMethodsByLocation = new HashMap<>();
+      for (MethodTree each : methods()) {
+        lazyMethodsByLocation.put(each.asLocation(), each);
+      }
+    }
+    return Option.some(lazyMethodsByLocation.get(loc));
   }
   
   public FunctionalList<AnnotationNode> annotations() {
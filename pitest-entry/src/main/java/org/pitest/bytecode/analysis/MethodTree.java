@@ -1,24 +1,29 @@
 package org.pitest.bytecode.analysis;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
 
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.LineNumberNode;
 import org.objectweb.asm.tree.MethodNode;
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.FunctionalList;
 import org.pitest.functional.MutableList;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.MethodMutater;
 
 public class MethodTree {
   
   private final ClassName owner;
   private final MethodNode rawNode;
   private FunctionalList<AbstractInsnNode> lazyInstructions;
+  private int[] lazyLineNumbers;
 
   public MethodTree(ClassName owner, MethodNode rawNode) {
     this.owner = owner;
@@ -41,6 +46,45 @@ public class MethodTree {
     return createInstructionList();
   }
   
+  /**
+   * @param instructionIndex index of an instruction within this method
+   * @return source line of the instruction, or 0 if no line number is known
+   */
+  public int lineNumberFor(int instructionIndex) {
+    if (lazyLineNumbers == null) {
+      lazyLineNumbers = new int[instructions().size()];
+      int line = 0;
+      int i = 0;
+      for (AbstractInsnNode each : instructions()) {
+        if (each instanceof LineNumberNode) {
+          line = ((LineNumberNode) each).line;
+        }
+        lazyLineNumbers[i] = line;
+        i++;
+      }
+    }
+    return lazyLineNumbers[instructionIndex];
+  }
+
+  /**
+   * Creates a mutated copy of this method. This method is not modified. When
+   * the mutater is a {@link MethodMutater} only the mutated method is created,
+   * which is considerably cheaper than generating the full mutant class.
+   *
+   * @param m mutater that generated the mutation
+   * @param id mutation to apply. Must be located within this method
+   * @return mutated copy of this method
+   */
+  public MethodTree mutate(Mutater m, MutationIdentifier id) {
+    final byte[] bytes;
+    if (m instanceof MethodMutater) {
+      bytes = ((MethodMutater) m).getMethodMutation(id);
+    } else {
+      bytes = m.getMutation(id).getBytes();
+    }
+    return ClassTree.fromBytes(bytes).method(asLocation()).value();
+  }
+
   public boolean isSynthetic() {
     return (rawNode.access & Opcodes.ACC_SYNTHETIC) != 0;
   }
@@ -57,7 +101,8 @@ public class MethodTree {
   }
 
   private FunctionalList<AbstractInsnNode> createInstructionList() {
-    List<AbstractInsnNode> list = new LinkedList<>();
+    // array backed as analysis looks instructions up by index
+    List<AbstractInsnNode> list = new ArrayList<>(rawNode.instructions.size());
     ListIterator<AbstractInsnNode> it = rawNode.instructions.iterator();
     while (it.hasNext()) {
         list.add(it.next());
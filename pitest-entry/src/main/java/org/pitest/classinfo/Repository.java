@@ -14,27 +14,55 @@
  */
 package org.pitest.classinfo;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import static org.pitest.util.Unchecked.translateCheckedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import org.pitest.functional.Option;
 
+/**
+ * Caches class information read from a byte array source. Safe for concurrent
+ * use provided the underlying source is.
+ */
 public class Repository implements ClassInfoSource {
 
-  private final HashFunction              hashFunction;
-  private final Map<ClassName, ClassInfo> knownClasses   = new HashMap<>();
-  private final Set<ClassName>            unknownClasses = new HashSet<>();
-  private final ClassByteArraySource      source;
+  private final HashFunction                        hashFunction;
+  private final ConcurrentMap<ClassName, ClassInfo> knownClasses   = new ConcurrentHashMap<>();
+  private final Set<ClassName>                      unknownClasses = Collections
+      .newSetFromMap(new ConcurrentHashMap<ClassName, Boolean>());
+  private final ClassByteArraySource                source;
+  private final ClassInfoIndex                      index;
 
   public Repository(final ClassByteArraySource source) {
-    this(source, new AddlerHash());
+    this(source, ClassInfoIndex.none());
+  }
+
+  public Repository(final ClassByteArraySource source,
+      final ClassInfoIndex index) {
+    this(source, new XxHash64(), index);
+  }
+
+  public Repository(final ClassByteArraySource source,
+      final HashFunction hashFunction) {
+    this(source, hashFunction, ClassInfoIndex.none());
   }
 
-  Repository(final ClassByteArraySource source, final HashFunction hashFunction) {
+  public Repository(final ClassByteArraySource source,
+      final HashFunction hashFunction, final ClassInfoIndex index) {
     this.source = source;
     this.hashFunction = hashFunction;
+    this.index = index;
   }
 
   public boolean hasClass(final ClassName name) {
@@ -59,22 +87,79 @@ public class Repository implements ClassInfoSource {
 
     final Option<ClassInfo> maybeInfo = nameToClassInfo(name);
     if (maybeInfo.hasSome()) {
-      this.knownClasses.put(name, maybeInfo.value());
+      // another thread may have read the class first, in which case use its
+      // copy so all callers see the same instance
+      final ClassInfo existing = this.knownClasses.putIfAbsent(name,
+          maybeInfo.value());
+      if (existing != null) {
+        return Option.some(existing);
+      }
     }
     return maybeInfo;
   }
 
+  /**
+   * Fetches many classes at once, reading and parsing them on a pool of
+   * threads. Classes are returned in the order supplied, with any that
+   * cannot be found omitted.
+   *
+   * @param names classes to fetch
+   * @param threads number of threads to use
+   * @return information for each class found
+   */
+  public List<ClassInfo> fetchClasses(final Iterable<ClassName> names,
+      final int threads) {
+    final ExecutorService executor = Executors.newFixedThreadPool(
+        Math.max(1, threads), daemonThreads());
+    try {
+      final List<Future<Option<ClassInfo>>> results = new ArrayList<>();
+      for (final ClassName each : names) {
+        results.add(executor.submit(new Callable<Option<ClassInfo>>() {
+          @Override
+          public Option<ClassInfo> call() {
+            return fetchClass(each);
+          }
+        }));
+      }
+
+      final List<ClassInfo> found = new ArrayList<>(results.size());
+      for (final Future<Option<ClassInfo>> each : results) {
+        for (final ClassInfo info : each.get()) {
+          found.add(info);
+        }
+      }
+      return found;
+    } catch (final InterruptedException e) {
+      throw translateCheckedException(e);
+    } catch (final ExecutionException e) {
+      throw translateCheckedException(e.getCause());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   private Option<ClassInfo> nameToClassInfo(final ClassName name) {
     final Option<byte[]> bytes = querySource(name);
     if (bytes.hasSome()) {
-      final ClassInfoBuilder classData = ClassInfoVisitor.getClassInfo(name,
-          bytes.value(), this.hashFunction.hash(bytes.value()));
-      return contructClassInfo(classData);
+      return contructClassInfo(parse(name, bytes.value()));
     } else {
       return Option.none();
     }
   }
 
+  private ClassInfoBuilder parse(final ClassName name, final byte[] bytes) {
+    final long hash = this.hashFunction.hash(bytes);
+    final Option<ClassInfoBuilder> indexed = this.index.find(name, bytes,
+        hash);
+    if (indexed.hasSome()) {
+      return indexed.value();
+    }
+    final ClassInfoBuilder classData = ClassInfoVisitor.getClassInfo(name,
+        bytes, hash);
+    this.index.record(name, bytes, hash, classData);
+    return classData;
+  }
+
   public Option<byte[]> querySource(final ClassName name) {
     if (this.unknownClasses.contains(name)) {
       return Option.none();
@@ -107,4 +192,15 @@ public class Repository implements ClassInfoSource {
     }
   }
 
+  private static ThreadFactory daemonThreads() {
+    return new ThreadFactory() {
+      @Override
+      public Thread newThread(final Runnable r) {
+        final Thread t = new Thread(r, "pit-class-scanner");
+        t.setDaemon(true);
+        return t;
+      }
+    };
+  }
+
 }
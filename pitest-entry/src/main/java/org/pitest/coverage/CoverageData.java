@@ -15,10 +15,12 @@
 
 package org.pitest.coverage;
 
-import java.math.BigInteger;
+import java.util.AbstractCollection;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +37,7 @@ import org.pitest.functional.F2;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
 import org.pitest.functional.predicate.Predicate;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
 import org.pitest.util.Log;
 
@@ -49,6 +52,10 @@ public class CoverageData implements CoverageDatabase {
   private final Map<BlockLocation, Set<TestInfo>>             blockCoverage = new LinkedHashMap<>();
   private final Map<BlockLocation, Set<Integer>>              blocksToLines = new LinkedHashMap<>();
   private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new LinkedHashMap<>();
+  private final Map<String, Set<ClassName>>                   testCoverage  = new HashMap<>();
+  // built on first use, as coverage of each method is then looked up once
+  // per mutated method
+  private Map<Location, Map<String, Set<Integer>>>            methodBlocks;
   private final Map<String, Collection<ClassInfo>>            classesForFile;
 
   private final CodeSource                                    code;
@@ -103,11 +110,67 @@ public class CoverageData implements CoverageDatabase {
     checkForFailedTest(cr);
     final TestInfo ti = this.createTestInfo(cr.getTestUnitDescription(),
         cr.getExecutionTime(), cr.getNumberOfCoveredBlocks());
+    final Set<ClassName> classes = getClassSetForTest(ti.getName());
+    this.methodBlocks = null;
     for (BlockLocation each : cr.getCoverage()) {
       addTestsToBlockMap(ti, each);
+      classes.add(each.getLocation().getClassName());
     }
   }
 
+  @Override
+  public Collection<ClassName> getClassesCoveredByTest(final String testName) {
+    final Set<ClassName> classes = this.testCoverage.get(testName);
+    if (classes == null) {
+      return Collections.emptySet();
+    }
+    return Collections.unmodifiableSet(classes);
+  }
+
+  @Override
+  public Map<String, Set<Integer>> getBlocksCoveredByTests(
+      final Location method) {
+    if (this.methodBlocks == null) {
+      this.methodBlocks = calculateMethodBlocks();
+    }
+    final Map<String, Set<Integer>> blocks = this.methodBlocks.get(method);
+    if (blocks == null) {
+      return Collections.emptyMap();
+    }
+    return Collections.unmodifiableMap(blocks);
+  }
+
+  private Map<Location, Map<String, Set<Integer>>> calculateMethodBlocks() {
+    final Map<Location, Map<String, Set<Integer>>> methods = new HashMap<>();
+    for (final Entry<BlockLocation, Set<TestInfo>> each : this.blockCoverage
+        .entrySet()) {
+      final Location method = each.getKey().getLocation();
+      Map<String, Set<Integer>> blocks = methods.get(method);
+      if (blocks == null) {
+        blocks = new HashMap<>();
+        methods.put(method, blocks);
+      }
+      for (final TestInfo test : each.getValue()) {
+        Set<Integer> covered = blocks.get(test.getName());
+        if (covered == null) {
+          covered = new HashSet<>();
+          blocks.put(test.getName(), covered);
+        }
+        covered.add(each.getKey().getBlock());
+      }
+    }
+    return methods;
+  }
+
+  private Set<ClassName> getClassSetForTest(final String testName) {
+    Set<ClassName> classes = this.testCoverage.get(testName);
+    if (classes == null) {
+      classes = new TreeSet<>();
+      this.testCoverage.put(testName, classes);
+    }
+    return classes;
+  }
+
   private void addTestsToBlockMap(final TestInfo ti, BlockLocation each) {
     Set<TestInfo> tests = this.blockCoverage.get(each);
     if (tests == null) {
@@ -118,10 +181,10 @@ public class CoverageData implements CoverageDatabase {
   }
 
   @Override
-  public BigInteger getCoverageIdForClass(final ClassName clazz) {
+  public long getCoverageIdForClass(final ClassName clazz) {
     final Map<ClassLine, Set<TestInfo>> coverage = getTestsForClassName(clazz);
     if (coverage.isEmpty()) {
-      return BigInteger.ZERO;
+      return 0;
     }
 
     return generateCoverageNumber(coverage);
@@ -131,6 +194,46 @@ public class CoverageData implements CoverageDatabase {
     return FCollection.map(this.blockCoverage.entrySet(), toBlockCoverage());
   }
 
+  /**
+   * Returns a view of the coverage of each block. Unlike
+   * {@link #createCoverage()} no list is built; each element is created as it
+   * is iterated over, so large coverage data can be exported without holding
+   * a copy of it in memory.
+   *
+   * @return view of the coverage of each block
+   */
+  public Collection<BlockCoverage> coverageView() {
+    final F<Entry<BlockLocation, Set<TestInfo>>, BlockCoverage> toCoverage = toBlockCoverage();
+    return new AbstractCollection<BlockCoverage>() {
+      @Override
+      public Iterator<BlockCoverage> iterator() {
+        final Iterator<Entry<BlockLocation, Set<TestInfo>>> entries = CoverageData.this.blockCoverage
+            .entrySet().iterator();
+        return new Iterator<BlockCoverage>() {
+          @Override
+          public boolean hasNext() {
+            return entries.hasNext();
+          }
+
+          @Override
+          public BlockCoverage next() {
+            return toCoverage.apply(entries.next());
+          }
+
+          @Override
+          public void remove() {
+            throw new UnsupportedOperationException();
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return CoverageData.this.blockCoverage.size();
+      }
+    };
+  }
+
   private static F<Entry<BlockLocation, Set<TestInfo>>, BlockCoverage> toBlockCoverage() {
     return new F<Entry<BlockLocation, Set<TestInfo>>, BlockCoverage>() {
       @Override
@@ -162,14 +265,14 @@ public class CoverageData implements CoverageDatabase {
     return new CoverageSummary(numberOfLines(), coveredLines());
   }
 
-  private BigInteger generateCoverageNumber(
+  private long generateCoverageNumber(
       final Map<ClassLine, Set<TestInfo>> coverage) {
-    BigInteger coverageNumber = BigInteger.ZERO;
+    long coverageNumber = 0;
     final Set<ClassName> testClasses = new HashSet<>();
     FCollection.flatMapTo(coverage.values(), testsToClassName(), testClasses);
 
     for (final ClassInfo each : this.code.getClassInfo(testClasses)) {
-      coverageNumber = coverageNumber.add(each.getDeepHash());
+      coverageNumber = coverageNumber + each.getDeepHash();
     }
 
     return coverageNumber;
@@ -1,10 +1,12 @@
 package org.pitest.coverage;
 
-import java.math.BigInteger;
 import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Location;
 
 public interface CoverageDatabase {
 
@@ -16,7 +18,23 @@ public interface CoverageDatabase {
 
   Collection<TestInfo> getTestsForClassLine(ClassLine classLine);
 
-  BigInteger getCoverageIdForClass(ClassName clazz);
+  long getCoverageIdForClass(ClassName clazz);
+
+  /**
+   * Returns the code classes executed by the named test.
+   *
+   * @param testName qualified name of the test
+   * @return classes with at least one block executed by the test
+   */
+  Collection<ClassName> getClassesCoveredByTest(String testName);
+
+  /**
+   * Returns the blocks of a method executed by each test that executes it.
+   *
+   * @param method method to query
+   * @return block numbers keyed by qualified test name
+   */
+  Map<String, Set<Integer>> getBlocksCoveredByTests(Location method);
 
   Collection<ClassInfo> getClassesForFile(String sourceFile, String packageName);
 
@@ -93,7 +93,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
 
       verifyBuildSuitableForMutationTesting(coverage);
 
-      this.exporter.recordCoverage(coverage.createCoverage());
+      this.exporter.recordCoverage(coverage.coverageView());
 
       return coverage;
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.coverage.export;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.CoverageExporter;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.util.BinaryResultOutputStrategy;
+import org.pitest.util.Unchecked;
+
+/**
+ * Exports coverage data in a compact binary form that can be read without
+ * parsing, see {@link BinaryCoverageReader}.
+ *
+ * All values are big endian ints unless stated. The file consists of
+ *
+ * <pre>
+ * magic, version
+ * string count, then for each string its length and UTF-8 bytes
+ * test count, then the string index of each test in name order
+ * block count, then for each block
+ *   class, method name and method descriptor string indexes, block number
+ *   encoding byte then either
+ *     BITSET  : word count then that many longs, bit n set for test n
+ *     INDEXES : count then that many test indexes
+ * </pre>
+ *
+ * Each block uses whichever encoding is smaller.
+ */
+public class BinaryCoverageExporter implements CoverageExporter {
+
+  static final int                   MAGIC   = 0x50495443;
+  static final int                   VERSION = 1;
+
+  static final byte                  BITSET  = 0;
+  static final byte                  INDEXES = 1;
+
+  private final BinaryResultOutputStrategy outputStrategy;
+
+  public BinaryCoverageExporter(
+      final BinaryResultOutputStrategy outputStrategy) {
+    this.outputStrategy = outputStrategy;
+  }
+
+  @Override
+  public void recordCoverage(final Collection<BlockCoverage> coverage) {
+    try (DataOutputStream out = new DataOutputStream(
+        this.outputStrategy.createOutputStreamForFile("linecoverage.bin"))) {
+      // the supplied view may be recalculated on each pass, so read it once
+      write(new ArrayList<>(coverage), out);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void write(final List<BlockCoverage> coverage,
+      final DataOutputStream out) throws IOException {
+    final Map<String, Integer> strings = new LinkedHashMap<>();
+    final Set<String> testNames = new TreeSet<>();
+    for (final BlockCoverage each : coverage) {
+      final Location l = each.getBlock().getLocation();
+      indexOf(l.getClassName().asJavaName(), strings);
+      indexOf(l.getMethodName().name(), strings);
+      indexOf(l.getMethodDesc(), strings);
+      testNames.addAll(each.getTests());
+    }
+
+    final Map<String, Integer> tests = new HashMap<>();
+    final List<Integer> testStrings = new ArrayList<>(testNames.size());
+    for (final String each : testNames) {
+      tests.put(each, tests.size());
+      testStrings.add(indexOf(each, strings));
+    }
+
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+
+    out.writeInt(strings.size());
+    for (final String each : strings.keySet()) {
+      final byte[] bytes = each.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+
+    out.writeInt(testStrings.size());
+    for (final Integer each : testStrings) {
+      out.writeInt(each);
+    }
+
+    out.writeInt(coverage.size());
+    for (final BlockCoverage each : coverage) {
+      final Location l = each.getBlock().getLocation();
+      out.writeInt(strings.get(l.getClassName().asJavaName()));
+      out.writeInt(strings.get(l.getMethodName().name()));
+      out.writeInt(strings.get(l.getMethodDesc()));
+      out.writeInt(each.getBlock().getBlock());
+      writeTests(each.getTests(), tests, out);
+    }
+  }
+
+  private static void writeTests(final Collection<String> names,
+      final Map<String, Integer> tests, final DataOutputStream out)
+      throws IOException {
+    final List<Integer> indexes = new ArrayList<>(names.size());
+    final BitSet bits = new BitSet();
+    for (final String each : names) {
+      final int index = tests.get(each);
+      indexes.add(index);
+      bits.set(index);
+    }
+    final long[] words = bits.toLongArray();
+    if ((words.length * 2) <= indexes.size()) {
+      out.writeByte(BITSET);
+      out.writeInt(words.length);
+      for (final long each : words) {
+        out.writeLong(each);
+      }
+    } else {
+      Collections.sort(indexes);
+      out.writeByte(INDEXES);
+      out.writeInt(indexes.size());
+      for (final Integer each : indexes) {
+        out.writeInt(each);
+      }
+    }
+  }
+
+  private static int indexOf(final String value,
+      final Map<String, Integer> strings) {
+    final Integer existing = strings.get(value);
+    if (existing != null) {
+      return existing;
+    }
+    final int index = strings.size();
+    strings.put(value, index);
+    return index;
+  }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.coverage.export;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.util.PitError;
+import org.pitest.util.Unchecked;
+
+/**
+ * Reads coverage written by {@link BinaryCoverageExporter}.
+ */
+public class BinaryCoverageReader {
+
+  /**
+   * Reads coverage from a file, which is memory mapped rather than read onto
+   * the heap.
+   *
+   * @param file file to read
+   * @return coverage of each block, with tests in name order
+   */
+  public static List<BlockCoverage> read(final File file) {
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+        FileChannel channel = raf.getChannel()) {
+      return read(channel.map(FileChannel.MapMode.READ_ONLY, 0,
+          channel.size()));
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  public static List<BlockCoverage> read(final ByteBuffer buffer) {
+    if (buffer.getInt() != BinaryCoverageExporter.MAGIC) {
+      throw new PitError("Not a binary coverage file");
+    }
+    final int version = buffer.getInt();
+    if (version != BinaryCoverageExporter.VERSION) {
+      throw new PitError("Unsupported binary coverage version " + version);
+    }
+
+    final String[] strings = new String[buffer.getInt()];
+    for (int i = 0; i != strings.length; i++) {
+      final byte[] bytes = new byte[buffer.getInt()];
+      buffer.get(bytes);
+      strings[i] = new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    final String[] tests = new String[buffer.getInt()];
+    for (int i = 0; i != tests.length; i++) {
+      tests[i] = strings[buffer.getInt()];
+    }
+
+    final int blocks = buffer.getInt();
+    final List<BlockCoverage> coverage = new ArrayList<>(blocks);
+    for (int i = 0; i != blocks; i++) {
+      final Location location = Location.location(
+          ClassName.fromString(strings[buffer.getInt()]),
+          MethodName.fromString(strings[buffer.getInt()]),
+          strings[buffer.getInt()]);
+      final BlockLocation block = new BlockLocation(location, buffer.getInt());
+      coverage.add(new BlockCoverage(block, readTests(buffer, tests)));
+    }
+    return coverage;
+  }
+
+  private static List<String> readTests(final ByteBuffer buffer,
+      final String[] tests) {
+    final byte encoding = buffer.get();
+    final int size = buffer.getInt();
+    final List<String> names = new ArrayList<>();
+    if (encoding == BinaryCoverageExporter.BITSET) {
+      for (int word = 0; word != size; word++) {
+        long bits = buffer.getLong();
+        while (bits != 0) {
+          final int bit = Long.numberOfTrailingZeros(bits);
+          names.add(tests[(word * 64) + bit]);
+          bits = bits & (bits - 1);
+        }
+      }
+    } else if (encoding == BinaryCoverageExporter.INDEXES) {
+      for (int i = 0; i != size; i++) {
+        names.add(tests[buffer.getInt()]);
+      }
+    } else {
+      throw new PitError("Unknown test encoding " + encoding);
+    }
+    return names;
+  }
+
+}
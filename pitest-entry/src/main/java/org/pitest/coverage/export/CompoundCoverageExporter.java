@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.coverage.export;
+
+import java.util.Collection;
+
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.CoverageExporter;
+
+public class CompoundCoverageExporter implements CoverageExporter {
+
+  private final Collection<CoverageExporter> children;
+
+  public CompoundCoverageExporter(final Collection<CoverageExporter> children) {
+    this.children = children;
+  }
+
+  @Override
+  public void recordCoverage(final Collection<BlockCoverage> coverage) {
+    for (final CoverageExporter each : this.children) {
+      each.recordCoverage(coverage);
+    }
+  }
+
+}
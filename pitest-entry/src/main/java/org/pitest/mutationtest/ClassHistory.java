@@ -1,5 +1,9 @@
 package org.pitest.mutationtest;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
 
@@ -7,10 +11,17 @@ public class ClassHistory {
 
   private final HierarchicalClassId id;
   private final String              coverageId;
+  private final Map<String, String> methodHashes;
 
   public ClassHistory(final HierarchicalClassId id, final String coverageId) {
+    this(id, coverageId, Collections.<String, String> emptyMap());
+  }
+
+  public ClassHistory(final HierarchicalClassId id, final String coverageId,
+      final Map<String, String> methodHashes) {
     this.id = id;
     this.coverageId = coverageId;
+    this.methodHashes = new TreeMap<>(methodHashes);
   }
 
   public HierarchicalClassId getId() {
@@ -21,6 +32,10 @@ public class ClassHistory {
     return this.coverageId;
   }
 
+  public Map<String, String> getMethodHashes() {
+    return this.methodHashes;
+  }
+
   public ClassName getName() {
     return this.id.getName();
   }
@@ -32,6 +47,8 @@ public class ClassHistory {
     result = (prime * result)
         + ((this.coverageId == null) ? 0 : this.coverageId.hashCode());
     result = (prime * result) + ((this.id == null) ? 0 : this.id.hashCode());
+    result = (prime * result)
+        + ((this.methodHashes == null) ? 0 : this.methodHashes.hashCode());
     return result;
   }
 
@@ -61,6 +78,13 @@ public class ClassHistory {
     } else if (!this.id.equals(other.id)) {
       return false;
     }
+    if (this.methodHashes == null) {
+      if (other.methodHashes != null) {
+        return false;
+      }
+    } else if (!this.methodHashes.equals(other.methodHashes)) {
+      return false;
+    }
     return true;
   }
 
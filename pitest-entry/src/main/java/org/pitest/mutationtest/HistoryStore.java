@@ -20,4 +20,6 @@ public interface HistoryStore {
 
   Map<ClassName, ClassHistory> getHistoricClassPath();
 
+  Map<String, Collection<ClassName>> getHistoricTestDependencies();
+
 }
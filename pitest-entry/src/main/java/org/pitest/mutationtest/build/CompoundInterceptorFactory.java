@@ -6,6 +6,7 @@ import java.util.List;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
+import org.pitest.metrics.Metrics;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.plugin.FeatureSelector;
 import org.pitest.plugin.FeatureSetting;
@@ -27,6 +28,29 @@ public class CompoundInterceptorFactory {
     return new CompoundMutationInterceptor(interceptors);
   }
 
+  /**
+   * Creates an interceptor that records per class metrics for each of its
+   * children.
+   */
+  public MutationInterceptor createInterceptor(
+      ReportOptions data,
+      ClassByteArraySource source,
+      final Metrics metrics) {
+    List<MutationInterceptor> interceptors = FCollection.map(this.features.getActiveFeatures(),
+        toInterceptor(features, data, source));
+    return new CompoundMutationInterceptor(FCollection.map(interceptors, timed(metrics)));
+  }
+
+  private static F<MutationInterceptor, MutationInterceptor> timed(
+      final Metrics metrics) {
+    return new F<MutationInterceptor, MutationInterceptor>() {
+      @Override
+      public MutationInterceptor apply(MutationInterceptor a) {
+        return new TimedMutationInterceptor(a, metrics);
+      }
+    };
+  }
+
   
   private static F<MutationInterceptorFactory, MutationInterceptor> toInterceptor(
       final FeatureSelector<MutationInterceptorFactory> features, final ReportOptions data, final ClassByteArraySource source) {  
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Reorders the tests assigned by another prioritiser so that tests which killed
+ * mutants in the same method during previous runs are tried first.
+ *
+ * Previous killers are ordered by their cost per kill, i.e. execution time
+ * divided by the number of mutants in the method they killed. Tests that have
+ * never killed a mutant in the method keep their original relative order.
+ * History does not record line numbers, so kills are counted per method.
+ */
+public class HistoricKillsTestPrioritiser implements TestPrioritiser {
+
+  private final TestPrioritiser                     child;
+  private final Map<Location, Map<String, Integer>> killsByMethod = new HashMap<>();
+
+  public HistoricKillsTestPrioritiser(final TestPrioritiser child,
+      final Map<MutationIdentifier, MutationStatusTestPair> history) {
+    this.child = child;
+    for (final Entry<MutationIdentifier, MutationStatusTestPair> each : history
+        .entrySet()) {
+      if (each.getValue().getStatus() == DetectionStatus.KILLED) {
+        recordKills(each.getKey().getLocation(), each.getValue()
+            .getKillingTests());
+      }
+    }
+  }
+
+  @Override
+  public List<TestInfo> assignTests(final MutationDetails mutation) {
+    final List<TestInfo> tests = this.child.assignTests(mutation);
+    final Map<String, Integer> kills = this.killsByMethod.get(mutation.getId()
+        .getLocation());
+    if (kills == null) {
+      return tests;
+    }
+    final List<TestInfo> sorted = new ArrayList<>(tests);
+    Collections.sort(sorted, new CostPerKillComparator(kills));
+    return sorted;
+  }
+
+  private void recordKills(final Location location, final List<String> tests) {
+    Map<String, Integer> kills = this.killsByMethod.get(location);
+    if (kills == null) {
+      kills = new HashMap<>();
+      this.killsByMethod.put(location, kills);
+    }
+    for (final String each : tests) {
+      final Integer count = kills.get(each);
+      kills.put(each, count == null ? 1 : count + 1);
+    }
+  }
+
+  private static class CostPerKillComparator implements Comparator<TestInfo>,
+      Serializable {
+
+    private static final long          serialVersionUID = 1L;
+
+    private final Map<String, Integer> kills;
+
+    CostPerKillComparator(final Map<String, Integer> kills) {
+      this.kills = kills;
+    }
+
+    @Override
+    public int compare(final TestInfo o1, final TestInfo o2) {
+      final Integer k1 = this.kills.get(o1.getName());
+      final Integer k2 = this.kills.get(o2.getName());
+      if ((k1 == null) && (k2 == null)) {
+        return 0;
+      }
+      if (k1 == null) {
+        return 1;
+      }
+      if (k2 == null) {
+        return -1;
+      }
+      // compare (time / kills) without dividing, adding one so free tests are
+      // still ranked by how often they kill
+      return Long.compare((o1.getTime() + 1L) * k2, (o2.getTime() + 1L) * k1);
+    }
+
+  }
+
+}
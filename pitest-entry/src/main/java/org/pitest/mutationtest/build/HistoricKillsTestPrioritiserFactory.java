@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.util.Map;
+import java.util.Properties;
+
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Wraps the configured test prioritiser so that tests which killed mutants in
+ * previous runs are tried first. Has no effect when there is no history.
+ */
+public class HistoricKillsTestPrioritiserFactory implements
+    TestPrioritiserFactory {
+
+  private final TestPrioritiserFactory                          child;
+  private final Map<MutationIdentifier, MutationStatusTestPair> history;
+
+  public HistoricKillsTestPrioritiserFactory(final TestPrioritiserFactory child,
+      final Map<MutationIdentifier, MutationStatusTestPair> history) {
+    this.child = child;
+    this.history = history;
+  }
+
+  @Override
+  public String description() {
+    return this.child.description() + " ordered by historic kills";
+  }
+
+  @Override
+  public TestPrioritiser makeTestPrioritiser(final Properties props,
+      final CodeSource code, final CoverageDatabase coverage) {
+    final TestPrioritiser prioritiser = this.child.makeTestPrioritiser(props,
+        code, coverage);
+    if (this.history.isEmpty()) {
+      return prioritiser;
+    }
+    return new HistoricKillsTestPrioritiser(prioritiser, this.history);
+  }
+
+}
@@ -23,6 +23,7 @@ import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.TestInfo;
+import org.pitest.metrics.Metrics;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -36,11 +37,21 @@ public class MutationSource {
   private final TestPrioritiser      testPrioritiser;
   private final ClassByteArraySource source;
   private final MutationInterceptor interceptor;
+  private final Metrics              metrics;
 
   public MutationSource(final MutationConfig mutationConfig,
       final TestPrioritiser testPrioritiser,
       final ClassByteArraySource source,
       final MutationInterceptor interceptor) {
+    this(mutationConfig, testPrioritiser, source, interceptor, new Metrics());
+  }
+
+  public MutationSource(final MutationConfig mutationConfig,
+      final TestPrioritiser testPrioritiser,
+      final ClassByteArraySource source,
+      final MutationInterceptor interceptor,
+      final Metrics metrics) {
+    this.metrics = metrics;
     this.mutationConfig = mutationConfig;
     this.testPrioritiser = testPrioritiser;
     this.source = new CachingByteArraySource(source, 200);
@@ -51,8 +62,11 @@ public class MutationSource {
 
     final Mutater m = this.mutationConfig.createMutator(this.source);
 
+    final long start = System.nanoTime();
     final Collection<MutationDetails> availableMutations = m
         .findMutations(clazz);
+    this.metrics.recordSince("mutater.find_mutations_us", start);
+    countByMutator(availableMutations, "found");
     
     if (availableMutations.isEmpty()) {
       return availableMutations;
@@ -64,6 +78,7 @@ public class MutationSource {
       Collection<MutationDetails> updatedMutations = interceptor
           .intercept(availableMutations, m);
       interceptor.end();
+      countByMutator(updatedMutations, "retained");
 
       assignTestsToMutations(updatedMutations);
 
@@ -71,6 +86,15 @@ public class MutationSource {
     }
   }
   
+  private void countByMutator(final Collection<MutationDetails> mutations,
+      final String suffix) {
+    for (final MutationDetails each : mutations) {
+      final String mutator = each.getMutator();
+      this.metrics.increment("mutator."
+          + mutator.substring(mutator.lastIndexOf('.') + 1) + "." + suffix);
+    }
+  }
+
   private void assignTestsToMutations(
       final Collection<MutationDetails> availableMutations) {
     for (final MutationDetails mutation : availableMutations) {
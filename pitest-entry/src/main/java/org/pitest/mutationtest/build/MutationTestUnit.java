@@ -15,7 +15,10 @@
 package org.pitest.mutationtest.build;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
@@ -36,6 +39,9 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   private final Collection<ClassName>       testClasses;
 
+  // reduced when a minion runs out of memory part way through the unit
+  private int                               batchSize = Integer.MAX_VALUE;
+
   public MutationTestUnit(final Collection<MutationDetails> availableMutations,
       final Collection<ClassName> testClasses, final WorkerFactory workerFactor) {
     this.availableMutations = availableMutations;
@@ -73,8 +79,8 @@ public class MutationTestUnit implements MutationAnalysisUnit {
       final MutationStatusMap mutations) throws IOException,
       InterruptedException {
 
-    final Collection<MutationDetails> remainingMutations = mutations
-        .getUnrunMutations();
+    final Collection<MutationDetails> remainingMutations = limit(
+        mutations.getUnrunMutations(), this.batchSize);
     final MutationTestProcess worker = this.workerFactory.createWorker(
         remainingMutations, this.testClasses);
     worker.start();
@@ -85,7 +91,54 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     final ExitCode exitCode = waitForMinionToDie(worker);
     worker.results(mutations);
 
-    correctResultForProcessExitCode(mutations, exitCode);
+    if (exitCode == ExitCode.OUT_OF_MEMORY) {
+      correctResultForMemoryExhaustion(mutations, remainingMutations);
+    } else {
+      correctResultForProcessExitCode(mutations, exitCode);
+    }
+  }
+
+  private static Collection<MutationDetails> limit(
+      final Collection<MutationDetails> mutations, final int size) {
+    if (mutations.size() <= size) {
+      return mutations;
+    }
+    return new ArrayList<>(mutations).subList(0, size);
+  }
+
+  /**
+   * A minion that ran out of memory after analysing other mutants is more
+   * likely to have been exhausted by what those mutants left behind than by
+   * the mutant it was running, so the mutant is retried in a new minion given
+   * fewer mutants to analyse. Only a mutant that exhausts a fresh minion is
+   * reported as a memory error.
+   */
+  private void correctResultForMemoryExhaustion(
+      final MutationStatusMap mutations,
+      final Collection<MutationDetails> batch) {
+    final Collection<MutationDetails> unfinishedRuns = mutations
+        .getUnfinishedRuns();
+    final Set<MutationDetails> unrun = new HashSet<>(
+        mutations.getUnrunMutations());
+    int completed = 0;
+    for (final MutationDetails each : batch) {
+      if (!unrun.contains(each) && !unfinishedRuns.contains(each)) {
+        completed++;
+      }
+    }
+
+    if (completed == 0) {
+      LOG.warning("Minion exited abnormally due to "
+          + DetectionStatus.MEMORY_ERROR);
+      mutations.setStatusForMutations(unfinishedRuns,
+          DetectionStatus.MEMORY_ERROR);
+    } else {
+      this.batchSize = Math.max(1, completed / 2);
+      LOG.fine("Minion ran out of memory after " + completed
+          + " mutations. Retrying remainder in batches of " + this.batchSize);
+      mutations.setStatusForMutations(unfinishedRuns,
+          DetectionStatus.NOT_STARTED);
+    }
   }
 
   private static ExitCode waitForMinionToDie(final MutationTestProcess worker) {
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Removes tests that are unlikely to add anything to the tests already
+ * assigned to a mutant by another prioritiser.
+ *
+ * Tests are considered in the order given. A test is dropped if the blocks it
+ * executes within the mutated method are a subset of those executed by a test
+ * that has already been kept. Identical coverage does not guarantee identical
+ * behaviour, so mutants that lost tests are marked and may survive where the
+ * full set of tests would have killed them.
+ */
+public class RedundantTestReducer implements TestPrioritiser {
+
+  private final TestPrioritiser     child;
+  private final CoverageDatabase    coverage;
+
+  private Location                  lastMethod;
+  private Map<String, Set<Integer>> lastBlocks;
+
+  public RedundantTestReducer(final TestPrioritiser child,
+      final CoverageDatabase coverage) {
+    this.child = child;
+    this.coverage = coverage;
+  }
+
+  @Override
+  public List<TestInfo> assignTests(final MutationDetails mutation) {
+    final List<TestInfo> tests = this.child.assignTests(mutation);
+    if (tests.size() < 2) {
+      return tests;
+    }
+
+    final Map<String, Set<Integer>> blocks = blocksFor(mutation.getId()
+        .getLocation());
+    final List<TestInfo> kept = new ArrayList<>();
+    final List<Set<Integer>> keptBlocks = new ArrayList<>();
+    for (final TestInfo each : tests) {
+      final Set<Integer> covered = blocks.get(each.getName());
+      if ((covered == null) || !isSubsetOfAny(covered, keptBlocks)) {
+        kept.add(each);
+        keptBlocks.add(covered != null ? covered : Collections
+            .<Integer> emptySet());
+      }
+    }
+
+    if (kept.size() != tests.size()) {
+      mutation.markTestsReduced();
+    }
+    return kept;
+  }
+
+  private Map<String, Set<Integer>> blocksFor(final Location method) {
+    // mutants are assigned tests a class at a time, so consecutive mutants
+    // are usually in the same method
+    if (!method.equals(this.lastMethod)) {
+      this.lastBlocks = this.coverage.getBlocksCoveredByTests(method);
+      this.lastMethod = method;
+    }
+    return this.lastBlocks;
+  }
+
+  private static boolean isSubsetOfAny(final Set<Integer> blocks,
+      final List<Set<Integer>> candidates) {
+    for (final Set<Integer> each : candidates) {
+      if (each.containsAll(blocks)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.metrics.Metrics;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Records the time spent grouping mutations and the size of the resulting
+ * units.
+ */
+public class TimedMutationGrouper implements MutationGrouper {
+
+  private final MutationGrouper child;
+  private final Metrics         metrics;
+
+  public TimedMutationGrouper(MutationGrouper child, Metrics metrics) {
+    this.child = child;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public List<List<MutationDetails>> groupMutations(
+      Collection<ClassName> codeClasses, Collection<MutationDetails> mutations) {
+    final long start = System.nanoTime();
+    final List<List<MutationDetails>> groups = this.child.groupMutations(
+        codeClasses, mutations);
+    this.metrics.recordSince("grouper.group_us", start);
+    for (final List<MutationDetails> each : groups) {
+      this.metrics.record("grouper.unit_size", each.size());
+    }
+    return groups;
+  }
+
+}
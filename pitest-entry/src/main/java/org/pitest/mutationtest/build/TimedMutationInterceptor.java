@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.metrics.Metrics;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Records the time spent within an interceptor for each class, and the number
+ * of mutations it removed. Any shared class analysis is calculated lazily, so
+ * its cost is charged to the first interceptor that requires it.
+ */
+class TimedMutationInterceptor implements MutationInterceptor {
+
+  private final MutationInterceptor child;
+  private final Metrics metrics;
+  private final String name;
+
+  private long timeForClass;
+
+  TimedMutationInterceptor(MutationInterceptor child, Metrics metrics) {
+    this.child = child;
+    this.metrics = metrics;
+    this.name = nameOf(child);
+  }
+
+  @Override
+  public InterceptorType type() {
+    return this.child.type();
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    this.timeForClass = 0;
+    final long start = System.nanoTime();
+    this.child.begin(clazz);
+    record(start);
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    final long start = System.nanoTime();
+    try {
+      final Collection<MutationDetails> remaining = this.child.intercept(
+          mutations, m);
+      this.metrics.add("interceptor." + this.name + ".removed",
+          mutations.size() - remaining.size());
+      return remaining;
+    } finally {
+      record(start);
+    }
+  }
+
+  @Override
+  public void end() {
+    final long start = System.nanoTime();
+    this.child.end();
+    record(start);
+    this.metrics.record("interceptor." + this.name + "_us",
+        TimeUnit.NANOSECONDS.toMicros(this.timeForClass));
+  }
+
+  private void record(long start) {
+    this.timeForClass = this.timeForClass + (System.nanoTime() - start);
+  }
+
+  private static String nameOf(MutationInterceptor interceptor) {
+    final String simpleName = interceptor.getClass().getSimpleName();
+    if (simpleName.isEmpty()) {
+      return interceptor.getClass().getName();
+    }
+    return simpleName;
+  }
+
+}
@@ -8,6 +8,7 @@ import java.util.Collection;
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.SideEffect1;
 import org.pitest.functional.prelude.Prelude;
+import org.pitest.metrics.Metrics;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
@@ -26,11 +27,42 @@ public class WorkerFactory {
   private final TimeoutLengthStrategy timeoutStrategy;
   private final boolean               verbose;
   private final MutationConfig        config;
+  private final Metrics               metrics;
+  private final int                   maxKillingTests;
+  private final int                   heapRecyclePercent;
 
   public WorkerFactory(final File baseDir, final TestPluginArguments pitConfig,
       final MutationConfig mutationConfig,
       final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
       final String classPath) {
+    this(baseDir, pitConfig, mutationConfig, timeoutStrategy, verbose,
+        classPath, new Metrics());
+  }
+
+  public WorkerFactory(final File baseDir, final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
+      final String classPath, final Metrics metrics) {
+    this(baseDir, pitConfig, mutationConfig, timeoutStrategy, verbose,
+        classPath, metrics, 1);
+  }
+
+  public WorkerFactory(final File baseDir, final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
+      final String classPath, final Metrics metrics, final int maxKillingTests) {
+    this(baseDir, pitConfig, mutationConfig, timeoutStrategy, verbose,
+        classPath, metrics, maxKillingTests, 0);
+  }
+
+  public WorkerFactory(final File baseDir, final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
+      final String classPath, final Metrics metrics, final int maxKillingTests,
+      final int heapRecyclePercent) {
+    this.maxKillingTests = maxKillingTests;
+    this.heapRecyclePercent = heapRecyclePercent;
+    this.metrics = metrics;
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbose = verbose;
@@ -44,7 +76,8 @@ public class WorkerFactory {
       final Collection<ClassName> testClasses) {
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
         testClasses, this.config.getEngine(), this.timeoutStrategy,
-        Log.isVerbose(), this.pitConfig);
+        Log.isVerbose(), this.pitConfig, this.maxKillingTests,
+        this.heapRecyclePercent);
 
     final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
@@ -53,7 +86,8 @@ public class WorkerFactory {
 
     final SocketFinder sf = new SocketFinder();
     final MutationTestProcess worker = new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
+        sf.getNextAvailableServerSocket(), args, fileArgs, this.metrics);
+    this.metrics.increment("parent.minions_launched");
     return worker;
   }
 
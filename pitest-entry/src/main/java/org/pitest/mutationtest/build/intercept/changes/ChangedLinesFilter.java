@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build.intercept.changes;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Filters out mutants that are not on changed lines of code, or optionally
+ * that are not within a method containing a changed line.
+ *
+ * Changed lines are keyed by the path of their source file relative to its
+ * source root, e.g. com/example/Foo.java. Classes whose source file has no
+ * entry, such as new files that are not yet known to the scm and so are
+ * missing from its diff, and classes compiled without a source file attribute
+ * are left untouched.
+ */
+public class ChangedLinesFilter implements MutationInterceptor {
+
+  private final Map<String, ? extends Collection<Integer>> changedLines;
+  private final boolean                                    wholeMethods;
+
+  private Collection<Integer>                              lines;
+  private Set<Location>                                    changedMethods;
+
+  public ChangedLinesFilter(
+      final Map<String, ? extends Collection<Integer>> changedLines,
+      final boolean wholeMethods) {
+    this.changedLines = changedLines;
+    this.wholeMethods = wholeMethods;
+  }
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.FILTER;
+  }
+
+  @Override
+  public void begin(final ClassTree clazz) {
+    final String sourceFile = clazz.rawNode().sourceFile;
+    if (sourceFile == null) {
+      this.lines = null;
+      return;
+    }
+
+    final String name = clazz.name().asInternalName();
+    this.lines = this.changedLines.get(name.substring(0,
+        name.lastIndexOf('/') + 1) + sourceFile);
+    if (this.lines == null) {
+      return;
+    }
+
+    this.changedMethods = new HashSet<>();
+    if (this.wholeMethods && !this.lines.isEmpty()) {
+      for (final MethodTree each : clazz.methods()) {
+        if (containsChangedLine(each)) {
+          this.changedMethods.add(each.asLocation());
+        }
+      }
+    }
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      final Collection<MutationDetails> mutations, final Mutater m) {
+    if (this.lines == null) {
+      return mutations;
+    }
+    return FCollection.filter(mutations, isChanged());
+  }
+
+  @Override
+  public void end() {
+    this.lines = null;
+    this.changedMethods = null;
+  }
+
+  private F<MutationDetails, Boolean> isChanged() {
+    return new F<MutationDetails, Boolean>() {
+      @Override
+      public Boolean apply(final MutationDetails a) {
+        return ChangedLinesFilter.this.lines.contains(a.getLineNumber())
+            || ChangedLinesFilter.this.changedMethods.contains(a.getId()
+                .getLocation());
+      }
+    };
+  }
+
+  private boolean containsChangedLine(final MethodTree method) {
+    for (int i = 0; i != method.instructions().size(); i++) {
+      if (this.lines.contains(method.lineNumberFor(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
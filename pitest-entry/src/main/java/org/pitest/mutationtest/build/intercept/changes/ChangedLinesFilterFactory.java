@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build.intercept.changes;
+
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+
+public class ChangedLinesFilterFactory implements MutationInterceptorFactory {
+
+  private final FeatureParameter granularity = FeatureParameter
+      .named("granularity")
+      .withDescription(
+          "line to mutate only changed lines, method (the default) to mutate all of any method containing a change");
+
+  @Override
+  public String description() {
+    return "Changed lines filter";
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("FCHANGED")
+        .withOnByDefault(false)
+        .withDescription("Filters mutations in code that has not been changed")
+        .withParameter(this.granularity);
+  }
+
+  @Override
+  public MutationInterceptor createInterceptor(final InterceptorParameters params) {
+    final Option<String> value = params.getString(this.granularity);
+    final boolean wholeMethods = value.hasNone()
+        || value.value().equalsIgnoreCase("method");
+    if (!wholeMethods && !value.value().equalsIgnoreCase("line")) {
+      throw new IllegalArgumentException(
+          "Changed lines filter granularity must be line or method, not "
+              + value.value());
+    }
+    return new ChangedLinesFilter(params.data().getChangedLines(), wholeMethods);
+  }
+
+}
@@ -14,7 +14,6 @@ import org.objectweb.asm.tree.FrameNode;
 import org.objectweb.asm.tree.LineNumberNode;
 import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.bytecode.analysis.InstructionMatchers;
-import org.pitest.bytecode.analysis.MethodMatchers;
 import org.pitest.bytecode.analysis.MethodTree;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
@@ -80,8 +79,7 @@ public class EqualsPerformanceShortcutFilter implements MutationInterceptor {
       FunctionalList<MutationDetails> inEquals, Mutater m) {
     Location equalsMethod = inEquals.get(0).getId().getLocation();
     
-    Option<MethodTree> maybeEquals = currentClass.methods()
-        .findFirst(MethodMatchers.forLocation(equalsMethod));
+    Option<MethodTree> maybeEquals = currentClass.method(equalsMethod);
     
     return inEquals.filter(Prelude.not(isShortcutEquals(maybeEquals.value(), m)));
   }
@@ -100,8 +98,7 @@ public class EqualsPerformanceShortcutFilter implements MutationInterceptor {
       return false;
     }
     
-    ClassTree mutant = ClassTree.fromBytes(m.getMutation(a.getId()).getBytes());
-    MethodTree mutantEquals = mutant.methods().findFirst(MethodMatchers.forLocation(tree.asLocation())).value();
+    MethodTree mutantEquals = tree.mutate(m, a.getId());
     
     return ALWAYS_FALSE.matches(mutantEquals.instructions());
   }
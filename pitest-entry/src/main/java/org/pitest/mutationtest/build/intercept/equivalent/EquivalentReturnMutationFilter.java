@@ -11,7 +11,6 @@ import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.LdcInsnNode;
 import org.objectweb.asm.tree.MethodInsnNode;
 import org.pitest.bytecode.analysis.ClassTree;
-import org.pitest.bytecode.analysis.MethodMatchers;
 import org.pitest.bytecode.analysis.MethodTree;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
@@ -102,7 +101,7 @@ class HardCodedTrueEquivalentFilter implements MutationInterceptor {
           return false;
         }
         int instruction = a.getInstructionIndex();
-        MethodTree method = currentClass.methods().findFirst(MethodMatchers.forLocation(a.getId().getLocation())).value();
+        MethodTree method = currentClass.method(a.getId().getLocation()).value();
         return primitiveTrue(instruction, method) || boxedTrue(instruction, method);
       }
 
@@ -174,7 +173,7 @@ class PrimitiveEquivalentFilter implements MutationInterceptor {
           return false;
         }
         int intructionBeforeReturn = a.getInstructionIndex() - 1;
-        MethodTree method = currentClass.methods().findFirst(MethodMatchers.forLocation(a.getId().getLocation())).value();
+        MethodTree method = currentClass.method(a.getId().getLocation()).value();
         return ZERO_CONSTANTS.contains(method.instructions().get(intructionBeforeReturn).getOpcode());
       }
 
@@ -229,7 +228,7 @@ class EmptyReturnsFilter implements MutationInterceptor {
           return false;
         }
 
-        MethodTree method = currentClass.methods().findFirst(MethodMatchers.forLocation(a.getId().getLocation())).value();
+        MethodTree method = currentClass.method(a.getId().getLocation()).value();
         int mutatedInstruction = a.getInstructionIndex();
         return returnsZeroValue(method, mutatedInstruction)
             || returnsEmptyString(method, mutatedInstruction) 
@@ -316,7 +315,7 @@ class NullReturnsFilter implements MutationInterceptor {
           return false;
         }
 
-        MethodTree method = currentClass.methods().findFirst(MethodMatchers.forLocation(a.getId().getLocation())).value();
+        MethodTree method = currentClass.method(a.getId().getLocation()).value();
         int mutatedInstruction = a.getInstructionIndex();
         return returnsNull(method, mutatedInstruction);
       }
@@ -25,7 +25,6 @@ import org.objectweb.asm.tree.FrameNode;
 import org.objectweb.asm.tree.LabelNode;
 import org.objectweb.asm.tree.LineNumberNode;
 import org.pitest.bytecode.analysis.ClassTree;
-import org.pitest.bytecode.analysis.MethodMatchers;
 import org.pitest.bytecode.analysis.MethodTree;
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.F;
@@ -197,7 +196,7 @@ public class ForEachLoopFilter implements MutationInterceptor {
       @Override
       public Boolean apply(MutationDetails a) {
         int instruction = a.getInstructionIndex();
-        MethodTree method = currentClass.methods().findFirst(MethodMatchers.forLocation(a.getId().getLocation())).value();
+        MethodTree method = currentClass.method(a.getId().getLocation()).value();
         AbstractInsnNode mutatedInstruction = method.instructions().get(instruction);
 
         Context<AbstractInsnNode> context = Context.start(method.instructions(), DEBUG);
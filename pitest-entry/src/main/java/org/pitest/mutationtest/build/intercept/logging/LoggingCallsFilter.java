@@ -4,9 +4,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
-import org.objectweb.asm.Label;
-import org.objectweb.asm.MethodVisitor;
-import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
 import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.bytecode.analysis.MethodTree;
 import org.pitest.functional.F;
@@ -40,7 +39,26 @@ public class LoggingCallsFilter implements MutationInterceptor {
   }
 
   private void findLoggingLines(MethodTree each, Set<Integer> lines) {
-    each.rawNode().accept(new LoggingLineScanner(lines, loggingClasses));
+    for (int i = 0; i != each.instructions().size(); i++) {
+      AbstractInsnNode insn = each.instructions().get(i);
+      if (insn instanceof MethodInsnNode
+          && isLoggingClass(((MethodInsnNode) insn).owner)) {
+        lines.add(each.lineNumberFor(i));
+      }
+    }
+  }
+
+  private boolean isLoggingClass(final String owner) {
+    return FCollection.contains(this.loggingClasses, matches(owner));
+  }
+
+  private static F<String, Boolean> matches(final String owner) {
+    return new F<String, Boolean>() {
+      @Override
+      public Boolean apply(final String a) {
+        return owner.startsWith(a);
+      }
+    };
   }
 
   @Override
@@ -74,39 +92,3 @@ public class LoggingCallsFilter implements MutationInterceptor {
   }
 
 }
-
-class LoggingLineScanner extends MethodVisitor {
-
-  private final Set<Integer> lines;
-  private final Set<String>   loggingClasses;
-  private int                 currentLineNumber;
-
-  LoggingLineScanner(final Set<Integer> lines, final Set<String> loggingClasses) {
-    super(Opcodes.ASM6);
-    this.lines = lines;
-    this.loggingClasses = loggingClasses;
-  }
-
-  @Override
-  public void visitMethodInsn(final int opcode, final String owner,
-      final String name, final String desc, boolean itf) {
-    if (FCollection.contains(this.loggingClasses, matches(owner))) {
-      lines.add(currentLineNumber);
-    }
-  }
-  
-  private static F<String, Boolean> matches(final String owner) {
-    return new F<String, Boolean>() {
-      @Override
-      public Boolean apply(final String a) {
-        return owner.startsWith(a);
-      }
-    };
-  }
-
-  @Override
-  public void visitLineNumber(final int line, final Label start) {
-    this.currentLineNumber = line;
-  }
-
-}
@@ -24,7 +24,6 @@ import org.objectweb.asm.tree.LabelNode;
 import org.objectweb.asm.tree.LineNumberNode;
 import org.objectweb.asm.tree.MethodInsnNode;
 import org.pitest.bytecode.analysis.ClassTree;
-import org.pitest.bytecode.analysis.MethodMatchers;
 import org.pitest.bytecode.analysis.MethodTree;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
@@ -156,7 +155,7 @@ public class AvoidForLoopCounterFilter implements MutationInterceptor {
       @Override
       public Boolean apply(MutationDetails a) {
         int instruction = a.getInstructionIndex();
-        MethodTree method = currentClass.methods().findFirst(MethodMatchers.forLocation(a.getId().getLocation())).value();
+        MethodTree method = currentClass.method(a.getId().getLocation()).value();
         AbstractInsnNode mutatedInstruction = method.instructions().get(instruction);
 
         Context<AbstractInsnNode> context = Context.start(method.instructions(), DEBUG);
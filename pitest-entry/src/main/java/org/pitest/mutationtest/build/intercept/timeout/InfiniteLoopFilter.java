@@ -1,7 +1,6 @@
 package org.pitest.mutationtest.build.intercept.timeout;
 
 import static org.pitest.bytecode.analysis.InstructionMatchers.isA;
-import static org.pitest.bytecode.analysis.MethodMatchers.forLocation;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -17,7 +16,6 @@ import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.bytecode.analysis.MethodTree;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
-import org.pitest.functional.Option;
 import org.pitest.mutationtest.build.InterceptorType;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.engine.Location;
@@ -61,7 +59,7 @@ public abstract class InfiniteLoopFilter implements MutationInterceptor {
   private Collection<MutationDetails> findTimeoutMutants(Location location,
       Collection<MutationDetails> mutations, Mutater m) {
     
-    MethodTree method = currentClass.methods().findFirst(forLocation(location)).value();
+    MethodTree method = currentClass.method(location).value();
     
     //  give up if our matcher thinks loop is already infinite 
     if (infiniteLoopMatcher().matches(method.instructions())) {
@@ -72,7 +70,7 @@ public abstract class InfiniteLoopFilter implements MutationInterceptor {
     for ( MutationDetails each : mutations ) {
       // avoid cost of static analysis by first checking mutant is on
       // on instruction that could affect looping
-      if (couldCauseInfiniteLoop(method, each) && isInfiniteLoop(each,m) ) {
+      if (couldCauseInfiniteLoop(method, each) && isInfiniteLoop(method, each, m) ) {
         timeouts.add(each);
       }
     }
@@ -80,10 +78,9 @@ public abstract class InfiniteLoopFilter implements MutationInterceptor {
     
   }
 
-  private boolean isInfiniteLoop(MutationDetails each, Mutater m) {
-    ClassTree mutantClass = ClassTree.fromBytes(m.getMutation(each.getId()).getBytes());
-    Option<MethodTree> mutantMethod = mutantClass.methods().findFirst(forLocation(each.getId().getLocation()));
-    return infiniteLoopMatcher().matches(mutantMethod.value().instructions());
+  private boolean isInfiniteLoop(MethodTree method, MutationDetails each, Mutater m) {
+    MethodTree mutantMethod = method.mutate(m, each.getId());
+    return infiniteLoopMatcher().matches(mutantMethod.instructions());
   }
   
   private F<MutationDetails, Location> mutationToLocation() {
@@ -164,6 +164,22 @@ public enum ConfigOption {
    */
   HISTORY_OUTPUT_LOCATION("historyOutputLocation"),
 
+  /**
+   * Location of index of parsed class information, reused between runs
+   */
+  CLASS_INFO_INDEX_LOCATION("classInfoIndexLocation"),
+
+  /**
+   * Do/don't keep the generated agent jar between runs
+   */
+  CACHE_AGENT_JAR("cacheAgentJar", true),
+
+  /**
+   * Directory in which to keep the agent jar, .pitest/agents under the user's
+   * home if not set
+   */
+  AGENT_CACHE_DIRECTORY("agentCacheDirectory"),
+
   /**
    * Mutation score below which to throw an error
    */
@@ -174,6 +190,28 @@ public enum ConfigOption {
    */
   MAX_SURVIVING("maxSurviving", -1),
 
+  /**
+   * Number of killing tests to find and record for each mutant
+   */
+  MAX_KILLING_TESTS("maxKillingTests", 1),
+
+  /**
+   * Percentage of the tenured heap in use at which a minion stops and leaves
+   * its remaining mutations to a new minion. Zero disables.
+   */
+  MINION_HEAP_RECYCLE_PERCENT("minionHeapRecyclePercent", 80),
+
+  /**
+   * Skip tests whose coverage of a mutated method is a subset of another
+   * test's
+   */
+  REDUCE_REDUNDANT_TESTS("reduceRedundantTests", false),
+
+  /**
+   * Do/don't run tests that killed a mutant in the previous run first
+   */
+  ORDER_TESTS_BY_HISTORY("orderTestsByHistory", true),
+
   /**
    * Line coverage score below which to throw an error
    */
@@ -189,6 +227,16 @@ public enum ConfigOption {
    */
   EXPORT_LINE_COVERAGE("exportLineCoverage", false),
 
+  /**
+   * Dump per test line coverage to disk in a compact binary format
+   */
+  EXPORT_BINARY_LINE_COVERAGE("exportBinaryLineCoverage", false),
+
+  /**
+   * Write counters and histograms gathered during the run to disk
+   */
+  EXPORT_METRICS("exportMetrics", false),
+
   /**
    * Include launch classpath in analysis
    */
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.config;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.DirectoryClassPathRoot;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.ListenerArguments;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationResultListenerFactory;
+
+/**
+ * Writes a report for each of several modules analysed together, in addition
+ * to the report for all of them. Each module is identified by the directory
+ * its classes were compiled to, and receives the results for the classes in
+ * that directory.
+ */
+public class ModuleReportListenerFactory implements
+    MutationResultListenerFactory {
+
+  private final MutationResultListenerFactory child;
+  private final Map<String, File>             codePathToReportDir;
+  private final ReportDirCreationStrategy     dirCreationStrategy;
+
+  public ModuleReportListenerFactory(final MutationResultListenerFactory child,
+      final Map<String, File> codePathToReportDir,
+      final ReportDirCreationStrategy dirCreationStrategy) {
+    this.child = child;
+    this.codePathToReportDir = codePathToReportDir;
+    this.dirCreationStrategy = dirCreationStrategy;
+  }
+
+  @Override
+  public MutationResultListener getListener(final Properties props,
+      final ListenerArguments args) {
+    final Map<ClassName, MutationResultListener> classToModule = new HashMap<>();
+    final List<MutationResultListener> listeners = new ArrayList<>();
+    listeners.add(this.child.getListener(props, args));
+
+    for (final Entry<String, File> each : this.codePathToReportDir.entrySet()) {
+      final File classes = new File(each.getKey());
+      if (!classes.isDirectory()) {
+        continue;
+      }
+      final MutationResultListener module = this.child.getListener(props,
+          new ListenerArguments(new DirectoryResultOutputStrategy(each
+              .getValue().getAbsolutePath(), this.dirCreationStrategy), args
+              .getCoverage(), args.getLocator(), args.getEngine(), args
+              .getStartTime()));
+      listeners.add(module);
+      for (final String clazz : new DirectoryClassPathRoot(classes)
+          .classNames()) {
+        classToModule.put(ClassName.fromString(clazz), module);
+      }
+    }
+
+    return new RoutingListener(listeners, classToModule);
+  }
+
+  @Override
+  public String name() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String description() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Passes every result to the first listener, and results for classes of a
+   * module to the listener for that module.
+   */
+  private static class RoutingListener extends CompoundTestListener {
+
+    private final MutationResultListener                 all;
+    private final Map<ClassName, MutationResultListener> classToModule;
+
+    RoutingListener(final List<MutationResultListener> listeners,
+        final Map<ClassName, MutationResultListener> classToModule) {
+      super(listeners);
+      this.all = listeners.get(0);
+      this.classToModule = classToModule;
+    }
+
+    @Override
+    public void handleMutationResult(final ClassMutationResults results) {
+      this.all.handleMutationResult(results);
+      final MutationResultListener module = this.classToModule.get(results
+          .getMutatedClass());
+      if (module != null) {
+        module.handleMutationResult(results);
+      }
+    }
+
+  }
+
+}
@@ -28,6 +28,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.pitest.classpath.ClassFilter;
@@ -82,9 +83,16 @@ public class ReportOptions {
   private Collection<String>             codePaths;
 
   private String                         reportDir;
+  private Map<String, File>              moduleReportDirs               = Collections
+      .emptyMap();
+  private Map<String, ? extends Collection<Integer>> changedLines       = Collections
+      .emptyMap();
 
   private File                           historyInputLocation;
   private File                           historyOutputLocation;
+  private File                           classInfoIndexLocation;
+  private boolean                        cacheAgentJar                  = true;
+  private File                           agentCacheDirectory;
 
   private Collection<File>               sourceDirs;
   private Collection<String>             classPathElements;
@@ -115,6 +123,8 @@ public class ReportOptions {
   private boolean                        shouldCreateTimestampedReports = true;
   private boolean                        detectInlinedCode              = false;
   private boolean                        exportLineCoverage             = false;
+  private boolean                        exportBinaryLineCoverage       = false;
+  private boolean                        exportMetrics                  = false;
   private int                            mutationThreshold;
   private int                            coverageThreshold;
 
@@ -127,6 +137,11 @@ public class ReportOptions {
   private Properties                     properties;
 
   private int maxSurvivors;
+
+  private int                            maxKillingTests                = 1;
+  private int                            minionHeapRecyclePercent       = 80;
+  private boolean                        reduceRedundantTests           = false;
+  private boolean                        orderTestsByHistory            = true;
   
   private Collection<String>             excludedRunners                = new ArrayList<>();
   private Collection<String>             includedTestMethods            = new ArrayList<>();
@@ -144,6 +159,32 @@ public class ReportOptions {
     return this.reportDir;
   }
 
+  /**
+   * @return directories in which to write a separate report for each module,
+   *         keyed by the code path holding the classes of the module
+   */
+  public Map<String, File> getModuleReportDirs() {
+    return this.moduleReportDirs;
+  }
+
+  public void setModuleReportDirs(final Map<String, File> moduleReportDirs) {
+    this.moduleReportDirs = moduleReportDirs;
+  }
+
+  /**
+   * @return changed line numbers, keyed by the path of each changed source
+   *         file relative to its source root. Used when the FCHANGED feature
+   *         is enabled.
+   */
+  public Map<String, ? extends Collection<Integer>> getChangedLines() {
+    return this.changedLines;
+  }
+
+  public void setChangedLines(
+      final Map<String, ? extends Collection<Integer>> changedLines) {
+    this.changedLines = changedLines;
+  }
+
   /**
    * @param reportDir
    *          the reportDir to set
@@ -428,6 +469,10 @@ public class ReportOptions {
     this.mutationUnitSize = size;
   }
 
+  public ReportDirCreationStrategy getReportDirCreationStrategy() {
+    return pickDirectoryStrategy();
+  }
+
   public ResultOutputStrategy getReportDirectoryStrategy() {
     return new DirectoryResultOutputStrategy(getReportDir(),
         pickDirectoryStrategy());
@@ -499,6 +544,30 @@ public class ReportOptions {
     return this.historyOutputLocation;
   }
 
+  public void setClassInfoIndexLocation(final File classInfoIndexLocation) {
+    this.classInfoIndexLocation = classInfoIndexLocation;
+  }
+
+  public File getClassInfoIndexLocation() {
+    return this.classInfoIndexLocation;
+  }
+
+  public void setCacheAgentJar(final boolean cacheAgentJar) {
+    this.cacheAgentJar = cacheAgentJar;
+  }
+
+  public boolean shouldCacheAgentJar() {
+    return this.cacheAgentJar;
+  }
+
+  public void setAgentCacheDirectory(final File agentCacheDirectory) {
+    this.agentCacheDirectory = agentCacheDirectory;
+  }
+
+  public File getAgentCacheDirectory() {
+    return this.agentCacheDirectory;
+  }
+
   public void setExportLineCoverage(final boolean value) {
     this.exportLineCoverage = value;
   }
@@ -507,6 +576,22 @@ public class ReportOptions {
     return this.exportLineCoverage;
   }
 
+  public void setExportBinaryLineCoverage(final boolean value) {
+    this.exportBinaryLineCoverage = value;
+  }
+
+  public boolean shouldExportBinaryLineCoverage() {
+    return this.exportBinaryLineCoverage;
+  }
+
+  public void setExportMetrics(final boolean value) {
+    this.exportMetrics = value;
+  }
+
+  public boolean shouldExportMetrics() {
+    return this.exportMetrics;
+  }
+
   public int getMutationThreshold() {
     return this.mutationThreshold;
   }
@@ -563,6 +648,47 @@ public class ReportOptions {
     this.maxSurvivors = maxSurvivors;
   }
   
+  public int getMaxKillingTests() {
+    return this.maxKillingTests;
+  }
+
+  public void setMaxKillingTests(final int maxKillingTests) {
+    this.maxKillingTests = maxKillingTests;
+  }
+
+  /**
+   * @return percentage of the tenured heap in use at which a minion should
+   *         hand its remaining mutations to a new minion, or 0 to only restart
+   *         minions when they run out of memory
+   */
+  public int getMinionHeapRecyclePercent() {
+    return this.minionHeapRecyclePercent;
+  }
+
+  public void setMinionHeapRecyclePercent(final int minionHeapRecyclePercent) {
+    this.minionHeapRecyclePercent = minionHeapRecyclePercent;
+  }
+
+  /**
+   * @return true if tests whose coverage of a mutated method is a subset of
+   *         another assigned test's should not be run against the mutant
+   */
+  public boolean shouldReduceRedundantTests() {
+    return this.reduceRedundantTests;
+  }
+
+  public void setReduceRedundantTests(final boolean reduceRedundantTests) {
+    this.reduceRedundantTests = reduceRedundantTests;
+  }
+
+  public boolean shouldOrderTestsByHistory() {
+    return this.orderTestsByHistory;
+  }
+
+  public void setOrderTestsByHistory(final boolean orderTestsByHistory) {
+    this.orderTestsByHistory = orderTestsByHistory;
+  }
+
   public Collection<String> getExcludedRunners() {
     return excludedRunners;
   }
@@ -601,8 +727,13 @@ public class ReportOptions {
         + ", excludedMethods=" + excludedMethods + ", excludedClasses="
         + excludedClasses + ", excludedTestClasses=" + excludedTestClasses
         + ", codePaths=" + codePaths + ", reportDir=" + reportDir
+        + ", moduleReportDirs=" + moduleReportDirs
+        + ", changedLines=" + changedLines
         + ", historyInputLocation=" + historyInputLocation
-        + ", historyOutputLocation=" + historyOutputLocation + ", sourceDirs="
+        + ", historyOutputLocation=" + historyOutputLocation
+        + ", classInfoIndexLocation=" + classInfoIndexLocation
+        + ", cacheAgentJar=" + cacheAgentJar + ", agentCacheDirectory="
+        + agentCacheDirectory + ", sourceDirs="
         + sourceDirs + ", classPathElements=" + classPathElements
         + ", mutators=" + mutators + ", features=" + features
         + ", dependencyAnalysisMaxDistance=" + dependencyAnalysisMaxDistance
@@ -615,11 +746,17 @@ public class ReportOptions {
         + groupConfig + ", mutationUnitSize=" + mutationUnitSize
         + ", shouldCreateTimestampedReports=" + shouldCreateTimestampedReports
         + ", detectInlinedCode=" + detectInlinedCode + ", exportLineCoverage="
-        + exportLineCoverage + ", mutationThreshold=" + mutationThreshold
+        + exportLineCoverage + ", exportBinaryLineCoverage="
+        + exportBinaryLineCoverage + ", exportMetrics=" + exportMetrics
+        + ", mutationThreshold=" + mutationThreshold
         + ", coverageThreshold=" + coverageThreshold + ", mutationEngine="
         + mutationEngine + ", javaExecutable=" + javaExecutable
         + ", includeLaunchClasspath=" + includeLaunchClasspath + ", properties="
-        + properties + ", maxSurvivors=" + maxSurvivors + ", excludedRunners="
+        + properties + ", maxSurvivors=" + maxSurvivors
+        + ", maxKillingTests=" + maxKillingTests
+        + ", minionHeapRecyclePercent=" + minionHeapRecyclePercent
+        + ", reduceRedundantTests=" + reduceRedundantTests
+        + ", orderTestsByHistory=" + orderTestsByHistory + ", excludedRunners="
         + excludedRunners + ", testPlugin=" + testPlugin + ", includedTestMethods="
         + includedTestMethods + "]";
   }
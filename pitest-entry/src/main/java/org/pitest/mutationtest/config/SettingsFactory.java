@@ -9,6 +9,8 @@ import java.util.List;
 
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.execute.CoverageOptions;
+import org.pitest.coverage.export.BinaryCoverageExporter;
+import org.pitest.coverage.export.CompoundCoverageExporter;
 import org.pitest.coverage.export.DefaultCoverageExporter;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.F;
@@ -32,6 +34,7 @@ import org.pitest.plugin.ProvidesFeature;
 import org.pitest.process.DefaultJavaExecutableLocator;
 import org.pitest.process.JavaExecutableLocator;
 import org.pitest.process.KnownLocationJavaExecutableLocator;
+import org.pitest.util.BinaryResultOutputStrategy;
 import org.pitest.util.Glob;
 import org.pitest.util.PitError;
 import org.pitest.util.ResultOutputStrategy;
@@ -53,11 +56,25 @@ public class SettingsFactory {
   }
 
   public CoverageExporter createCoverageExporter() {
-    if (this.options.shouldExportLineCoverage()) {
-      return new DefaultCoverageExporter(getOutputStrategy());
-    } else {
+    if (!this.options.shouldExportLineCoverage()
+        && !this.options.shouldExportBinaryLineCoverage()) {
       return new NullCoverageExporter();
     }
+    final ResultOutputStrategy output = getOutputStrategy();
+    final List<CoverageExporter> exporters = new ArrayList<>();
+    if (this.options.shouldExportLineCoverage()) {
+      exporters.add(new DefaultCoverageExporter(output));
+    }
+    if (this.options.shouldExportBinaryLineCoverage()) {
+      if (!(output instanceof BinaryResultOutputStrategy)) {
+        throw new PitError(
+            "Binary line coverage cannot be written by the output strategy "
+                + output.getClass().getName());
+      }
+      exporters.add(new BinaryCoverageExporter(
+          (BinaryResultOutputStrategy) output));
+    }
+    return new CompoundCoverageExporter(exporters);
   }
 
   public MutationEngineFactory createEngine() {
@@ -71,7 +88,14 @@ public class SettingsFactory {
   }
 
   public MutationResultListenerFactory createListener() {
-    return new CompoundListenerFactory(findListeners());
+    final MutationResultListenerFactory all = new CompoundListenerFactory(
+        findListeners());
+    if (this.options.getModuleReportDirs().isEmpty()) {
+      return all;
+    }
+    return new ModuleReportListenerFactory(all,
+        this.options.getModuleReportDirs(),
+        this.options.getReportDirCreationStrategy());
   }
 
   public JavaExecutableLocator getJavaExecutable() {
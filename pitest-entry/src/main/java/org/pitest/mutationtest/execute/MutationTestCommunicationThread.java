@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.logging.Logger;
 
 import org.pitest.functional.SideEffect1;
+import org.pitest.metrics.Metrics;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -50,9 +51,12 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   private static class Receive implements ReceiveStrategy {
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+    private final Metrics                                         metrics;
 
-    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+        final Metrics metrics) {
       this.idMap = idMap;
+      this.metrics = metrics;
     }
 
     @Override
@@ -64,6 +68,9 @@ public class MutationTestCommunicationThread extends CommunicationThread {
       case Id.REPORT:
         handleReport(is);
         break;
+      case Id.METRICS:
+        this.metrics.merge(is.read(Metrics.class));
+        break;
       }
     }
 
@@ -88,7 +95,18 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   public MutationTestCommunicationThread(final ServerSocket socket,
       final MinionArguments arguments,
       final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
-    super(socket, new SendData(arguments), new Receive(idMap));
+    this(socket, arguments, idMap, new Metrics());
+  }
+
+  /**
+   * @param metrics registry into which metrics reported by the minion are
+   *          merged
+   */
+  public MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final Metrics metrics) {
+    super(socket, new SendData(arguments), new Receive(idMap, metrics));
     this.idMap = idMap;
   }
 
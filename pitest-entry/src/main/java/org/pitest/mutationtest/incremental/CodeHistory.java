@@ -1,10 +1,11 @@
 package org.pitest.mutationtest.incremental;
 
-import java.math.BigInteger;
+import java.util.Collection;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public interface CodeHistory {
@@ -13,6 +14,15 @@ public interface CodeHistory {
 
   boolean hasClassChanged(ClassName className);
 
-  boolean hasCoverageChanged(ClassName className, BigInteger currentCoverage);
+  /**
+   * Returns false only if neither the method at the location, the methods of
+   * its class it calls, the declaration of its class nor its super or outer
+   * class have changed. Other methods of the class may have changed.
+   */
+  boolean hasMethodChanged(Location location);
+
+  boolean hasCoverageChanged(ClassName className, long currentCoverage);
+
+  Collection<ClassName> getPreviousTestDependencies(String testName);
 
 }
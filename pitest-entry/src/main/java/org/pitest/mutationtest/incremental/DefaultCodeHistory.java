@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.incremental;
 
-import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 
 import org.pitest.classinfo.ClassInfo;
@@ -11,6 +12,7 @@ import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class DefaultCodeHistory implements CodeHistory {
@@ -18,19 +20,61 @@ public class DefaultCodeHistory implements CodeHistory {
   private final ClassInfoSource                                 code;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults;
   private final Map<ClassName, ClassHistory>                    previousClassPath;
+  private final Map<String, Collection<ClassName>>              previousTestDependencies;
+  private final Option<MethodHashes>                            methodHashes;
 
+  /**
+   * Creates a history that cannot compare individual methods, so every method
+   * of a changed class is treated as changed.
+   */
   public DefaultCodeHistory(final CodeSource code,
       final HistoryStore historyStore) {
+    this(code, historyStore, Option.<MethodHashes> none());
+  }
+
+  /**
+   * @param methodHashes hashes of the methods of the current code. Should be
+   *          the instance the history store records hashes with, so that
+   *          classes are hashed once.
+   */
+  public DefaultCodeHistory(final CodeSource code,
+      final HistoryStore historyStore, final Option<MethodHashes> methodHashes) {
     this(code, historyStore.getHistoricResults(), historyStore
-        .getHistoricClassPath());
+        .getHistoricClassPath(), historyStore.getHistoricTestDependencies(),
+        methodHashes);
   }
 
+  /**
+   * Creates a history that cannot compare individual methods, so every method
+   * of a changed class is treated as changed.
+   */
   public DefaultCodeHistory(final ClassInfoSource code,
       final Map<MutationIdentifier, MutationStatusTestPair> previousResults,
       final Map<ClassName, ClassHistory> previousClassPath) {
+    this(code, previousResults, previousClassPath,
+        Collections.<String, Collection<ClassName>> emptyMap(),
+        Option.<MethodHashes> none());
+  }
+
+  public DefaultCodeHistory(final ClassInfoSource code,
+      final Map<MutationIdentifier, MutationStatusTestPair> previousResults,
+      final Map<ClassName, ClassHistory> previousClassPath,
+      final Map<String, Collection<ClassName>> previousTestDependencies,
+      final MethodHashes methodHashes) {
+    this(code, previousResults, previousClassPath, previousTestDependencies,
+        Option.some(methodHashes));
+  }
+
+  private DefaultCodeHistory(final ClassInfoSource code,
+      final Map<MutationIdentifier, MutationStatusTestPair> previousResults,
+      final Map<ClassName, ClassHistory> previousClassPath,
+      final Map<String, Collection<ClassName>> previousTestDependencies,
+      final Option<MethodHashes> methodHashes) {
     this.code = code;
     this.previousResults = previousResults;
     this.previousClassPath = previousClassPath;
+    this.previousTestDependencies = previousTestDependencies;
+    this.methodHashes = methodHashes;
   }
 
   @Override
@@ -47,15 +91,65 @@ public class DefaultCodeHistory implements CodeHistory {
     }
 
     final Option<ClassInfo> current = this.code.fetchClass(className);
+    if (current.hasNone()) {
+      return true;
+    }
     return !current.value().getHierarchicalId().equals(historic.getId());
 
   }
 
+  @Override
+  public boolean hasMethodChanged(final Location location) {
+    final ClassName className = location.getClassName();
+    final ClassHistory historic = this.previousClassPath.get(className);
+    final Option<ClassInfo> current = this.code.fetchClass(className);
+    if ((historic == null) || current.hasNone() || this.methodHashes.hasNone()
+        || hasHierarchyChanged(current.value())) {
+      return true;
+    }
+
+    final Map<String, String> currentHashes = this.methodHashes.value()
+        .hashesFor(className);
+    return hasHashChanged(historic, currentHashes, MethodHashes.CLASS_KEY)
+        || hasHashChanged(historic, currentHashes, MethodHashes.keyFor(
+            location.getMethodName().name(), location.getMethodDesc()));
+  }
+
+  private boolean hasHierarchyChanged(final ClassInfo clazz) {
+    return hasRecordedClassChanged(clazz.getSuperClass())
+        || hasRecordedClassChanged(clazz.getOuterClass());
+  }
+
+  private boolean hasRecordedClassChanged(final Option<ClassInfo> clazz) {
+    // classes outside the analysed code are not recorded and assumed not to
+    // change between runs
+    return clazz.hasSome()
+        && this.previousClassPath.containsKey(clazz.value().getName())
+        && hasClassChanged(clazz.value().getName());
+  }
+
+  private static boolean hasHashChanged(final ClassHistory historic,
+      final Map<String, String> current, final String key) {
+    final String hash = current.get(key);
+    return (hash == null) || !hash.equals(historic.getMethodHashes().get(key));
+  }
+
   @Override
   public boolean hasCoverageChanged(final ClassName className,
-      final BigInteger currentCoverage) {
+      final long currentCoverage) {
     return !this.previousClassPath.get(className).getCoverageId()
-        .equals(currentCoverage.toString(16));
+        .equals(Long.toHexString(currentCoverage));
+  }
+
+  @Override
+  public Collection<ClassName> getPreviousTestDependencies(
+      final String testName) {
+    final Collection<ClassName> classes = this.previousTestDependencies
+        .get(testName);
+    if (classes == null) {
+      return Collections.emptyList();
+    }
+    return classes;
   }
 
 }
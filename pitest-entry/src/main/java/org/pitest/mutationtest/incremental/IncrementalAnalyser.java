@@ -2,17 +2,20 @@ package org.pitest.mutationtest.incremental;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.TestInfo;
-import org.pitest.functional.F;
-import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationAnalyser;
@@ -21,13 +24,22 @@ import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.util.Log;
 
+/**
+ * Reuses results from a previous run where neither the mutated method nor any
+ * class executed by the relevant tests has changed. The classes each test
+ * executes are taken from both the current coverage and the dependencies
+ * recorded in the history, so a change to a callee invalidates exactly the
+ * mutants whose covering or killing tests reach it. Mutants in unchanged
+ * methods of a changed class are treated as unchanged.
+ */
 public class IncrementalAnalyser implements MutationAnalyser {
 
-  private static final Logger              LOG         = Log.getLogger();
+  private static final Logger              LOG            = Log.getLogger();
 
   private final CodeHistory                history;
   private final CoverageDatabase           coverage;
-  private final Map<DetectionStatus, Long> preAnalysed = createStatusMap();
+  private final Map<DetectionStatus, Long> preAnalysed    = createStatusMap();
+  private final Map<ClassName, Boolean>    changedClasses = new HashMap<>();
 
   public IncrementalAnalyser(final CodeHistory history,
       final CoverageDatabase coverage) {
@@ -80,7 +92,8 @@ public class IncrementalAnalyser implements MutationAnalyser {
 
     final ClassName clazz = each.getClassName();
 
-    if (this.history.hasClassChanged(clazz)) {
+    if (hasClassChanged(clazz)
+        && this.history.hasMethodChanged(each.getId().getLocation())) {
       return analyseFromScratch(each);
     }
 
@@ -88,46 +101,101 @@ public class IncrementalAnalyser implements MutationAnalyser {
       return makeResult(each, DetectionStatus.TIMED_OUT);
     }
 
-    if ((mutationStatusTestPair.getStatus() == DetectionStatus.KILLED)
-        && killingTestHasNotChanged(each, mutationStatusTestPair)) {
-      return makeResult(each, DetectionStatus.KILLED, mutationStatusTestPair
-          .getKillingTest().value());
+    if (mutationStatusTestPair.getStatus() == DetectionStatus.KILLED) {
+      final Set<String> killers = new HashSet<>(
+          mutationStatusTestPair.getKillingTests());
+      final Option<TestInfo> killer = findCheapestUnchangedKiller(each,
+          killers);
+      if (killer.hasSome()) {
+        return makeResult(each, DetectionStatus.KILLED, killer.value()
+            .getName());
+      }
+      runKnownKillersFirst(each, killers);
     }
 
     if ((mutationStatusTestPair.getStatus() == DetectionStatus.SURVIVED)
         && !this.history.hasCoverageChanged(clazz,
-            this.coverage.getCoverageIdForClass(clazz))) {
+            this.coverage.getCoverageIdForClass(clazz))
+        && !haveCoveringTestDependenciesChanged(clazz)) {
       return makeResult(each, DetectionStatus.SURVIVED);
     }
 
     return analyseFromScratch(each);
   }
 
-  private boolean killingTestHasNotChanged(final MutationDetails each,
-      final MutationStatusTestPair mutationStatusTestPair) {
-    final Collection<TestInfo> allTests = this.coverage.getTestsForClass(each
-        .getClassName());
+  private boolean haveCoveringTestDependenciesChanged(final ClassName clazz) {
+    for (final TestInfo each : this.coverage.getTestsForClass(clazz)) {
+      if (haveDependenciesChanged(each.getName(), clazz)) {
+        return true;
+      }
+    }
+    return false;
+  }
 
-    final List<ClassName> testClasses = FCollection.filter(allTests,
-        testIsCalled(mutationStatusTestPair.getKillingTest().value())).map(
-            TestInfo.toDefiningClassName());
+  // the mutated class is excluded as it has already been checked at the
+  // method level
+  private boolean haveDependenciesChanged(final String testName,
+      final ClassName mutatedClass) {
+    return anyClassChanged(this.coverage.getClassesCoveredByTest(testName),
+        mutatedClass)
+        || anyClassChanged(this.history.getPreviousTestDependencies(testName),
+            mutatedClass);
+  }
 
-    if (testClasses.isEmpty()) {
-      return false;
+  private boolean anyClassChanged(final Collection<ClassName> classes,
+      final ClassName mutatedClass) {
+    for (final ClassName each : classes) {
+      if (!each.equals(mutatedClass) && hasClassChanged(each)) {
+        return true;
+      }
     }
+    return false;
+  }
 
-    return !this.history.hasClassChanged(testClasses.get(0));
+  private boolean hasClassChanged(final ClassName clazz) {
+    Boolean changed = this.changedClasses.get(clazz);
+    if (changed == null) {
+      changed = this.history.hasClassChanged(clazz);
+      this.changedClasses.put(clazz, changed);
+    }
+    return changed;
+  }
 
+  /**
+   * Finds the cheapest of the previous killing tests that still covers the
+   * mutant and that has not changed, along with everything it executes.
+   */
+  private Option<TestInfo> findCheapestUnchangedKiller(
+      final MutationDetails each, final Set<String> killers) {
+    TestInfo cheapest = null;
+    for (final TestInfo test : each.getTestsInOrder()) {
+      if (killers.contains(test.getName())
+          && ((cheapest == null) || (test.getTime() < cheapest.getTime()))
+          && !hasClassChanged(TestInfo.toDefiningClassName().apply(test))
+          && !haveDependenciesChanged(test.getName(), each.getClassName())) {
+        cheapest = test;
+      }
+    }
+    return Option.some(cheapest);
   }
 
-  private static F<TestInfo, Boolean> testIsCalled(final String testName) {
-    return new F<TestInfo, Boolean>() {
+  /**
+   * Moves tests that killed the mutant last time to the front of its tests,
+   * cheapest first, so a rerun is likely to stop after the first test.
+   */
+  private static void runKnownKillersFirst(final MutationDetails each,
+      final Set<String> killers) {
+    Collections.sort(each.getTestsInOrder(), new Comparator<TestInfo>() {
       @Override
-      public Boolean apply(final TestInfo a) {
-        return a.getName().equals(testName);
+      public int compare(final TestInfo a, final TestInfo b) {
+        final boolean aKilled = killers.contains(a.getName());
+        final boolean bKilled = killers.contains(b.getName());
+        if (aKilled != bKilled) {
+          return aKilled ? -1 : 1;
+        }
+        return aKilled ? Integer.compare(a.getTime(), b.getTime()) : 0;
       }
-
-    };
+    });
   }
 
   private MutationResult analyseFromScratch(final MutationDetails mutation) {
@@ -142,6 +210,11 @@ public class IncrementalAnalyser implements MutationAnalyser {
   private MutationResult makeResult(final MutationDetails each,
       final DetectionStatus status, final String killingTest) {
     updatePreanalysedTotal(status);
+    if (status != DetectionStatus.NOT_STARTED) {
+      // the history does not record whether the tests that produced a result
+      // were reduced, so don't claim either way
+      each.clearTestsReduced();
+    }
     return new MutationResult(each, new MutationStatusTestPair(0, status,
         killingTest));
   }
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HashFunction;
+import org.pitest.classinfo.XxHash64;
+import org.pitest.functional.Option;
+
+/**
+ * Hashes the methods of a class so that incremental analysis can tell which
+ * methods of a changed class are unaffected.
+ *
+ * Debug information and stack map frames are discarded and instructions are
+ * hashed by the values they refer to rather than constant pool indexes, so
+ * moving code between lines or reordering the constant pool does not change a
+ * hash. The hash of each method also covers the methods of the same class that
+ * it calls or refers to through a method handle, such as the bodies of its
+ * lambdas, directly or indirectly. The declaration of the class, its fields,
+ * its constructors and its static initialiser are hashed together under
+ * {@link #CLASS_KEY}; any change to these affects every method.
+ */
+public class MethodHashes {
+
+  public static final String                            CLASS_KEY = "<class>";
+
+  private static final HashFunction                     HASH      = new XxHash64();
+
+  private final ClassByteArraySource                    source;
+  private final ConcurrentMap<ClassName, Map<String, String>> cache = new ConcurrentHashMap<>();
+
+  public MethodHashes(final ClassByteArraySource source) {
+    this.source = source;
+  }
+
+  /**
+   * Returns the hashes of each method in the named class, keyed by name and
+   * descriptor, plus the hash of the class declaration.
+   *
+   * @param clazz class to hash
+   * @return hashes, or an empty map if the class cannot be found
+   */
+  public Map<String, String> hashesFor(final ClassName clazz) {
+    final Map<String, String> known = this.cache.get(clazz);
+    if (known != null) {
+      return known;
+    }
+    final Option<byte[]> bytes = this.source.getBytes(clazz.asJavaName());
+    final Map<String, String> hashes;
+    if (bytes.hasSome()) {
+      hashes = hash(bytes.value());
+    } else {
+      hashes = Collections.emptyMap();
+    }
+    this.cache.putIfAbsent(clazz, hashes);
+    return hashes;
+  }
+
+  public static String keyFor(final String name, final String desc) {
+    return name + desc;
+  }
+
+  static Map<String, String> hash(final byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes).accept(node, ClassReader.SKIP_DEBUG
+        | ClassReader.SKIP_FRAMES);
+
+    final Map<String, Long> own = new HashMap<>();
+    final Map<String, Set<String>> calls = new HashMap<>();
+    for (final MethodNode each : node.methods) {
+      final String key = keyFor(each.name, each.desc);
+      own.put(key, hashMethod(each));
+      calls.put(key, findLocalCalls(node.name, each));
+    }
+
+    final Map<String, String> hashes = new TreeMap<>();
+    for (final String each : own.keySet()) {
+      final StringBuilder sb = new StringBuilder();
+      for (final String reached : reachableFrom(each, calls)) {
+        sb.append(reached).append('=').append(own.get(reached)).append(';');
+      }
+      hashes.put(each, toHash(sb));
+    }
+    hashes.put(CLASS_KEY, hashDeclaration(node, hashes));
+    return Collections.unmodifiableMap(hashes);
+  }
+
+  private static Set<String> reachableFrom(final String method,
+      final Map<String, Set<String>> calls) {
+    final Set<String> reached = new TreeSet<>();
+    final List<String> toVisit = new ArrayList<>();
+    toVisit.add(method);
+    while (!toVisit.isEmpty()) {
+      final String each = toVisit.remove(toVisit.size() - 1);
+      // calls to inherited methods have no body in this class
+      if (calls.containsKey(each) && reached.add(each)) {
+        toVisit.addAll(calls.get(each));
+      }
+    }
+    return reached;
+  }
+
+  private static Set<String> findLocalCalls(final String owner,
+      final MethodNode method) {
+    final Set<String> calls = new TreeSet<>();
+    for (final AbstractInsnNode each : method.instructions.toArray()) {
+      if (each instanceof MethodInsnNode) {
+        final MethodInsnNode call = (MethodInsnNode) each;
+        if (call.owner.equals(owner)) {
+          calls.add(keyFor(call.name, call.desc));
+        }
+      } else if (each instanceof InvokeDynamicInsnNode) {
+        // lambda bodies are reached through handles in the bootstrap args
+        for (final Object arg : ((InvokeDynamicInsnNode) each).bsmArgs) {
+          if (arg instanceof Handle) {
+            final Handle handle = (Handle) arg;
+            if (handle.getOwner().equals(owner)) {
+              calls.add(keyFor(handle.getName(), handle.getDesc()));
+            }
+          }
+        }
+      }
+    }
+    return calls;
+  }
+
+  private static String hashDeclaration(final ClassNode node,
+      final Map<String, String> methods) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append(node.access).append(' ').append(node.name).append(' ')
+        .append(node.superName).append(' ').append(node.interfaces)
+        .append(' ').append(node.outerClass).append(';');
+    for (final FieldNode each : node.fields) {
+      sb.append(each.access).append(' ').append(each.name).append(' ')
+          .append(each.desc).append(' ').append(each.value).append(';');
+    }
+    // field initialisers are compiled into each constructor
+    for (final Map.Entry<String, String> each : methods.entrySet()) {
+      if (each.getKey().startsWith("<")) {
+        sb.append(each.getKey()).append('=').append(each.getValue())
+            .append(';');
+      }
+    }
+    return toHash(sb);
+  }
+
+  private static long hashMethod(final MethodNode method) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append(method.access).append(' ').append(method.exceptions)
+        .append(';');
+    final InsnList instructions = method.instructions;
+    for (final AbstractInsnNode each : instructions.toArray()) {
+      appendInstruction(sb, instructions, each);
+      sb.append(';');
+    }
+    for (final TryCatchBlockNode each : method.tryCatchBlocks) {
+      sb.append(instructions.indexOf(each.start)).append(' ')
+          .append(instructions.indexOf(each.end)).append(' ')
+          .append(instructions.indexOf(each.handler)).append(' ')
+          .append(each.type).append(';');
+    }
+    return HASH.hash(sb.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void appendInstruction(final StringBuilder sb,
+      final InsnList instructions, final AbstractInsnNode insn) {
+    sb.append(insn.getOpcode());
+    if (insn instanceof IntInsnNode) {
+      sb.append(' ').append(((IntInsnNode) insn).operand);
+    } else if (insn instanceof VarInsnNode) {
+      sb.append(' ').append(((VarInsnNode) insn).var);
+    } else if (insn instanceof TypeInsnNode) {
+      sb.append(' ').append(((TypeInsnNode) insn).desc);
+    } else if (insn instanceof FieldInsnNode) {
+      final FieldInsnNode field = (FieldInsnNode) insn;
+      sb.append(' ').append(field.owner).append(' ').append(field.name)
+          .append(' ').append(field.desc);
+    } else if (insn instanceof MethodInsnNode) {
+      final MethodInsnNode call = (MethodInsnNode) insn;
+      sb.append(' ').append(call.owner).append(' ').append(call.name)
+          .append(' ').append(call.desc).append(' ').append(call.itf);
+    } else if (insn instanceof InvokeDynamicInsnNode) {
+      final InvokeDynamicInsnNode indy = (InvokeDynamicInsnNode) insn;
+      sb.append(' ').append(indy.name).append(' ').append(indy.desc)
+          .append(' ').append(indy.bsm).append(' ')
+          .append(Arrays.toString(indy.bsmArgs));
+    } else if (insn instanceof JumpInsnNode) {
+      sb.append(' ').append(instructions.indexOf(((JumpInsnNode) insn).label));
+    } else if (insn instanceof LdcInsnNode) {
+      final Object cst = ((LdcInsnNode) insn).cst;
+      sb.append(' ').append(cst.getClass().getName()).append(' ').append(cst);
+    } else if (insn instanceof IincInsnNode) {
+      final IincInsnNode iinc = (IincInsnNode) insn;
+      sb.append(' ').append(iinc.var).append(' ').append(iinc.incr);
+    } else if (insn instanceof TableSwitchInsnNode) {
+      final TableSwitchInsnNode table = (TableSwitchInsnNode) insn;
+      sb.append(' ').append(table.min).append(' ').append(table.max)
+          .append(' ').append(instructions.indexOf(table.dflt));
+      appendLabels(sb, instructions, table.labels);
+    } else if (insn instanceof LookupSwitchInsnNode) {
+      final LookupSwitchInsnNode lookup = (LookupSwitchInsnNode) insn;
+      sb.append(' ').append(lookup.keys).append(' ')
+          .append(instructions.indexOf(lookup.dflt));
+      appendLabels(sb, instructions, lookup.labels);
+    } else if (insn instanceof MultiANewArrayInsnNode) {
+      final MultiANewArrayInsnNode array = (MultiANewArrayInsnNode) insn;
+      sb.append(' ').append(array.desc).append(' ').append(array.dims);
+    }
+  }
+
+  private static void appendLabels(final StringBuilder sb,
+      final InsnList instructions, final List<LabelNode> labels) {
+    for (final LabelNode each : labels) {
+      sb.append(' ').append(instructions.indexOf(each));
+    }
+  }
+
+  private static String toHash(final CharSequence value) {
+    return Long.toHexString(HASH.hash(value.toString().getBytes(
+        StandardCharsets.UTF_8)));
+  }
+
+}
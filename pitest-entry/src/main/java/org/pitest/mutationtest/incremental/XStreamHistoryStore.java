@@ -6,15 +6,22 @@ import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassIdentifier;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
@@ -36,15 +43,30 @@ public class XStreamHistoryStore implements HistoryStore {
 
   private static final XStream                                  XSTREAM_INSTANCE  = configureXStream();
 
+  /**
+   * Identifies the format of the file and the hash function used for the
+   * class ids within it. Files without a matching header were written with
+   * different hashes, so nothing in them can be reused.
+   */
+  static final String                                           FORMAT_HEADER     = "pitest-history:xxh64:4";
+
   private final WriterFactory                                   outputFactory;
   private final BufferedReader                                  input;
+  private final Option<MethodHashes>                            methodHashes;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults   = new HashMap<>();
   private final Map<ClassName, ClassHistory>                    previousClassPath = new HashMap<>();
+  private final Map<String, Collection<ClassName>>              previousTestDependencies = new HashMap<>();
 
   public XStreamHistoryStore(final WriterFactory output,
       final Option<Reader> input) {
+    this(output, input, Option.<MethodHashes> none());
+  }
+
+  public XStreamHistoryStore(final WriterFactory output,
+      final Option<Reader> input, final Option<MethodHashes> methodHashes) {
     this.outputFactory = output;
     this.input = createReader(input);
+    this.methodHashes = methodHashes;
   }
 
   private static XStream configureXStream() {
@@ -55,6 +77,8 @@ public class XStreamHistoryStore implements HistoryStore {
     xstream.alias("name", ClassName.class);
     xstream.alias("result", IdResult.class);
     xstream.alias("statusTestPair", MutationStatusTestPair.class);
+    xstream.alias("testDependencies", TestDependencies.class);
+    xstream.alias("methodHashes", TreeMap.class);
     xstream.alias("status", DetectionStatus.class);
     xstream.useAttributeFor(MutationStatusTestPair.class, "numberOfTestsRun");
     xstream.useAttributeFor(MutationStatusTestPair.class, "status");
@@ -63,6 +87,8 @@ public class XStreamHistoryStore implements HistoryStore {
     xstream.useAttributeFor(ClassIdentifier.class, "hash");
     xstream.useAttributeFor(HierarchicalClassId.class, "hierarchicalHash");
     xstream.useAttributeFor(HierarchicalClassId.class, "classId");
+    xstream.useAttributeFor(TestDependencies.class, "test");
+    xstream.useAttributeFor(TestDependencies.class, "classes");
     return xstream;
   }
 
@@ -77,15 +103,41 @@ public class XStreamHistoryStore implements HistoryStore {
   public void recordClassPath(final Collection<HierarchicalClassId> ids,
       final CoverageDatabase coverageInfo) {
     final PrintWriter output = this.outputFactory.create();
+    output.println(FORMAT_HEADER);
     output.println(ids.size());
     for (final HierarchicalClassId each : ids) {
-      final ClassHistory coverage = new ClassHistory(each, coverageInfo
-          .getCoverageIdForClass(each.getName()).toString(16));
+      final ClassHistory coverage = new ClassHistory(each,
+          Long.toHexString(coverageInfo.getCoverageIdForClass(each.getName())),
+          methodHashesFor(each.getName()));
       output.println(toXml(coverage));
     }
+    recordTestDependencies(output, ids, coverageInfo);
     output.flush();
   }
 
+  private Map<String, String> methodHashesFor(final ClassName clazz) {
+    if (this.methodHashes.hasNone()) {
+      return Collections.emptyMap();
+    }
+    return this.methodHashes.value().hashesFor(clazz);
+  }
+
+  private void recordTestDependencies(final PrintWriter output,
+      final Collection<HierarchicalClassId> ids,
+      final CoverageDatabase coverageInfo) {
+    final Set<String> tests = new TreeSet<>();
+    for (final HierarchicalClassId each : ids) {
+      for (final TestInfo test : coverageInfo.getTestsForClass(each.getName())) {
+        tests.add(test.getName());
+      }
+    }
+    output.println(tests.size());
+    for (final String each : tests) {
+      output.println(toXml(new TestDependencies(each,
+          coverageInfo.getClassesCoveredByTest(each))));
+    }
+  }
+
   @Override
   public void recordResult(final MutationResult result) {
     final PrintWriter output = this.outputFactory.create();
@@ -104,11 +156,19 @@ public class XStreamHistoryStore implements HistoryStore {
     return this.previousClassPath;
   }
 
+  @Override
+  public Map<String, Collection<ClassName>> getHistoricTestDependencies() {
+    return this.previousTestDependencies;
+  }
+
   @Override
   public void initialize() {
     if (this.input != null) {
-      restoreClassPath();
-      restoreResults();
+      if (hasCurrentFormat()) {
+        restoreClassPath();
+        restoreTestDependencies();
+        restoreResults();
+      }
       try {
         this.input.close();
       } catch (final IOException e) {
@@ -117,6 +177,22 @@ public class XStreamHistoryStore implements HistoryStore {
     }
   }
 
+  private boolean hasCurrentFormat() {
+    try {
+      final String header = this.input.readLine();
+      if (FORMAT_HEADER.equals(header)) {
+        return true;
+      }
+      if (header != null) {
+        LOG.info("History was written by an earlier version and will not be used."
+            + " All classes will be analysed.");
+      }
+    } catch (final IOException e) {
+      LOG.warning("Could not read previous classpath");
+    }
+    return false;
+  }
+
   private void restoreResults() {
     String line;
     try {
@@ -149,6 +225,22 @@ public class XStreamHistoryStore implements HistoryStore {
     }
   }
 
+  private void restoreTestDependencies() {
+    try {
+      final long numberOfTests = Long.valueOf(this.input.readLine());
+      for (int i = 0; i != numberOfTests; i++) {
+        final TestDependencies dependencies = (TestDependencies) fromXml(this.input
+            .readLine());
+        this.previousTestDependencies.put(dependencies.test,
+            dependencies.toClassNames());
+      }
+    } catch (final IOException e) {
+      LOG.warning("Could not read previous test dependencies");
+    } catch (final StreamException e) {
+      LOG.warning("Could not read previous test dependencies");
+    }
+  }
+
   private static Object fromXml(final String xml) {
     return XSTREAM_INSTANCE.fromXML(xml);
   }
@@ -159,6 +251,34 @@ public class XStreamHistoryStore implements HistoryStore {
     return writer.toString().replaceAll("\n", "");
   }
 
+  private static class TestDependencies {
+    final String test;
+    final String classes;
+
+    TestDependencies(final String test, final Collection<ClassName> classes) {
+      this.test = test;
+      final StringBuilder sb = new StringBuilder();
+      for (final ClassName each : classes) {
+        if (sb.length() != 0) {
+          sb.append(' ');
+        }
+        sb.append(each.asJavaName());
+      }
+      this.classes = sb.toString();
+    }
+
+    Collection<ClassName> toClassNames() {
+      final List<ClassName> names = new ArrayList<>();
+      if (!this.classes.isEmpty()) {
+        for (final String each : this.classes.split(" ")) {
+          names.add(ClassName.fromString(each));
+        }
+      }
+      return names;
+    }
+
+  }
+
   private static class IdResult {
     final MutationIdentifier     id;
     final MutationStatusTestPair status;
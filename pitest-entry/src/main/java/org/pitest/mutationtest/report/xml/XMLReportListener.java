@@ -43,7 +43,12 @@ enum Tag {
 
 public class XMLReportListener implements MutationResultListener {
 
-  private final Writer out;
+  private final Writer        out;
+
+  // reused for each mutation so nodes are escaped and written without
+  // creating intermediate strings
+  private final StringBuilder buffer = new StringBuilder(512);
+  private char[]              chars  = new char[512];
 
   public XMLReportListener(final ResultOutputStrategy outputStrategy) {
     this(outputStrategy.createWriterForFile("mutations.xml"));
@@ -60,57 +65,71 @@ public class XMLReportListener implements MutationResultListener {
   }
 
   private void writeMutationResultXML(final MutationResult result) {
-    write(makeNode(makeMutationNode(result), makeMutationAttributes(result),
-        mutation) + "\n");
-  }
-
-  private String makeMutationAttributes(final MutationResult result) {
-    return "detected='" + result.getStatus().isDetected() + "' status='"
-        + result.getStatus() + "'";
+    final StringBuilder sb = this.buffer;
+    sb.setLength(0);
+    sb.append('<').append(mutation).append(" detected='")
+        .append(result.getStatus().isDetected()).append("' status='")
+        .append(result.getStatus()).append("'");
+    if (!result.getStatus().isDetected()
+        && result.getDetails().isTestsReduced()) {
+      sb.append(" testsReduced='true'");
+    }
+    sb.append('>');
+    makeMutationNode(result, sb);
+    sb.append("</").append(mutation).append(">\n");
+    flushBuffer();
   }
 
-  private String makeMutationNode(final MutationResult mutation) {
+  private void makeMutationNode(final MutationResult mutation,
+      final StringBuilder sb) {
     final MutationDetails details = mutation.getDetails();
-    return makeNode(clean(details.getFilename()), sourceFile)
-        + makeNode(clean(details.getClassName().asJavaName()), mutatedClass)
-        + makeNode(clean(details.getMethod().name()), mutatedMethod)
-        + makeNode(clean(details.getId().getLocation().getMethodDesc()),
-            methodDescription)
-        + makeNode("" + details.getLineNumber(), lineNumber)
-        + makeNode(clean(details.getMutator()), mutator)
-        + makeNode("" + details.getFirstIndex(), index)
-        + makeNode(createKillingTestDesc(mutation.getKillingTest()),
-            killingTest)
-        + makeNode(clean(details.getDescription()), description);
+    makeNode(details.getFilename(), sourceFile, sb);
+    makeNode(details.getClassName().asJavaName(), mutatedClass, sb);
+    makeNode(details.getMethod().name(), mutatedMethod, sb);
+    makeNode(details.getId().getLocation().getMethodDesc(), methodDescription,
+        sb);
+    openTag(lineNumber, sb).append(details.getLineNumber());
+    closeTag(lineNumber, sb);
+    makeNode(details.getMutator(), mutator, sb);
+    openTag(index, sb).append(details.getFirstIndex());
+    closeTag(index, sb);
+    makeNode(mutation.getKillingTest(), killingTest, sb);
+    makeNode(details.getDescription(), description, sb);
   }
 
-  private String clean(final String value) {
-    return StringUtil.escapeBasicHtmlChars(value);
-  }
-
-  private String makeNode(final String value, final String attributes,
-      final Tag tag) {
-    if (value != null) {
-      return "<" + tag + " " + attributes + ">" + value + "</" + tag + ">";
+  private void makeNode(final Option<String> value, final Tag tag,
+      final StringBuilder sb) {
+    if (value.hasSome()) {
+      makeNode(value.value(), tag, sb);
     } else {
-      return "<" + tag + attributes + "/>";
+      sb.append('<').append(tag).append("/>");
     }
+  }
 
+  private void makeNode(final String value, final Tag tag,
+      final StringBuilder sb) {
+    StringUtil.escapeBasicHtmlChars(value, openTag(tag, sb));
+    closeTag(tag, sb);
   }
 
-  private String makeNode(final String value, final Tag tag) {
-    if (value != null) {
-      return "<" + tag + ">" + value + "</" + tag + ">";
-    } else {
-      return "<" + tag + "/>";
-    }
+  private static StringBuilder openTag(final Tag tag, final StringBuilder sb) {
+    return sb.append('<').append(tag).append('>');
   }
 
-  private String createKillingTestDesc(final Option<String> killingTest) {
-    if (killingTest.hasSome()) {
-      return clean(killingTest.value());
-    } else {
-      return null;
+  private static void closeTag(final Tag tag, final StringBuilder sb) {
+    sb.append("</").append(tag).append('>');
+  }
+
+  private void flushBuffer() {
+    final int length = this.buffer.length();
+    if (this.chars.length < length) {
+      this.chars = new char[Math.max(length, this.chars.length * 2)];
+    }
+    this.buffer.getChars(0, length, this.chars, 0);
+    try {
+      this.out.write(this.chars, 0, length);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
     }
   }
 
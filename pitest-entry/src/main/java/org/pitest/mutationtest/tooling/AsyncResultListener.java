@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.tooling;
+
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.util.PitError;
+import org.pitest.util.Unchecked;
+
+/**
+ * Passes results to a child listener on a dedicated thread, so that slow
+ * report writing does not hold up the collection of results. The queue of
+ * pending results is bounded, so if the child falls behind callers block
+ * rather than results accumulating in memory.
+ *
+ * Only results waiting to be handed to the child are bounded. A child that
+ * buffers results itself, as the html report does until it knows all results
+ * for a file, still holds them until the end of the run.
+ */
+class AsyncResultListener implements MutationResultListener {
+
+  private static final ClassMutationResults END = new ClassMutationResults(
+      Collections.<MutationResult> emptyList());
+
+  private final MutationResultListener              child;
+  private final BlockingQueue<ClassMutationResults> pending;
+  private final Thread                              consumer;
+
+  private volatile Throwable                        error;
+
+  AsyncResultListener(final MutationResultListener child, final int capacity) {
+    this.child = child;
+    this.pending = new ArrayBlockingQueue<>(capacity);
+    this.consumer = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        consume();
+      }
+    }, "pit-result-listener");
+    this.consumer.setDaemon(true);
+  }
+
+  @Override
+  public void runStart() {
+    this.child.runStart();
+    this.consumer.start();
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults results) {
+    checkForError();
+    put(results);
+  }
+
+  @Override
+  public void runEnd() {
+    put(END);
+    try {
+      this.consumer.join();
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    checkForError();
+    this.child.runEnd();
+  }
+
+  private void consume() {
+    ClassMutationResults next = take();
+    while (next != END) {
+      handle(next);
+      next = take();
+    }
+  }
+
+  private ClassMutationResults take() {
+    // an interrupt is recorded as an error, but draining continues until the
+    // end of the run so callers are never left blocked
+    while (true) {
+      try {
+        return this.pending.take();
+      } catch (final InterruptedException e) {
+        if (this.error == null) {
+          this.error = e;
+        }
+      }
+    }
+  }
+
+  private void handle(final ClassMutationResults results) {
+    if (this.error == null) {
+      try {
+        this.child.handleMutationResult(results);
+      } catch (final Throwable t) {
+        this.error = t;
+      }
+    }
+  }
+
+  private void put(final ClassMutationResults results) {
+    try {
+      this.pending.put(results);
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void checkForError() {
+    final Throwable t = this.error;
+    if (t instanceof RuntimeException) {
+      throw (RuntimeException) t;
+    }
+    if (t != null) {
+      throw new PitError("Error while handling results", t);
+    }
+  }
+
+}
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.Reader;
 import java.util.Map;
 
+import org.pitest.classinfo.ClassInfoIndex;
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.CodeSource;
@@ -20,6 +21,7 @@ import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.incremental.WriterFactory;
+import org.pitest.mutationtest.incremental.MethodHashes;
 import org.pitest.mutationtest.incremental.XStreamHistoryStore;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParameter;
@@ -79,9 +81,10 @@ public class EntryPoint {
     final WriterFactory historyWriter = data.createHistoryWriter();
 
     // workaround for apparent java 1.5 JVM bug . . . might not play nicely
-    // with distributed testing
+    // with distributed testing. Unless disabled the jar is cached between
+    // runs so it is written at most once per version of pitest.
     final JavaAgent jac = new JarCreatingJarFinder(
-        new ClassPathByteArraySource(cp));
+        new ClassPathByteArraySource(cp), agentCacheDirectory(data));
 
     final KnownLocationJavaAgentFinder ja = new KnownLocationJavaAgentFinder(
         jac.getJarLocation().value());
@@ -96,18 +99,24 @@ public class EntryPoint {
         settings.getJavaExecutable(), data.getJvmArgs(), environmentVariables);
     final ProjectClassPaths cps = data.getMutationClassPaths();
 
-    final CodeSource code = new CodeSource(cps);
+    final ClassInfoIndex classInfoIndex = loadClassInfoIndex(data);
+    final CodeSource code = new CodeSource(cps, classInfoIndex);
 
     final Timings timings = new Timings();
     final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
         baseDir, coverageOptions, launchOptions, code,
         settings.createCoverageExporter(), timings, !data.isVerbose());
 
-    final HistoryStore history = new XStreamHistoryStore(historyWriter, reader);
+    // shared so that each class is hashed once for both reading and writing
+    // the history
+    final MethodHashes methodHashes = new MethodHashes(
+        new ClassPathByteArraySource(cp));
+    final HistoryStore history = new XStreamHistoryStore(historyWriter, reader,
+        Option.some(methodHashes));
 
     final MutationStrategies strategies = new MutationStrategies(
         settings.createEngine(), history, coverageDatabase, reportFactory,
-        reportOutput);
+        reportOutput).with(methodHashes);
 
     final MutationCoverage report = new MutationCoverage(strategies, baseDir,
         code, data, settings, timings);
@@ -120,8 +129,33 @@ public class EntryPoint {
       jac.close();
       ja.close();
       historyWriter.close();
+      saveClassInfoIndex(data, classInfoIndex);
+    }
+
+  }
+
+  private static Option<File> agentCacheDirectory(final ReportOptions data) {
+    if (!data.shouldCacheAgentJar()) {
+      return Option.none();
     }
+    if (data.getAgentCacheDirectory() != null) {
+      return Option.some(data.getAgentCacheDirectory());
+    }
+    return Option.some(JarCreatingJarFinder.defaultCacheDirectory());
+  }
+
+  private static ClassInfoIndex loadClassInfoIndex(final ReportOptions data) {
+    if (data.getClassInfoIndexLocation() == null) {
+      return ClassInfoIndex.none();
+    }
+    return ClassInfoIndex.load(data.getClassInfoIndexLocation());
+  }
 
+  private static void saveClassInfoIndex(final ReportOptions data,
+      final ClassInfoIndex index) {
+    if (data.getClassInfoIndexLocation() != null) {
+      index.save(data.getClassInfoIndexLocation());
+    }
   }
 
   private void selectTestPlugin(ReportOptions data) {
@@ -17,25 +17,53 @@ package org.pitest.mutationtest.tooling;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.jar.Attributes;
+import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
+import java.util.logging.Logger;
 import java.util.zip.ZipEntry;
 
 import org.pitest.boot.HotSwapAgent;
 import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.HashFunction;
+import org.pitest.classinfo.XxHash64;
 import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.functional.Option;
 import org.pitest.process.JavaAgent;
 import org.pitest.util.FileUtil;
+import org.pitest.util.Log;
 import org.pitest.util.PitError;
+import org.pitest.util.StreamUtil;
 import org.pitest.util.Unchecked;
 
 import sun.pitest.CodeCoverageStore;
 import sun.pitest.InvokeReceiver;
 
+/**
+ * Creates the jar containing the agent that minions are launched with.
+ *
+ * By default a new jar is written to the temp directory and deleted on close.
+ * If a cache directory is supplied the jar is instead named after a hash of
+ * its content and kept, so later runs and concurrent builds using the same
+ * version of pitest find it already in place. The jar is written to a
+ * temporary file and moved into place, so a partially written jar is never
+ * visible, and a cached jar is only reused if it holds exactly the expected
+ * classes.
+ */
 public class JarCreatingJarFinder implements JavaAgent {
 
+  private static final Logger        LOG                   = Log.getLogger();
+
   protected static final String      CAN_REDEFINE_CLASSES  = "Can-Redefine-Classes";
   protected static final String      PREMAIN_CLASS         = "Premain-Class";
 
@@ -45,18 +73,36 @@ public class JarCreatingJarFinder implements JavaAgent {
   private static final String        AGENT_CLASS_NAME      = HotSwapAgent.class
       .getName();
 
+  private static final HashFunction  HASH                  = new XxHash64();
+
   private Option<String>             location              = Option.none();
+  private boolean                    cached                = false;
 
   private final ClassByteArraySource classByteSource;
+  private final Option<File>         cacheDirectory;
 
-  public JarCreatingJarFinder(final ClassByteArraySource classByteSource) {
+  public JarCreatingJarFinder(final ClassByteArraySource classByteSource,
+      final Option<File> cacheDirectory) {
     this.classByteSource = classByteSource;
+    this.cacheDirectory = cacheDirectory;
+  }
+
+  public JarCreatingJarFinder(final ClassByteArraySource classByteSource) {
+    this(classByteSource, Option.<File> none());
   }
 
   public JarCreatingJarFinder() {
     this(new ClassPathByteArraySource());
   }
 
+  /**
+   * @return directory under the user's home in which agent jars are cached
+   */
+  public static File defaultCacheDirectory() {
+    return new File(new File(System.getProperty("user.home"), ".pitest"),
+        "agents");
+  }
+
   @Override
   public Option<String> getJarLocation() {
     if (this.location.hasNone()) {
@@ -67,11 +113,19 @@ public class JarCreatingJarFinder implements JavaAgent {
 
   private Option<String> createJar() {
     try {
+      final Map<String, byte[]> classes = agentClasses();
+      if (this.cacheDirectory.hasSome()) {
+        final Option<File> jar = findOrCreateCachedJar(
+            this.cacheDirectory.value(), classes);
+        if (jar.hasSome()) {
+          this.cached = true;
+          return Option.some(jar.value().getAbsolutePath());
+        }
+      }
 
       final File randomName = File.createTempFile(FileUtil.randomFilename(),
           ".jar");
-      final FileOutputStream fos = new FileOutputStream(randomName);
-      createJarFromClassPathResources(fos, randomName.getAbsolutePath());
+      writeJar(randomName, randomName, classes);
       return Option.some(randomName.getAbsolutePath());
 
     } catch (final IOException ex) {
@@ -79,8 +133,102 @@ public class JarCreatingJarFinder implements JavaAgent {
     }
   }
 
-  private void createJarFromClassPathResources(final FileOutputStream fos,
-      final String location) throws IOException {
+  private Option<File> findOrCreateCachedJar(final File directory,
+      final Map<String, byte[]> classes) {
+    final File jar = new File(directory, "pitest-agent-"
+        + Long.toHexString(hash(classes)) + ".jar");
+    if (jar.isFile()) {
+      if (containsExactly(jar, classes)) {
+        return Option.some(jar);
+      }
+      LOG.warning("Replacing cached agent jar " + jar
+          + " as its content does not match");
+    }
+
+    File temp = null;
+    try {
+      if (!directory.isDirectory() && !directory.mkdirs()
+          && !directory.isDirectory()) {
+        throw new IOException("Could not create " + directory);
+      }
+      temp = File.createTempFile("pitest-agent", ".tmp", directory);
+      writeJar(temp, jar, classes);
+      moveIntoPlace(temp, jar);
+      return Option.some(jar);
+    } catch (final IOException ex) {
+      LOG.warning("Could not cache agent jar in " + directory
+          + ", creating a temporary one instead. " + ex.getMessage());
+      return Option.none();
+    } finally {
+      if (temp != null) {
+        temp.delete();
+      }
+    }
+  }
+
+  private static void moveIntoPlace(final File temp, final File jar)
+      throws IOException {
+    // a concurrent build may have created an identical jar in the meantime,
+    // so replacing it is harmless
+    try {
+      Files.move(temp.toPath(), jar.toPath(), StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final AtomicMoveNotSupportedException ex) {
+      Files.move(temp.toPath(), jar.toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static boolean containsExactly(final File jar,
+      final Map<String, byte[]> classes) {
+    try (JarFile jarFile = new JarFile(jar)) {
+      final Manifest manifest = jarFile.getManifest();
+      if (manifest == null
+          || !getBootClassPath(jar).equals(
+              manifest.getMainAttributes().getValue(BOOT_CLASSPATH))) {
+        return false;
+      }
+      for (final Entry<String, byte[]> each : classes.entrySet()) {
+        final ZipEntry entry = jarFile.getEntry(entryName(each.getKey()));
+        if (entry == null) {
+          return false;
+        }
+        try (InputStream is = jarFile.getInputStream(entry)) {
+          if (!Arrays.equals(each.getValue(),
+              StreamUtil.streamToByteArray(is))) {
+            return false;
+          }
+        }
+      }
+      return true;
+    } catch (final IOException ex) {
+      return false;
+    }
+  }
+
+  private static String entryName(final String className) {
+    return className.replace(".", "/") + ".class";
+  }
+
+  private static long hash(final Map<String, byte[]> classes) {
+    long h = 0;
+    for (final Entry<String, byte[]> each : classes.entrySet()) {
+      h = (h * 31) + HASH.hash(each.getKey().getBytes(StandardCharsets.UTF_8));
+      h = (h * 31) + HASH.hash(each.getValue());
+    }
+    return h;
+  }
+
+  private Map<String, byte[]> agentClasses() {
+    final Map<String, byte[]> classes = new LinkedHashMap<>();
+    addClass(HotSwapAgent.class, classes);
+    addClass(CodeCoverageStore.class, classes);
+    addClass(InvokeReceiver.class, classes);
+    return classes;
+  }
+
+  private void writeJar(final File file, final File finalLocation,
+      final Map<String, byte[]> classes) throws IOException {
     final Manifest m = new Manifest();
 
     m.clear();
@@ -88,30 +236,29 @@ public class JarCreatingJarFinder implements JavaAgent {
     if (global.getValue(Attributes.Name.MANIFEST_VERSION) == null) {
       global.put(Attributes.Name.MANIFEST_VERSION, "1.0");
     }
-    final File mylocation = new File(location);
-    global.putValue(BOOT_CLASSPATH, getBootClassPath(mylocation));
+    global.putValue(BOOT_CLASSPATH, getBootClassPath(finalLocation));
     global.putValue(PREMAIN_CLASS, AGENT_CLASS_NAME);
     global.putValue(CAN_REDEFINE_CLASSES, "true");
     global.putValue(CAN_SET_NATIVE_METHOD, "true");
 
-    try (JarOutputStream jos = new JarOutputStream(fos, m)) {
-      addClass(HotSwapAgent.class, jos);
-      addClass(CodeCoverageStore.class, jos);
-      addClass(InvokeReceiver.class, jos);
+    try (JarOutputStream jos = new JarOutputStream(new FileOutputStream(file),
+        m)) {
+      for (final Entry<String, byte[]> each : classes.entrySet()) {
+        final ZipEntry ze = new ZipEntry(entryName(each.getKey()));
+        jos.putNextEntry(ze);
+        jos.write(each.getValue());
+        jos.closeEntry();
+      }
     }
   }
 
-  private String getBootClassPath(final File mylocation) {
+  private static String getBootClassPath(final File mylocation) {
     return mylocation.getAbsolutePath().replace('\\', '/');
   }
 
-  private void addClass(final Class<?> clazz, final JarOutputStream jos)
-      throws IOException {
+  private void addClass(final Class<?> clazz, final Map<String, byte[]> classes) {
     final String className = clazz.getName();
-    final ZipEntry ze = new ZipEntry(className.replace(".", "/") + ".class");
-    jos.putNextEntry(ze);
-    jos.write(classBytes(className));
-    jos.closeEntry();
+    classes.put(className, classBytes(className));
   }
 
   private byte[] classBytes(final String className) {
@@ -126,7 +273,7 @@ public class JarCreatingJarFinder implements JavaAgent {
 
   @Override
   public void close() {
-    if (this.location.hasSome()) {
+    if (this.location.hasSome() && !this.cached) {
       final File f = new File(this.location.value());
       f.delete();
     }
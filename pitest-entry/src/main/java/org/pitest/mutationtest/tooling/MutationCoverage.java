@@ -17,6 +17,7 @@ package org.pitest.mutationtest.tooling;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -39,18 +40,23 @@ import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
+import org.pitest.metrics.Metrics;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.build.HistoricKillsTestPrioritiserFactory;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationGrouper;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.build.MutationSource;
 import org.pitest.mutationtest.build.MutationTestBuilder;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.build.RedundantTestReducer;
 import org.pitest.mutationtest.build.TestPrioritiser;
+import org.pitest.mutationtest.build.TestPrioritiserFactory;
+import org.pitest.mutationtest.build.TimedMutationGrouper;
 import org.pitest.mutationtest.build.WorkerFactory;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
@@ -67,9 +73,12 @@ import org.pitest.util.Timings;
 
 public class MutationCoverage {
 
-  private static final int         MB  = 1024 * 1024;
+  private static final int         MB                = 1024 * 1024;
 
-  private static final Logger      LOG = Log.getLogger();
+  // maximum number of class results waiting to be reported
+  private static final int         REPORT_QUEUE_SIZE = 100;
+
+  private static final Logger      LOG               = Log.getLogger();
   private final ReportOptions      data;
 
   private final MutationStrategies strategies;
@@ -77,6 +86,7 @@ public class MutationCoverage {
   private final CodeSource         code;
   private final File               baseDir;
   private final SettingsFactory    settings;
+  private final Metrics            metrics = new Metrics();
 
   public MutationCoverage(final MutationStrategies strategies,
       final File baseDir, final CodeSource code, final ReportOptions data,
@@ -153,6 +163,7 @@ public class MutationCoverage {
     LOG.info("Completed in " + timeSpan(t0));
 
     printStats(stats);
+    exportMetrics();
 
     return new CombinedStatistics(stats.getStatistics(),
         coverageData.createSummary());
@@ -196,7 +207,20 @@ private int numberOfThreads() {
     if (!this.data.isVerbose()) {
       ls.add(new SpinnerListener(System.out));
     }
-    return ls;
+
+    final List<MutationResultListener> timed = new ArrayList<>();
+    for (final MutationResultListener each : ls) {
+      final MutationResultListener t = new TimedResultListener(each,
+          this.metrics);
+      if (each == mutationReportListener) {
+        // reports are written on their own thread so slow io does not hold
+        // up the collection of results
+        timed.add(new AsyncResultListener(t, REPORT_QUEUE_SIZE));
+      } else {
+        timed.add(t);
+      }
+    }
+    return timed;
   }
 
   private void recordClassPath(final CoverageDatabase coverageData) {
@@ -240,6 +264,22 @@ private int numberOfThreads() {
       each.report(ps);
       ps.println(StringUtil.separatorLine());
     }
+
+    if (!this.metrics.isEmpty()) {
+      ps.println(StringUtil.separatorLine('='));
+      ps.println("- Metrics");
+      ps.println(StringUtil.separatorLine('='));
+      this.metrics.report(ps);
+    }
+  }
+
+  private void exportMetrics() throws IOException {
+    if (this.data.shouldExportMetrics()) {
+      try (Writer out = this.strategies.output().createWriterForFile(
+          "metrics.csv")) {
+        this.metrics.export(out);
+      }
+    }
   }
 
   private List<MutationAnalysisUnit> buildMutationTests(
@@ -251,27 +291,40 @@ private int numberOfThreads() {
     ClassByteArraySource bas = fallbackToClassLoader(new ClassPathByteArraySource(
         this.data.getClassPath()));
 
-    TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
-        .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
-            coverageData);
+    TestPrioritiserFactory prioritiserFactory = this.settings
+        .getTestPrioritiser();
+    if (this.data.shouldOrderTestsByHistory()) {
+      prioritiserFactory = new HistoricKillsTestPrioritiserFactory(
+          prioritiserFactory, history().getHistoricResults());
+    }
+    TestPrioritiser testPrioritiser = prioritiserFactory.makeTestPrioritiser(
+        this.data.getFreeFormProperties(), this.code, coverageData);
+    if (this.data.shouldReduceRedundantTests()) {
+      testPrioritiser = new RedundantTestReducer(testPrioritiser, coverageData);
+    }
 
     MutationInterceptor interceptor = this.settings.getInterceptor()
-        .createInterceptor(this.data, bas);
+        .createInterceptor(this.data, bas, this.metrics);
     
-    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
+    final MutationSource source = new MutationSource(mutationConfig,
+        testPrioritiser, bas, interceptor, this.metrics);
 
     final MutationAnalyser analyser = new IncrementalAnalyser(
-        new DefaultCodeHistory(this.code, history()), coverageData);
+        new DefaultCodeHistory(this.code, history(),
+            this.strategies.methodHashes()), coverageData);
 
     final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
         .getConfiguration(), mutationConfig,
         new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
             this.data.getTimeoutConstant()), this.data.isVerbose(), this.data
-            .getClassPath().getLocalClassPath());
-
-    MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
-        this.data.getFreeFormProperties(), this.code,
-        this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
+            .getClassPath().getLocalClassPath(), this.metrics,
+        this.data.getMaxKillingTests(),
+        this.data.getMinionHeapRecyclePercent());
+
+    MutationGrouper grouper = new TimedMutationGrouper(this.settings
+        .getMutationGrouper().makeFactory(this.data.getFreeFormProperties(),
+            this.code, this.data.getNumberOfThreads(),
+            this.data.getMutationUnitSize()), this.metrics);
     final MutationTestBuilder builder = new MutationTestBuilder(wf, analyser,
         source, grouper);
 
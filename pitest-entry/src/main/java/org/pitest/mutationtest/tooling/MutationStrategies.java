@@ -1,9 +1,11 @@
 package org.pitest.mutationtest.tooling;
 
 import org.pitest.coverage.CoverageGenerator;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.mutationtest.incremental.MethodHashes;
 import org.pitest.mutationtest.verify.BuildVerifier;
 import org.pitest.mutationtest.verify.DefaultBuildVerifier;
 import org.pitest.util.ResultOutputStrategy;
@@ -16,25 +18,28 @@ public class MutationStrategies {
   private final BuildVerifier                 buildVerifier;
   private final MutationEngineFactory         factory;
   private final ResultOutputStrategy          output;
+  private final Option<MethodHashes>          methodHashes;
 
   public MutationStrategies(final MutationEngineFactory factory,
       final HistoryStore history, final CoverageGenerator coverage,
       final MutationResultListenerFactory listenerFactory,
       final ResultOutputStrategy output) {
     this(factory, history, coverage, listenerFactory, output,
-        new DefaultBuildVerifier());
+        new DefaultBuildVerifier(), Option.<MethodHashes> none());
   }
 
   private MutationStrategies(final MutationEngineFactory factory,
       final HistoryStore history, final CoverageGenerator coverage,
       final MutationResultListenerFactory listenerFactory,
-      final ResultOutputStrategy output, final BuildVerifier buildVerifier) {
+      final ResultOutputStrategy output, final BuildVerifier buildVerifier,
+      final Option<MethodHashes> methodHashes) {
     this.history = history;
     this.coverage = coverage;
     this.listenerFactory = listenerFactory;
     this.buildVerifier = buildVerifier;
     this.factory = factory;
     this.output = output;
+    this.methodHashes = methodHashes;
   }
 
   public HistoryStore history() {
@@ -61,14 +66,25 @@ public class MutationStrategies {
     return this.output;
   }
 
+  public Option<MethodHashes> methodHashes() {
+    return this.methodHashes;
+  }
+
   public MutationStrategies with(final MutationEngineFactory factory) {
     return new MutationStrategies(factory, this.history, this.coverage,
-        this.listenerFactory, this.output, this.buildVerifier);
+        this.listenerFactory, this.output, this.buildVerifier,
+        this.methodHashes);
   }
 
   public MutationStrategies with(final BuildVerifier verifier) {
     return new MutationStrategies(this.factory, this.history, this.coverage,
-        this.listenerFactory, this.output, verifier);
+        this.listenerFactory, this.output, verifier, this.methodHashes);
+  }
+
+  public MutationStrategies with(final MethodHashes methodHashes) {
+    return new MutationStrategies(this.factory, this.history, this.coverage,
+        this.listenerFactory, this.output, this.buildVerifier,
+        Option.some(methodHashes));
   }
 
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.tooling;
+
+import org.pitest.metrics.Metrics;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResultListener;
+
+/**
+ * Records the time a listener spends handling each set of results, and
+ * completing the run, under names derived from the listener's class.
+ */
+class TimedResultListener implements MutationResultListener {
+
+  private final MutationResultListener child;
+  private final Metrics                metrics;
+  private final String                 name;
+
+  TimedResultListener(final MutationResultListener child,
+      final Metrics metrics) {
+    this.child = child;
+    this.metrics = metrics;
+    this.name = "listener." + nameOf(child);
+  }
+
+  @Override
+  public void runStart() {
+    this.child.runStart();
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults results) {
+    final long start = System.nanoTime();
+    this.child.handleMutationResult(results);
+    this.metrics.recordSince(this.name + ".results_us", start);
+  }
+
+  @Override
+  public void runEnd() {
+    final long start = System.nanoTime();
+    this.child.runEnd();
+    this.metrics.recordSince(this.name + ".run_end_us", start);
+  }
+
+  private static String nameOf(final MutationResultListener listener) {
+    final String simpleName = listener.getClass().getSimpleName();
+    if (simpleName.isEmpty()) {
+      return listener.getClass().getName();
+    }
+    return simpleName;
+  }
+
+}
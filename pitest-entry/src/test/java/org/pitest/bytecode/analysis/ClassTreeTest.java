@@ -6,8 +6,11 @@ import org.junit.Test;
 import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.bytecode.analysis.MethodTree;
 import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.functional.F;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 
 public class ClassTreeTest {
   
@@ -25,6 +28,20 @@ public class ClassTreeTest {
     assertThat(testee.methods().map(toName())).containsExactly("<init>", "a", "b");
   }
   
+  @Test
+  public void shouldFindMethodsByLocation() {
+    ClassTree testee = ClassTree.fromBytes(bytesFor(ParseMe.class));
+    Location b = Location.location(ClassName.fromClass(ParseMe.class), MethodName.fromString("b"), "()I");
+    assertThat(testee.method(b).value().rawNode().name).isEqualTo("b");
+  }
+
+  @Test
+  public void shouldReturnNoneForUnknownLocation() {
+    ClassTree testee = ClassTree.fromBytes(bytesFor(ParseMe.class));
+    Location b = Location.location(ClassName.fromClass(ParseMe.class), MethodName.fromString("b"), "()V");
+    assertThat(testee.method(b).hasSome()).isFalse();
+  }
+
   @Test
   public void toStringShouldPrintBytecode() {
     ClassTree testee = ClassTree.fromBytes(bytesFor(ParseMe.class));
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.bytecode.analysis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.bytecode.analysis.MethodMatchers.named;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodInfo;
+import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
+import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
+
+public class MethodTreeTest {
+
+  private ClassByteArraySource source = ClassloaderByteArraySource.fromContext();
+
+  private GregorMutater mutater = new GregorMutater(this.source,
+      True.<MethodInfo> all(), Collections
+          .<MethodMutatorFactory> singletonList(IncrementsMutator.INCREMENTS_MUTATOR));
+
+  @Test
+  public void shouldApplyMutationToMethodInMemory() {
+    ClassTree tree = ClassTree.fromBytes(bytesFor(HasIncrement.class));
+    MethodTree method = tree.methods().findFirst(named("increment")).value();
+    MutationDetails mutation = findOnlyMutation();
+
+    MethodTree mutant = method.mutate(this.mutater, mutation.getId());
+
+    IincInsnNode mutated = (IincInsnNode) mutant.instructions().get(mutation.getInstructionIndex());
+    assertThat(mutated.incr).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldNotModifyOriginalMethodWhenMutating() {
+    ClassTree tree = ClassTree.fromBytes(bytesFor(HasIncrement.class));
+    MethodTree method = tree.methods().findFirst(named("increment")).value();
+    MutationDetails mutation = findOnlyMutation();
+
+    method.mutate(this.mutater, mutation.getId());
+
+    AbstractInsnNode original = method.rawNode().instructions.get(mutation.getInstructionIndex());
+    assertThat(original.getOpcode()).isEqualTo(Opcodes.IINC);
+    assertThat(((IincInsnNode) original).incr).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReportSameLocationForMutatedMethod() {
+    ClassTree tree = ClassTree.fromBytes(bytesFor(HasIncrement.class));
+    MethodTree method = tree.methods().findFirst(named("increment")).value();
+
+    MethodTree mutant = method.mutate(this.mutater, findOnlyMutation().getId());
+
+    assertThat(mutant.asLocation()).isEqualTo(method.asLocation());
+  }
+
+  @Test
+  public void shouldApplyMutationFromFullMutantWhenMutaterCannotMutateMethods() {
+    ClassTree tree = ClassTree.fromBytes(bytesFor(HasIncrement.class));
+    MethodTree method = tree.methods().findFirst(named("increment")).value();
+    MutationDetails mutation = findOnlyMutation();
+
+    MethodTree mutant = method.mutate(classOnlyMutater(), mutation.getId());
+
+    IincInsnNode mutated = (IincInsnNode) mutant.instructions().get(mutation.getInstructionIndex());
+    assertThat(mutated.incr).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldMapInstructionsToLineNumbers() {
+    MethodTree method = ClassTree.fromBytes(bytesFor(HasIncrement.class))
+        .methods().findFirst(named("increment")).value();
+    MutationDetails mutation = findOnlyMutation();
+    assertThat(method.lineNumberFor(mutation.getInstructionIndex()))
+        .isEqualTo(mutation.getLineNumber());
+  }
+
+  private MutationDetails findOnlyMutation() {
+    List<MutationDetails> mutations = this.mutater.findMutations(ClassName.fromClass(HasIncrement.class));
+    assertThat(mutations).hasSize(1);
+    return mutations.get(0);
+  }
+
+  private Mutater classOnlyMutater() {
+    return new Mutater() {
+      @Override
+      public Mutant getMutation(MutationIdentifier id) {
+        return MethodTreeTest.this.mutater.getMutation(id);
+      }
+
+      @Override
+      public List<MutationDetails> findMutations(ClassName classToMutate) {
+        return MethodTreeTest.this.mutater.findMutations(classToMutate);
+      }
+    };
+  }
+
+  private byte[] bytesFor(Class<?> clazz) {
+    return this.source.getBytes(clazz.getName()).value();
+  }
+
+}
+
+class HasIncrement {
+  int increment(int i) {
+    i++;
+    return i;
+  }
+}
@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.Before;
@@ -140,6 +141,61 @@ public class CoverageDataTest {
         this.testee.getTestsForClass(this.foo), testInfoToString()));
   }
 
+  @Test
+  public void shouldReturnClassesCoveredByEachTest() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+    this.testee.calculateClassCoverage(makeCoverageResult("bar", "fooTest", 0,
+        1));
+    this.testee.calculateClassCoverage(makeCoverageResult("bar", "barTest", 0,
+        1));
+    assertThat(this.testee.getClassesCoveredByTest("fooTest")).containsOnly(
+        ClassName.fromString("foo"), ClassName.fromString("bar"));
+    assertThat(this.testee.getClassesCoveredByTest("barTest")).containsOnly(
+        ClassName.fromString("bar"));
+    assertThat(this.testee.getClassesCoveredByTest("unknown")).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnBlocksOfMethodCoveredByEachTest() {
+    final Location method = Location.location(this.foo,
+        MethodName.fromString("foo"), "V");
+    this.testee.calculateClassCoverage(new CoverageResult(new Description(
+        "fooTest"), 0, true, Arrays.asList(new BlockLocation(method, 1),
+        new BlockLocation(method, 2))));
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "barTest", 0,
+        2));
+    this.testee.calculateClassCoverage(makeCoverageResult("bar", "bazTest", 0,
+        1));
+    final Map<String, Set<Integer>> actual = this.testee
+        .getBlocksCoveredByTests(method);
+    assertThat(actual.keySet()).containsOnly("fooTest", "barTest");
+    assertThat(actual.get("fooTest")).containsOnly(1, 2);
+    assertThat(actual.get("barTest")).containsOnly(2);
+  }
+
+  @Test
+  public void shouldReturnNoBlocksForUncoveredMethod() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+    final Location method = Location.location(this.foo,
+        MethodName.fromString("notCovered"), "V");
+    assertThat(this.testee.getBlocksCoveredByTests(method)).isEmpty();
+  }
+
+  @Test
+  public void shouldIncludeCoverageRecordedAfterBlocksWereFirstRequested() {
+    final Location method = Location.location(this.foo,
+        MethodName.fromString("foo"), "V");
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+    this.testee.getBlocksCoveredByTests(method);
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "barTest", 0,
+        2));
+    assertThat(this.testee.getBlocksCoveredByTests(method).keySet())
+        .containsOnly("fooTest", "barTest");
+  }
+
   @Test
   public void shouldReportAGreenSuiteWhenNoTestHasFailed() {
     this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 42,
@@ -165,8 +221,7 @@ public class CoverageDataTest {
   @Test
   public void shouldReturnCoverageIdOf0WhenNoTestsCoverClass() {
     assertEquals(0,
-        this.testee.getCoverageIdForClass(ClassName.fromString("unknown"))
-        .longValue());
+        this.testee.getCoverageIdForClass(ClassName.fromString("unknown")));
   }
 
   @Test
@@ -186,7 +241,7 @@ public class CoverageDataTest {
     this.testee.calculateClassCoverage(aCoverageResult().withVisitedBlocks(
         block.build(1)).build());
 
-    assertThat(this.testee.getCoverageIdForClass(foo).longValue())
+    assertThat(this.testee.getCoverageIdForClass(foo))
         .isNotEqualTo(0);
 
   }
@@ -213,6 +268,22 @@ public class CoverageDataTest {
     assertThat(actual.getTests()).contains("FooTest.fooTest");
   }
 
+  @Test
+  public void shouldProvideViewOfSameCoverageAsList() {
+    BlockLocationBuilder block = aBlockLocation().withLocation(
+        aLocation().withClass(this.foo));
+    this.testee.calculateClassCoverage(aCoverageResult().withVisitedBlocks(
+        block.build(1)).build());
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+
+    final Collection<BlockCoverage> actual = this.testee.coverageView();
+    assertEquals(this.testee.createCoverage().size(), actual.size());
+    final BlockCoverage first = actual.iterator().next();
+    assertEquals(block.build(), first.getBlock());
+    assertThat(first.getTests()).contains("FooTest.fooTest");
+  }
+
   @Test
   public void shouldProvideListOfClassesForSourceFile() {
 
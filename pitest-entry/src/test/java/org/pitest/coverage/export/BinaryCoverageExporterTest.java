@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.coverage.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.coverage.CoverageMother.aBlockLocation;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageMother.BlockLocationBuilder;
+import org.pitest.mutationtest.LocationMother.LocationBuilder;
+import org.pitest.util.BinaryResultOutputStrategy;
+import org.pitest.util.PitError;
+
+public class BinaryCoverageExporterTest {
+
+  @Rule
+  public TemporaryFolder              folder = new TemporaryFolder();
+
+  private BinaryCoverageExporter      testee;
+
+  private final ByteArrayOutputStream out    = new ByteArrayOutputStream();
+
+  @Before
+  public void setup() {
+    this.testee = new BinaryCoverageExporter(createOutputStrategy());
+  }
+
+  private BinaryResultOutputStrategy createOutputStrategy() {
+    return new BinaryResultOutputStrategy() {
+
+      @Override
+      public OutputStream createOutputStreamForFile(final String sourceFile) {
+        return BinaryCoverageExporterTest.this.out;
+      }
+
+    };
+  }
+
+  @Test
+  public void shouldRoundTripEmptyCoverage() {
+    this.testee.recordCoverage(Collections.<BlockCoverage> emptyList());
+    assertThat(readBack()).isEmpty();
+  }
+
+  @Test
+  public void shouldRoundTripBlocksAndTests() {
+    final LocationBuilder loc = aLocation().withMethod("method");
+    final BlockLocationBuilder block = aBlockLocation().withBlock(42);
+    final Collection<BlockCoverage> coverage = Arrays.asList(
+        new BlockCoverage(block.withLocation(
+            loc.withClass(ClassName.fromString("Foo"))).build(), Arrays.asList(
+            "Test2", "Test1")),
+        new BlockCoverage(block.withLocation(
+            loc.withClass(ClassName.fromString("Bar"))).build(),
+            Collections.<String> emptyList()));
+
+    this.testee.recordCoverage(coverage);
+
+    final List<BlockCoverage> actual = readBack();
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(0).getBlock()).isEqualTo(
+        block.withLocation(loc.withClass(ClassName.fromString("Foo"))).build());
+    assertThat(actual.get(0).getTests()).containsExactly("Test1", "Test2");
+    assertThat(actual.get(1).getTests()).isEmpty();
+  }
+
+  @Test
+  public void shouldRoundTripBlocksCoveredByManyTests() {
+    final List<String> tests = new ArrayList<>();
+    for (int i = 0; i != 200; i++) {
+      tests.add("Test" + (1000 + i));
+    }
+    final BlockLocation block = aBlockLocation().build();
+    this.testee.recordCoverage(Arrays.asList(new BlockCoverage(block, tests),
+        new BlockCoverage(block, tests.subList(150, 200))));
+
+    final List<BlockCoverage> actual = readBack();
+    assertThat(actual.get(0).getTests()).containsExactlyElementsOf(tests);
+    assertThat(actual.get(1).getTests()).containsExactlyElementsOf(
+        tests.subList(150, 200));
+  }
+
+  @Test
+  public void shouldIterateSuppliedCoverageOnce() {
+    final List<BlockCoverage> blocks = Arrays.asList(new BlockCoverage(
+        aBlockLocation().build(), Arrays.asList("Test1")));
+    final AtomicInteger iterations = new AtomicInteger();
+    final Collection<BlockCoverage> view = new AbstractCollection<BlockCoverage>() {
+      @Override
+      public Iterator<BlockCoverage> iterator() {
+        iterations.incrementAndGet();
+        return blocks.iterator();
+      }
+
+      @Override
+      public int size() {
+        return blocks.size();
+      }
+    };
+
+    this.testee.recordCoverage(view);
+
+    assertThat(iterations.get()).isEqualTo(1);
+    assertThat(readBack()).hasSize(1);
+  }
+
+  @Test
+  public void shouldReadFromMappedFile() throws IOException {
+    final BlockLocation block = aBlockLocation().build();
+    this.testee.recordCoverage(Arrays.asList(new BlockCoverage(block, Arrays
+        .asList("Test1"))));
+    final File file = this.folder.newFile();
+    try (FileOutputStream fos = new FileOutputStream(file)) {
+      fos.write(this.out.toByteArray());
+    }
+
+    final List<BlockCoverage> actual = BinaryCoverageReader.read(file);
+    assertThat(actual.get(0).getBlock()).isEqualTo(block);
+    assertThat(actual.get(0).getTests()).containsExactly("Test1");
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectDataWithoutMagicNumber() {
+    BinaryCoverageReader.read(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4 }));
+  }
+
+  private List<BlockCoverage> readBack() {
+    return BinaryCoverageReader.read(ByteBuffer.wrap(this.out.toByteArray()));
+  }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class HistoricKillsTestPrioritiserTest {
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> history = new HashMap<>();
+
+  @Mock
+  private TestPrioritiser                                       child;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  public void shouldKeepOrderOfChildWhenNoHistoryForMethod() {
+    givenKilled("otherMethod", 0, "slow");
+    final List<TestInfo> tests = tests(test("fast", 1), test("slow", 100));
+    when(this.child.assignTests(any(MutationDetails.class))).thenReturn(tests);
+    assertSame(tests, testee().assignTests(mutantIn("foo", 1)));
+  }
+
+  @Test
+  public void shouldRunTestsThatKilledMutantsInSameMethodFirst() {
+    givenKilled("foo", 0, "slow");
+    givenChildAssigns(test("fast", 1), test("medium", 10), test("slow", 100));
+    assertEquals(Arrays.asList("slow", "fast", "medium"),
+        names(testee().assignTests(mutantIn("foo", 1))));
+  }
+
+  @Test
+  public void shouldPreferTestsThatKilledMoreMutantsAtSameCost() {
+    givenKilled("foo", 0, "a");
+    givenKilled("foo", 1, "b");
+    givenKilled("foo", 2, "b");
+    givenChildAssigns(test("a", 10), test("b", 10));
+    assertEquals(Arrays.asList("b", "a"),
+        names(testee().assignTests(mutantIn("foo", 3))));
+  }
+
+  @Test
+  public void shouldPreferCheaperKillersWhenKillsAreEqual() {
+    givenKilled("foo", 0, "slow", "fast");
+    givenChildAssigns(test("slow", 100), test("fast", 1));
+    assertEquals(Arrays.asList("fast", "slow"),
+        names(testee().assignTests(mutantIn("foo", 1))));
+  }
+
+  @Test
+  public void shouldRankKillersByCostPerKill() {
+    givenKilled("foo", 0, "frequent", "cheap");
+    givenKilled("foo", 1, "frequent");
+    givenKilled("foo", 2, "frequent");
+    givenChildAssigns(test("cheap", 10), test("frequent", 20));
+    assertEquals(Arrays.asList("frequent", "cheap"),
+        names(testee().assignTests(mutantIn("foo", 3))));
+  }
+
+  @Test
+  public void shouldIgnoreTestsRunAgainstMutantsThatWereNotKilled() {
+    this.history.put(id("foo", 0), new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, "slow"));
+    final List<TestInfo> tests = tests(test("fast", 1), test("slow", 100));
+    when(this.child.assignTests(any(MutationDetails.class))).thenReturn(tests);
+    assertSame(tests, testee().assignTests(mutantIn("foo", 1)));
+  }
+
+  private HistoricKillsTestPrioritiser testee() {
+    return new HistoricKillsTestPrioritiser(this.child, this.history);
+  }
+
+  private void givenKilled(final String method, final int index,
+      final String... killers) {
+    this.history.put(id(method, index), new MutationStatusTestPair(
+        killers.length, DetectionStatus.KILLED, Arrays.asList(killers)));
+  }
+
+  private void givenChildAssigns(final TestInfo... tests) {
+    when(this.child.assignTests(any(MutationDetails.class))).thenReturn(
+        tests(tests));
+  }
+
+  private static List<TestInfo> tests(final TestInfo... tests) {
+    return Collections.unmodifiableList(Arrays.asList(tests));
+  }
+
+  private static TestInfo test(final String name, final int time) {
+    return new TestInfo("foo", name, time, Option.<ClassName> none(), 0);
+  }
+
+  private static MutationIdentifier id(final String method, final int index) {
+    return new MutationIdentifier(aLocation().withClass(
+        ClassName.fromString("foo")).withMethod(method).build(), index,
+        "mutator");
+  }
+
+  private static MutationDetails mutantIn(final String method, final int index) {
+    return new MutationDetails(id(method, index), "file", "desc", 1, 2);
+  }
+
+  private static List<String> names(final List<TestInfo> tests) {
+    return FCollection.map(tests, new F<TestInfo, String>() {
+      @Override
+      public String apply(final TestInfo a) {
+        return a.getName();
+      }
+    });
+  }
+
+}
@@ -1,36 +1,51 @@
 package org.pitest.mutationtest.build;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationDetailsMother;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MutationTestProcess;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.testapi.Configuration;
+import org.pitest.util.ExitCode;
 
 public class MutationTestUnitTest {
 
   private MutationTestUnit      testee;
   private List<MutationDetails> mutations;
   private Collection<ClassName> tests;
+  private final List<Integer>   batchSizes = new ArrayList<>();
 
   @Mock
   private Configuration         config;
@@ -76,6 +91,128 @@ public class MutationTestUnitTest {
     assertThat(this.testee.priority()).isEqualTo(42);
   }
 
+  @Test
+  public void shouldReportMemoryErrorWhenMutantExhaustsFreshMinion()
+      throws Exception {
+    final List<MutationDetails> mutants = addCoveredMutations(1);
+    givenMinionsThat(exitWith(ExitCode.OUT_OF_MEMORY));
+    final MutationMetaData actual = this.testee.call();
+    assertThat(actual.getMutations()).containsOnly(
+        new MutationResult(mutants.get(0), new MutationStatusTestPair(0,
+            DetectionStatus.MEMORY_ERROR)));
+  }
+
+  @Test
+  public void shouldRetryMutantInNewMinionWhenMemoryExhaustedPartWayThroughUnit()
+      throws Exception {
+    addCoveredMutations(3);
+    givenMinionsThat(
+        exitWith(ExitCode.OUT_OF_MEMORY, DetectionStatus.KILLED,
+            DetectionStatus.STARTED), exitWith(ExitCode.OK,
+            DetectionStatus.KILLED), exitWith(ExitCode.OK,
+            DetectionStatus.KILLED));
+    final MutationMetaData actual = this.testee.call();
+    assertThat(statusesOf(actual)).containsOnly(DetectionStatus.KILLED);
+  }
+
+  @Test
+  public void shouldGiveLaterMinionsFewerMutationsWhenMemoryExhausted()
+      throws Exception {
+    addCoveredMutations(6);
+    givenMinionsThat(
+        exitWith(ExitCode.OUT_OF_MEMORY, DetectionStatus.KILLED,
+            DetectionStatus.KILLED, DetectionStatus.KILLED,
+            DetectionStatus.KILLED, DetectionStatus.STARTED),
+        exitWith(ExitCode.OK, DetectionStatus.KILLED, DetectionStatus.KILLED));
+    this.testee.call();
+    assertThat(this.batchSizes).containsExactly(6, 2);
+  }
+
+  @Test
+  public void shouldStillReportOtherMinionFailuresForUnfinishedMutant()
+      throws Exception {
+    addCoveredMutations(2);
+    givenMinionsThat(
+        exitWith(ExitCode.TIMEOUT, DetectionStatus.KILLED,
+            DetectionStatus.STARTED));
+    final MutationMetaData actual = this.testee.call();
+    assertThat(statusesOf(actual)).containsOnly(DetectionStatus.KILLED,
+        DetectionStatus.TIMED_OUT);
+  }
+
+  private void givenMinionsThat(final MinionScript... scripts) {
+    final LinkedList<MinionScript> remaining = new LinkedList<>(
+        Arrays.asList(scripts));
+    final WorkerFactory factory = mock(WorkerFactory.class);
+    when(
+        factory.createWorker(any(Collection.class), any(Collection.class)))
+        .thenAnswer(new Answer<MutationTestProcess>() {
+          @Override
+          public MutationTestProcess answer(final InvocationOnMock invocation)
+              throws Throwable {
+            final List<MutationDetails> batch = new ArrayList<>(
+                (Collection<MutationDetails>) invocation.getArguments()[0]);
+            MutationTestUnitTest.this.batchSizes.add(batch.size());
+            return remaining.removeFirst().minionFor(batch);
+          }
+        });
+    this.testee = new MutationTestUnit(this.mutations, this.tests, factory);
+  }
+
+  private static MinionScript exitWith(final ExitCode exitCode,
+      final DetectionStatus... statuses) {
+    return new MinionScript(exitCode, statuses);
+  }
+
+  private static class MinionScript {
+    private final ExitCode          exitCode;
+    private final DetectionStatus[] statuses;
+
+    MinionScript(final ExitCode exitCode, final DetectionStatus[] statuses) {
+      this.exitCode = exitCode;
+      this.statuses = statuses;
+    }
+
+    MutationTestProcess minionFor(final List<MutationDetails> batch)
+        throws Exception {
+      final MutationTestProcess minion = mock(MutationTestProcess.class);
+      doAnswer(new Answer<Void>() {
+        @Override
+        public Void answer(final InvocationOnMock invocation) {
+          final MutationStatusMap map = (MutationStatusMap) invocation
+              .getArguments()[0];
+          for (int i = 0; i != MinionScript.this.statuses.length; i++) {
+            map.setStatusForMutation(batch.get(i),
+                MinionScript.this.statuses[i]);
+          }
+          return null;
+        }
+      }).when(minion).results(any(MutationStatusMap.class));
+      when(minion.waitToDie()).thenReturn(this.exitCode);
+      return minion;
+    }
+  }
+
+  private static List<DetectionStatus> statusesOf(final MutationMetaData data) {
+    final List<DetectionStatus> statuses = new ArrayList<>();
+    for (final MutationResult each : data.getMutations()) {
+      statuses.add(each.getStatus());
+    }
+    return statuses;
+  }
+
+  private List<MutationDetails> addCoveredMutations(final int count) {
+    final List<TestInfo> coveringTests = Collections.singletonList(new TestInfo(
+        "FooTest", "fooTest", 0, Option.<ClassName> none(), 0));
+    for (int i = 0; i != count; i++) {
+      final MutationDetails mutation = new MutationDetails(aMutationId()
+          .withIndex(i).build(), "file", "desc", 0, 0);
+      mutation.addTestsInOrder(coveringTests);
+      this.mutations.add(mutation);
+    }
+    return this.mutations;
+  }
+
   private void addMutation() {
     this.mutations.add(new MutationDetails(aMutationId().build(), "file", "desc",
         0, 0));
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class RedundantTestReducerTest {
+
+  private RedundantTestReducer            testee;
+
+  private final Map<String, Set<Integer>> blocks = new HashMap<>();
+
+  @Mock
+  private TestPrioritiser                 child;
+
+  @Mock
+  private CoverageDatabase                coverage;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.coverage.getBlocksCoveredByTests(any(Location.class)))
+        .thenReturn(this.blocks);
+    this.testee = new RedundantTestReducer(this.child, this.coverage);
+  }
+
+  @Test
+  public void shouldKeepTestsCoveringDifferentBlocks() {
+    givenCoverage("a", 1, 2);
+    givenCoverage("b", 1, 3);
+    givenChildAssigns("a", "b");
+    final MutationDetails mutant = mutantIn("foo");
+    assertEquals(Arrays.asList("a", "b"), names(this.testee.assignTests(mutant)));
+    assertFalse(mutant.isTestsReduced());
+  }
+
+  @Test
+  public void shouldRemoveTestsWhoseCoverageIsSubsetOfEarlierTest() {
+    givenCoverage("a", 1, 2, 3);
+    givenCoverage("b", 1, 3);
+    givenCoverage("c", 1, 2, 3);
+    givenCoverage("d", 4);
+    givenChildAssigns("a", "b", "c", "d");
+    assertEquals(Arrays.asList("a", "d"),
+        names(this.testee.assignTests(mutantIn("foo"))));
+  }
+
+  @Test
+  public void shouldKeepTestsThatCoverMoreThanAnEarlierTest() {
+    givenCoverage("a", 1);
+    givenCoverage("b", 1, 2);
+    givenChildAssigns("a", "b");
+    assertEquals(Arrays.asList("a", "b"),
+        names(this.testee.assignTests(mutantIn("foo"))));
+  }
+
+  @Test
+  public void shouldKeepTestsWithNoRecordedCoverageOfMethod() {
+    givenCoverage("a", 1);
+    givenChildAssigns("a", "unknown");
+    assertEquals(Arrays.asList("a", "unknown"),
+        names(this.testee.assignTests(mutantIn("foo"))));
+  }
+
+  @Test
+  public void shouldMarkMutantsWhoseTestsWereReduced() {
+    givenCoverage("a", 1);
+    givenCoverage("b", 1);
+    givenChildAssigns("a", "b");
+    final MutationDetails mutant = mutantIn("foo");
+    this.testee.assignTests(mutant);
+    assertTrue(mutant.isTestsReduced());
+  }
+
+  @Test
+  public void shouldQueryCoverageOnceForConsecutiveMutantsInSameMethod() {
+    givenChildAssigns("a", "b");
+    this.testee.assignTests(mutantIn("foo"));
+    this.testee.assignTests(mutantIn("foo"));
+    this.testee.assignTests(mutantIn("bar"));
+    verify(this.coverage, times(2)).getBlocksCoveredByTests(
+        any(Location.class));
+  }
+
+  private void givenCoverage(final String test, final Integer... covered) {
+    this.blocks.put(test, new HashSet<>(Arrays.asList(covered)));
+  }
+
+  private void givenChildAssigns(final String... tests) {
+    final List<TestInfo> infos = FCollection.map(Arrays.asList(tests),
+        new F<String, TestInfo>() {
+          @Override
+          public TestInfo apply(final String a) {
+            return new TestInfo("foo", a, 1, Option.<ClassName> none(), 0);
+          }
+        });
+    when(this.child.assignTests(any(MutationDetails.class))).thenReturn(
+        Collections.unmodifiableList(infos));
+  }
+
+  private static MutationDetails mutantIn(final String method) {
+    final MutationIdentifier id = new MutationIdentifier(aLocation()
+        .withClass(ClassName.fromString("foo")).withMethod(method).build(), 0,
+        "mutator");
+    return new MutationDetails(id, "file", "desc", 1, 2);
+  }
+
+  private static List<String> names(final List<TestInfo> tests) {
+    return FCollection.map(tests, new F<TestInfo, String>() {
+      @Override
+      public String apply(final TestInfo a) {
+        return a.getName();
+      }
+    });
+  }
+
+}
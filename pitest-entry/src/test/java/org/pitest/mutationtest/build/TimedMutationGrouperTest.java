@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.metrics.Metrics;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class TimedMutationGrouperTest {
+
+  private final Metrics metrics = new Metrics();
+
+  private final TimedMutationGrouper testee = new TimedMutationGrouper(
+      new DefaultGrouper(2), this.metrics);
+
+  @Test
+  public void shouldReturnGroupsFromChild() {
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        Collections.<ClassName> emptyList(), aMutationDetail().build(3));
+    assertThat(actual).hasSize(2);
+  }
+
+  @Test
+  public void shouldRecordGroupingTimeAndUnitSizes() {
+    this.testee.groupMutations(Collections.<ClassName> emptyList(),
+        aMutationDetail().build(3));
+    assertThat(this.metrics.getHistogram("grouper.group_us").getCount())
+        .isEqualTo(1);
+    assertThat(this.metrics.getHistogram("grouper.unit_size").getTotal())
+        .isEqualTo(3);
+    assertThat(this.metrics.getHistogram("grouper.unit_size").getMax())
+        .isEqualTo(2);
+  }
+
+}
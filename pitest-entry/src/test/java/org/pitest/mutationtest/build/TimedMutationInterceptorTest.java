@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.Collection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.metrics.Metrics;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TimedMutationInterceptorTest {
+
+  @Mock
+  MutationInterceptor child;
+
+  @Mock
+  Mutater mutater;
+
+  Metrics metrics = new Metrics();
+
+  TimedMutationInterceptor testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new TimedMutationInterceptor(this.child,
+        this.metrics);
+  }
+
+  @Test
+  public void shouldReportTypeOfChild() {
+    when(this.child.type()).thenReturn(InterceptorType.FILTER);
+    assertThat(this.testee.type()).isEqualTo(InterceptorType.FILTER);
+  }
+
+  @Test
+  public void shouldDelegateToChild() {
+    ClassTree aClass = new ClassTree(null);
+    Collection<MutationDetails> mutations = aMutationDetail().build(2);
+    Collection<MutationDetails> filtered = aMutationDetail().build(1);
+    when(this.child.intercept(mutations, this.mutater)).thenReturn(filtered);
+
+    this.testee.begin(aClass);
+    assertThat(this.testee.intercept(mutations, this.mutater)).isSameAs(filtered);
+    this.testee.end();
+
+    verify(this.child).begin(aClass);
+    verify(this.child).end();
+  }
+
+  @Test
+  public void shouldRecordTimePerClassInMetrics() {
+    analyseOneClass(aMutationDetail().build(1), aMutationDetail().build(1));
+    analyseOneClass(aMutationDetail().build(1), aMutationDetail().build(1));
+
+    final String name = "interceptor." + this.child.getClass().getSimpleName() + "_us";
+    assertThat(this.metrics.getHistogram(name).getCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldCountMutationsRemoved() {
+    analyseOneClass(aMutationDetail().build(3), aMutationDetail().build(1));
+
+    final String name = "interceptor." + this.child.getClass().getSimpleName() + ".removed";
+    assertThat(this.metrics.getCounter(name)).isEqualTo(2);
+  }
+
+  private void analyseOneClass(Collection<MutationDetails> mutations,
+      Collection<MutationDetails> filtered) {
+    when(this.child.intercept(mutations, this.mutater)).thenReturn(filtered);
+    this.testee.begin(new ClassTree(null));
+    this.testee.intercept(mutations, this.mutater);
+    this.testee.end();
+  }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build.intercept.changes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Condition;
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
+import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodInfo;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+public class ChangedLinesFilterTest {
+
+  private static final String SOURCE = "org/pitest/mutationtest/build/intercept/changes/ChangedLinesFilterTest.java";
+
+  Mutater                     mutator;
+
+  @Before
+  public void setUp() {
+    final ClassloaderByteArraySource source = ClassloaderByteArraySource
+        .fromContext();
+    this.mutator = new GregorMutater(source, True.<MethodInfo> all(),
+        Mutator.defaults());
+  }
+
+  @Test
+  public void shouldDeclareTypeAsFilter() {
+    assertThat(new ChangedLinesFilter(noChanges(), false).type()).isEqualTo(
+        InterceptorType.FILTER);
+  }
+
+  @Test
+  public void shouldFilterAllMutantsInFilesWithoutChangedLines() {
+    final Map<String, List<Integer>> noLines = Collections.singletonMap(
+        SOURCE, Collections.<Integer> emptyList());
+    assertThat(analyse(new ChangedLinesFilter(noLines, true))).isEmpty();
+  }
+
+  @Test
+  public void shouldKeepAllMutantsInFilesMissingFromChanges() {
+    assertThat(analyse(new ChangedLinesFilter(noChanges(), true))).hasSize(
+        allMutants().size());
+  }
+
+  @Test
+  public void shouldKeepOnlyMutantsOnChangedLines() {
+    final int changed = firstLineOf("twoLines");
+    final Collection<MutationDetails> actual = analyse(new ChangedLinesFilter(
+        changesTo(changed), false));
+    assertThat(actual).isNotEmpty();
+    assertThat(actual).are(onLine(changed));
+    assertThat(actual).hasSize(
+        FCollection.filter(allMutants(), onLineFilter(changed)).size());
+  }
+
+  @Test
+  public void shouldKeepAllMutantsInMethodsContainingAChangedLine() {
+    final Collection<MutationDetails> actual = analyse(new ChangedLinesFilter(
+        changesTo(firstLineOf("twoLines")), true));
+    assertThat(actual).are(inMethod("twoLines"));
+    assertThat(actual).hasSize(
+        FCollection.filter(allMutants(), inMethodFilter("twoLines")).size());
+    assertThat(new HashSet<>(FCollection.map(actual, lineOf()))).hasSize(2);
+  }
+
+  private Collection<MutationDetails> analyse(final ChangedLinesFilter testee) {
+    testee.begin(treeFor(HasChanges.class));
+    final Collection<MutationDetails> actual = testee.intercept(allMutants(),
+        this.mutator);
+    testee.end();
+    return actual;
+  }
+
+  private List<MutationDetails> allMutants() {
+    return this.mutator.findMutations(ClassName.fromClass(HasChanges.class));
+  }
+
+  private int firstLineOf(final String method) {
+    return FCollection.filter(allMutants(), inMethodFilter(method)).get(0)
+        .getLineNumber();
+  }
+
+  private static Map<String, List<Integer>> noChanges() {
+    return Collections.emptyMap();
+  }
+
+  private static Map<String, List<Integer>> changesTo(final int line) {
+    return Collections.singletonMap(SOURCE, Collections.singletonList(line));
+  }
+
+  private static Condition<MutationDetails> onLine(final int line) {
+    return new Condition<MutationDetails>("mutants on line " + line) {
+      @Override
+      public boolean matches(final MutationDetails value) {
+        return value.getLineNumber() == line;
+      }
+    };
+  }
+
+  private static Condition<MutationDetails> inMethod(final String name) {
+    return new Condition<MutationDetails>("mutants in " + name) {
+      @Override
+      public boolean matches(final MutationDetails value) {
+        return inMethodFilter(name).apply(value);
+      }
+    };
+  }
+
+  private static F<MutationDetails, Boolean> onLineFilter(
+      final int line) {
+    return new F<MutationDetails, Boolean>() {
+      @Override
+      public Boolean apply(final MutationDetails a) {
+        return a.getLineNumber() == line;
+      }
+    };
+  }
+
+  private static F<MutationDetails, Boolean> inMethodFilter(
+      final String name) {
+    return new F<MutationDetails, Boolean>() {
+      @Override
+      public Boolean apply(final MutationDetails a) {
+        return a.getId().getLocation().getMethodName().name().equals(name);
+      }
+    };
+  }
+
+  private static F<MutationDetails, Integer> lineOf() {
+    return new F<MutationDetails, Integer>() {
+      @Override
+      public Integer apply(final MutationDetails a) {
+        return a.getLineNumber();
+      }
+    };
+  }
+
+  private static ClassTree treeFor(final Class<?> clazz) {
+    final ClassloaderByteArraySource source = ClassloaderByteArraySource
+        .fromContext();
+    return ClassTree.fromBytes(source.getBytes(clazz.getName()).value());
+  }
+
+}
+
+class HasChanges {
+
+  public int oneLine(final int i) {
+    return i + 1;
+  }
+
+  public int twoLines(final int i) {
+    final int j = i + 2;
+    return j * 3;
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.config;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.ListenerArguments;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.ResultOutputStrategy;
+
+public class ModuleReportListenerFactoryTest {
+
+  @Rule
+  public final TemporaryFolder          folder  = new TemporaryFolder();
+
+  @Mock
+  private MutationResultListenerFactory child;
+
+  @Mock
+  private ResultOutputStrategy          allOutput;
+
+  private final MutationResultListener  all     = mock(MutationResultListener.class);
+  private final MutationResultListener  moduleA = mock(MutationResultListener.class);
+  private final MutationResultListener  moduleB = mock(MutationResultListener.class);
+
+  private ListenerArguments             args;
+  private ModuleReportListenerFactory   testee;
+
+  @Before
+  public void setUp() throws IOException {
+    MockitoAnnotations.initMocks(this);
+    this.args = new ListenerArguments(this.allOutput, null, null, null, 0);
+
+    final File classesA = this.folder.newFolder("a");
+    new File(classesA, "com/example").mkdirs();
+    new File(classesA, "com/example/Foo.class").createNewFile();
+    final File classesB = this.folder.newFolder("b");
+    new File(classesB, "Bar.class").createNewFile();
+
+    final Map<String, File> modules = new LinkedHashMap<>();
+    modules.put(classesA.getAbsolutePath(), this.folder.newFolder("a-reports"));
+    modules.put(classesB.getAbsolutePath(), this.folder.newFolder("b-reports"));
+
+    // listeners are created for the combined report, then for each module in
+    // turn
+    when(
+        this.child.getListener(any(Properties.class),
+            any(ListenerArguments.class))).thenReturn(this.all, this.moduleA,
+        this.moduleB);
+
+    this.testee = new ModuleReportListenerFactory(this.child, modules,
+        new UndatedReportDirCreationStrategy());
+  }
+
+  @Test
+  public void shouldStartAndEndAllListeners() {
+    final MutationResultListener actual = this.testee.getListener(
+        new Properties(), this.args);
+    actual.runStart();
+    actual.runEnd();
+    verify(this.all).runStart();
+    verify(this.moduleA).runStart();
+    verify(this.moduleB).runEnd();
+  }
+
+  @Test
+  public void shouldSendResultsToCombinedReportAndReportForModuleOfClass() {
+    final ClassMutationResults results = resultsFor("com.example.Foo");
+    this.testee.getListener(new Properties(), this.args).handleMutationResult(
+        results);
+    verify(this.all).handleMutationResult(results);
+    verify(this.moduleA).handleMutationResult(results);
+    verify(this.moduleB, never()).handleMutationResult(results);
+  }
+
+  @Test
+  public void shouldSendResultsForClassesInNoModuleOnlyToCombinedReport() {
+    final ClassMutationResults results = resultsFor("com.example.Unknown");
+    this.testee.getListener(new Properties(), this.args).handleMutationResult(
+        results);
+    verify(this.all).handleMutationResult(results);
+    verify(this.moduleA, never()).handleMutationResult(results);
+    verify(this.moduleB, never()).handleMutationResult(results);
+  }
+
+  private static ClassMutationResults resultsFor(final String clazz) {
+    final MutationDetails details = new MutationDetails(aMutationId()
+        .withLocation(aLocation(clazz)).build(), "file", "desc", 1, 0);
+    return new ClassMutationResults(Collections.singletonList(new MutationResult(
+        details, new MutationStatusTestPair(1, DetectionStatus.KILLED))));
+  }
+
+}
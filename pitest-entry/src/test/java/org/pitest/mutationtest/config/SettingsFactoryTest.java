@@ -67,6 +67,14 @@ public class SettingsFactoryTest {
     assertNotNull(this.testee.createListener());
   }
 
+  @Test
+  public void shouldSplitReportsByModuleWhenModuleReportDirsSet() {
+    this.options.addOutputFormats(Arrays.asList("XML"));
+    this.options.setModuleReportDirs(Collections.singletonMap("classes",
+        new File("reports")));
+    assertTrue(this.testee.createListener() instanceof ModuleReportListenerFactory);
+  }
+
   @Test(expected = PitError.class)
   public void shouldThrowErrorWhenRequestedListenerNotKnown() {
     this.options.addOutputFormats(Arrays.asList("unknown"));
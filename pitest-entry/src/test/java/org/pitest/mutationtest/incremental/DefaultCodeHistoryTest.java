@@ -6,6 +6,8 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,10 +21,13 @@ import org.pitest.classinfo.ClassInfoMother;
 import org.pitest.classinfo.ClassInfoSource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class DefaultCodeHistoryTest {
@@ -68,6 +73,63 @@ public class DefaultCodeHistoryTest {
         .hasClassChanged(ClassName.fromString("notInLastRun")));
   }
 
+  @Test
+  public void shouldTreatMethodsWithSameHashAsUnchangedWhenClassHasChanged() {
+    final ClassName foo = ClassName.fromClass(HasMethods.class);
+    setCurrentClassPath(ClassInfoMother.make(new ClassIdentifier(42, foo)));
+    final Map<String, String> hashes = new HashMap<>(
+        currentMethodHashes().hashesFor(foo));
+    hashes.put("a()I", "changed");
+    this.historicClassPath.put(foo, new ClassHistory(new HierarchicalClassId(
+        41, foo, "0"), "", hashes));
+    this.testee = new DefaultCodeHistory(this.classInfoSource, this.results,
+        this.historicClassPath,
+        Collections.<String, Collection<ClassName>> emptyMap(),
+        currentMethodHashes());
+
+    assertTrue(this.testee.hasClassChanged(foo));
+    assertFalse(this.testee.hasMethodChanged(Location.location(foo,
+        MethodName.fromString("b"), "()I")));
+    assertTrue(this.testee.hasMethodChanged(Location.location(foo,
+        MethodName.fromString("a"), "()I")));
+  }
+
+  @Test
+  public void shouldTreatAllMethodsAsChangedWhenNoMethodHashesSupplied() {
+    final ClassName foo = ClassName.fromClass(HasMethods.class);
+    setCurrentClassPath(ClassInfoMother.make(new ClassIdentifier(42, foo)));
+    this.historicClassPath.put(foo, new ClassHistory(new HierarchicalClassId(
+        41, foo, "0"), "", currentMethodHashes().hashesFor(foo)));
+
+    assertTrue(this.testee.hasMethodChanged(Location.location(foo,
+        MethodName.fromString("b"), "()I")));
+  }
+
+  @Test
+  public void shouldTreatAllMethodsOfClassWithoutRecordedHashesAsChanged() {
+    final ClassName foo = ClassName.fromClass(HasMethods.class);
+    setCurrentClassPath(ClassInfoMother.make(new ClassIdentifier(42, foo)));
+    this.historicClassPath.put(foo, makeHistory(new HierarchicalClassId(41,
+        foo, "0")));
+    this.testee = new DefaultCodeHistory(this.classInfoSource, this.results,
+        this.historicClassPath,
+        Collections.<String, Collection<ClassName>> emptyMap(),
+        currentMethodHashes());
+
+    assertTrue(this.testee.hasMethodChanged(Location.location(foo,
+        MethodName.fromString("b"), "()I")));
+  }
+
+  @Test
+  public void shouldTreatClassesNoLongerOnClassPathAsChanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    when(this.classInfoSource.fetchClass(foo)).thenReturn(
+        Option.<ClassInfo> none());
+    this.historicClassPath.put(foo, makeHistory(new HierarchicalClassId(0,
+        foo, "0")));
+    assertTrue(this.testee.hasClassChanged(foo));
+  }
+
   @Test
   public void shouldTreatClassesWithDifferentHashesAsChanged() {
     final long currentHash = 42;
@@ -89,7 +151,7 @@ public class DefaultCodeHistoryTest {
     final ClassInfo currentFoo = ClassInfoMother.make(currentId, parent);
 
     final ClassInfo modifiedParent = ClassInfoMother.make(new ClassIdentifier(
-        parent.getHash().longValue() + 1, ClassName.fromString("parent")));
+        parent.getHash() + 1, ClassName.fromString("parent")));
     final ClassInfo modifiedFoo = ClassInfoMother.make(currentId,
         modifiedParent);
 
@@ -116,10 +178,14 @@ public class DefaultCodeHistoryTest {
   }
 
   private void setCurrentClassPath(final ClassInfo info) {
-    when(this.classInfoSource.fetchClass(ClassName.fromString("foo")))
+    when(this.classInfoSource.fetchClass(info.getName()))
     .thenReturn(Option.some(info));
   }
 
+  private static MethodHashes currentMethodHashes() {
+    return new MethodHashes(ClassloaderByteArraySource.fromContext());
+  }
+
   private ClassHistory makeHistory(final HierarchicalClassId id) {
     return new ClassHistory(id, "");
   }
@@ -128,4 +194,14 @@ public class DefaultCodeHistoryTest {
     return makeHistory(ci.getHierarchicalId());
   }
 
+  static class HasMethods {
+    int a() {
+      return b() + 1;
+    }
+
+    int b() {
+      return 2;
+    }
+  }
+
 }
@@ -1,14 +1,20 @@
 package org.pitest.mutationtest.incremental;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
-import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -17,10 +23,12 @@ import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.TestInfo;
+import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
@@ -59,7 +67,7 @@ public class IncrementalAnalyserTest {
     setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
     when(
         this.history.hasCoverageChanged(any(ClassName.class),
-            any(BigInteger.class))).thenReturn(true);
+            anyLong())).thenReturn(true);
     final Collection<MutationResult> actual = this.testee.analyse(Collections
         .singletonList(md));
     assertEquals(DetectionStatus.NOT_STARTED, actual.iterator().next()
@@ -72,17 +80,42 @@ public class IncrementalAnalyserTest {
     setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
     when(
         this.history.hasCoverageChanged(any(ClassName.class),
-            any(BigInteger.class))).thenReturn(false);
+            anyLong())).thenReturn(false);
     final Collection<MutationResult> actual = this.testee.analyse(Collections
         .singletonList(md));
     assertEquals(DetectionStatus.SURVIVED, actual.iterator().next().getStatus());
   }
 
+  @Test
+  public void shouldNotReportTestsReducedForSurvivorsTakenFromHistory() {
+    final MutationDetails md = makeMutation("foo");
+    md.markTestsReduced();
+    setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
+    final Collection<MutationResult> actual = this.testee.analyse(Collections
+        .singletonList(md));
+    assertEquals(DetectionStatus.SURVIVED, actual.iterator().next().getStatus());
+    assertFalse(actual.iterator().next().getDetails().isTestsReduced());
+  }
+
+  @Test
+  public void shouldKeepTestsReducedForMutationsThatWillBeRun() {
+    final MutationDetails md = makeMutation("foo");
+    md.markTestsReduced();
+    when(this.history.getPreviousResult(any(MutationIdentifier.class)))
+    .thenReturn(Option.<MutationStatusTestPair> none());
+    final Collection<MutationResult> actual = this.testee.analyse(Collections
+        .singletonList(md));
+    assertEquals(DetectionStatus.NOT_STARTED, actual.iterator().next()
+        .getStatus());
+    assertTrue(actual.iterator().next().getDetails().isTestsReduced());
+  }
+
   @Test
   public void shouldStartPreviousTimedOutMutationsAtAStatusOfNotStartedWhenClassHasChanged() {
     final MutationDetails md = makeMutation("foo");
     setHistoryForAllMutationsTo(DetectionStatus.TIMED_OUT);
     when(this.history.hasClassChanged(any(ClassName.class))).thenReturn(true);
+    when(this.history.hasMethodChanged(any(Location.class))).thenReturn(true);
     final Collection<MutationResult> actual = this.testee.analyse(Collections
         .singletonList(md));
 
@@ -90,6 +123,36 @@ public class IncrementalAnalyserTest {
         .getStatus());
   }
 
+  @Test
+  public void shouldStartPreviousTimedOutMutationsAtAStatusOfTimedOutWhenOnlyOtherMethodsHaveChanged() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.TIMED_OUT);
+    when(this.history.hasClassChanged(any(ClassName.class))).thenReturn(true);
+    when(this.history.hasMethodChanged(md.getId().getLocation())).thenReturn(
+        false);
+    final Collection<MutationResult> actual = this.testee.analyse(Collections
+        .singletonList(md));
+
+    assertEquals(DetectionStatus.TIMED_OUT, actual.iterator().next()
+        .getStatus());
+  }
+
+  @Test
+  public void shouldStartPreviousKilledMutationsAtAStatusOfKilledWhenOnlyOtherMethodsOfTheMutatedClassHaveChanged() {
+    final MutationDetails md = makeMutation("foo");
+    final String killingTest = "fooTest";
+    setHistoryForAllMutationsTo(DetectionStatus.KILLED, killingTest);
+    setCoveringTest(md, killingTest);
+    when(this.coverage.getClassesCoveredByTest(killingTest)).thenReturn(
+        Collections.singleton(md.getClassName()));
+    when(this.history.hasClassChanged(md.getClassName())).thenReturn(true);
+
+    final MutationResult actual = this.testee
+        .analyse(Collections.singletonList(md)).iterator().next();
+
+    assertEquals(DetectionStatus.KILLED, actual.getStatus());
+  }
+
   @Test
   public void shouldStartPreviousTimedOutMutationsAtAStatusOfTimedOutWhenClassHasNotChanged() {
     final MutationDetails md = makeMutation("foo");
@@ -107,11 +170,7 @@ public class IncrementalAnalyserTest {
     final MutationDetails md = makeMutation("foo");
     final String killingTest = "fooTest";
     setHistoryForAllMutationsTo(DetectionStatus.KILLED, killingTest);
-
-    final Collection<TestInfo> tests = Collections.singleton(new TestInfo(
-        "TEST_CLASS", killingTest, 0, Option.<ClassName> none(), 0));
-    when(this.coverage.getTestsForClass(any(ClassName.class)))
-    .thenReturn(tests);
+    setCoveringTest(md, killingTest);
     when(this.history.hasClassChanged(any(ClassName.class))).thenReturn(false);
     final MutationResult actual = this.testee
         .analyse(Collections.singletonList(md)).iterator().next();
@@ -125,11 +184,7 @@ public class IncrementalAnalyserTest {
     final MutationDetails md = makeMutation("foo");
     final String killingTest = "fooTest";
     setHistoryForAllMutationsTo(DetectionStatus.KILLED, killingTest);
-
-    final Collection<TestInfo> tests = Collections.singleton(new TestInfo(
-        "TEST_CLASS", killingTest, 0, Option.<ClassName> none(), 0));
-    when(this.coverage.getTestsForClass(any(ClassName.class)))
-    .thenReturn(tests);
+    setCoveringTest(md, killingTest);
     when(this.history.hasClassChanged(ClassName.fromString("foo"))).thenReturn(
         false);
     when(this.history.hasClassChanged(ClassName.fromString("TEST_CLASS")))
@@ -140,6 +195,113 @@ public class IncrementalAnalyserTest {
     assertEquals(DetectionStatus.NOT_STARTED, actual.getStatus());
   }
 
+  @Test
+  public void shouldStartPreviousKilledMutationsAtAStatusOfNotStartedWhenClassExecutedByKillingTestHasChanged() {
+    final MutationDetails md = makeMutation("foo");
+    final String killingTest = "fooTest";
+    setHistoryForAllMutationsTo(DetectionStatus.KILLED, killingTest);
+    setCoveringTest(md, killingTest);
+    final ClassName callee = ClassName.fromString("Callee");
+    when(this.coverage.getClassesCoveredByTest(killingTest)).thenReturn(
+        Collections.singleton(callee));
+    when(this.history.hasClassChanged(callee)).thenReturn(true);
+
+    final MutationResult actual = this.testee
+        .analyse(Collections.singletonList(md)).iterator().next();
+
+    assertEquals(DetectionStatus.NOT_STARTED, actual.getStatus());
+  }
+
+  @Test
+  public void shouldStartPreviousKilledMutationsAtAStatusOfNotStartedWhenClassPreviouslyExecutedByKillingTestHasChanged() {
+    final MutationDetails md = makeMutation("foo");
+    final String killingTest = "fooTest";
+    setHistoryForAllMutationsTo(DetectionStatus.KILLED, killingTest);
+    setCoveringTest(md, killingTest);
+    final ClassName callee = ClassName.fromString("Callee");
+    when(this.history.getPreviousTestDependencies(killingTest)).thenReturn(
+        Collections.singleton(callee));
+    when(this.history.hasClassChanged(callee)).thenReturn(true);
+
+    final MutationResult actual = this.testee
+        .analyse(Collections.singletonList(md)).iterator().next();
+
+    assertEquals(DetectionStatus.NOT_STARTED, actual.getStatus());
+  }
+
+  @Test
+  public void shouldStartPreviousSurvivedMutationsAtAStatusOfNotStartedWhenClassExecutedByCoveringTestHasChanged() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
+    setCoveringTest(md, "fooTest");
+    final ClassName callee = ClassName.fromString("Callee");
+    when(this.coverage.getClassesCoveredByTest("fooTest")).thenReturn(
+        Collections.singleton(callee));
+    when(this.history.hasClassChanged(callee)).thenReturn(true);
+
+    final MutationResult actual = this.testee
+        .analyse(Collections.singletonList(md)).iterator().next();
+
+    assertEquals(DetectionStatus.NOT_STARTED, actual.getStatus());
+  }
+
+  @Test
+  public void shouldStartPreviousKilledMutationsAtAStatusOfKilledUsingCheapestUnchangedKillingTest() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.KILLED,
+        Arrays.asList("slowTest", "changedTest", "fastTest"));
+    md.addTestsInOrder(Arrays.asList(aTest("CHANGED", "changedTest", 1),
+        aTest("TEST_CLASS", "slowTest", 100),
+        aTest("TEST_CLASS", "fastTest", 10),
+        aTest("TEST_CLASS", "notAKiller", 0)));
+    when(this.history.hasClassChanged(ClassName.fromString("CHANGED")))
+    .thenReturn(true);
+
+    final MutationResult actual = this.testee
+        .analyse(Collections.singletonList(md)).iterator().next();
+
+    assertEquals(DetectionStatus.KILLED, actual.getStatus());
+    assertEquals(Option.some("fastTest"), actual.getKillingTest());
+  }
+
+  @Test
+  public void shouldRunPreviousKillingTestsFirstWhenKilledMutationMustBeRerun() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.KILLED,
+        Arrays.asList("slowTest", "fastTest"));
+    md.addTestsInOrder(Arrays.asList(aTest("TEST_CLASS", "otherTest", 0),
+        aTest("TEST_CLASS", "slowTest", 100),
+        aTest("TEST_CLASS", "fastTest", 10)));
+    when(this.history.hasClassChanged(ClassName.fromString("TEST_CLASS")))
+    .thenReturn(true);
+
+    final MutationResult actual = this.testee
+        .analyse(Collections.singletonList(md)).iterator().next();
+
+    assertEquals(DetectionStatus.NOT_STARTED, actual.getStatus());
+    assertEquals(Arrays.asList("fastTest", "slowTest", "otherTest"),
+        FCollection.map(md.getTestsInOrder(), TestInfo.toName()));
+  }
+
+  @Test
+  public void shouldCheckEachClassForChangesOnlyOnce() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
+    setCoveringTest(md, "fooTest");
+
+    this.testee.analyse(Arrays.asList(md, md));
+
+    verify(this.history, times(1)).hasClassChanged(md.getClassName());
+  }
+
+  private void setCoveringTest(final MutationDetails md, final String testName) {
+    final Collection<TestInfo> tests = Collections.singleton(new TestInfo(
+        "TEST_CLASS", testName, 0, Option.<ClassName> none(), 0));
+    when(this.coverage.getTestsForClass(any(ClassName.class)))
+    .thenReturn(tests);
+    md.addTestsInOrder(tests);
+  }
+
   private MutationDetails makeMutation(final String method) {
     final MutationIdentifier id = aMutationId().withLocation(
         aLocation().withMethod(method)).build();
@@ -150,6 +312,17 @@ public class IncrementalAnalyserTest {
     setHistoryForAllMutationsTo(status, "bar");
   }
 
+  private void setHistoryForAllMutationsTo(final DetectionStatus status,
+      final List<String> tests) {
+    when(this.history.getPreviousResult(any(MutationIdentifier.class)))
+    .thenReturn(Option.some(new MutationStatusTestPair(0, status, tests)));
+  }
+
+  private static TestInfo aTest(final String testClass, final String name,
+      final int time) {
+    return new TestInfo(testClass, name, time, Option.<ClassName> none(), 0);
+  }
+
   private void setHistoryForAllMutationsTo(final DetectionStatus status,
       final String test) {
     when(this.history.getPreviousResult(any(MutationIdentifier.class)))
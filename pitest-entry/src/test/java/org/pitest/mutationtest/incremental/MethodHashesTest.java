@@ -0,0 +1,204 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+
+public class MethodHashesTest {
+
+  private final ClassByteArraySource source = ClassloaderByteArraySource
+      .fromContext();
+
+  @Test
+  public void shouldHashEachMethodAndTheClassDeclaration() {
+    final Map<String, String> actual = MethodHashes.hash(bytes());
+    assertThat(actual).containsKeys("a()I", "b()I", "c()I", "<init>()V",
+        MethodHashes.CLASS_KEY);
+  }
+
+  @Test
+  public void shouldReturnNoHashesForUnknownClass() {
+    assertThat(
+        new MethodHashes(this.source).hashesFor(ClassName
+            .fromString("not.Known"))).isEmpty();
+  }
+
+  @Test
+  public void shouldIgnoreChangesToLineNumbers() {
+    final ClassWriter cw = new ClassWriter(0);
+    new ClassReader(bytes()).accept(new ClassVisitor(Opcodes.ASM5, cw) {
+      @Override
+      public MethodVisitor visitMethod(final int access, final String name,
+          final String desc, final String signature, final String[] exceptions) {
+        return new MethodVisitor(Opcodes.ASM5, super.visitMethod(access, name,
+            desc, signature, exceptions)) {
+          @Override
+          public void visitLineNumber(final int line, final Label start) {
+            super.visitLineNumber(line + 100, start);
+          }
+        };
+      }
+    }, 0);
+    assertThat(MethodHashes.hash(cw.toByteArray())).isEqualTo(
+        MethodHashes.hash(bytes()));
+  }
+
+  @Test
+  public void shouldIgnoreConstantPoolOrder() {
+    // writing without the reader rebuilds the constant pool in visit order
+    final ClassWriter cw = new ClassWriter(0);
+    new ClassReader(bytes()).accept(cw, 0);
+    assertThat(MethodHashes.hash(cw.toByteArray())).isEqualTo(
+        MethodHashes.hash(bytes()));
+  }
+
+  @Test
+  public void shouldChangeHashOfModifiedMethodAndItsCallersOnly() {
+    final Map<String, String> before = MethodHashes.hash(bytes());
+    final Map<String, String> after = MethodHashes.hash(modifyMethodB());
+
+    assertThat(after.get("b()I")).isNotEqualTo(before.get("b()I"));
+    assertThat(after.get("a()I")).isNotEqualTo(before.get("a()I"));
+    assertThat(after.get("c()I")).isEqualTo(before.get("c()I"));
+    assertThat(after.get(MethodHashes.CLASS_KEY)).isEqualTo(
+        before.get(MethodHashes.CLASS_KEY));
+  }
+
+  @Test
+  public void shouldChangeHashOfMethodWhenBodyOfItsLambdaChanges() {
+    final Map<String, String> before = MethodHashes.hash(classWithLambda(2));
+    final Map<String, String> after = MethodHashes.hash(classWithLambda(4));
+
+    assertThat(after.get("a()Ljava/lang/Runnable;")).isNotEqualTo(
+        before.get("a()Ljava/lang/Runnable;"));
+  }
+
+  @Test
+  public void shouldChangeClassHashWhenFieldInitialiserChanges() {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes()).accept(node, 0);
+    for (final MethodNode method : node.methods) {
+      if (method.name.equals("<init>")) {
+        for (final AbstractInsnNode each : method.instructions.toArray()) {
+          if (each.getOpcode() == Opcodes.BIPUSH) {
+            method.instructions.set(each, new IntInsnNode(Opcodes.BIPUSH, 20));
+          }
+        }
+      }
+    }
+    final ClassWriter cw = new ClassWriter(0);
+    node.accept(cw);
+
+    assertThat(MethodHashes.hash(cw.toByteArray()).get(MethodHashes.CLASS_KEY))
+        .isNotEqualTo(MethodHashes.hash(bytes()).get(MethodHashes.CLASS_KEY));
+  }
+
+  private byte[] classWithLambda(final int constantInLambda) {
+    final ClassNode node = new ClassNode();
+    node.version = Opcodes.V1_8;
+    node.access = Opcodes.ACC_PUBLIC;
+    node.name = "com/example/HasLambda";
+    node.superName = "java/lang/Object";
+
+    final MethodNode a = new MethodNode(Opcodes.ACC_PUBLIC, "a",
+        "()Ljava/lang/Runnable;", null, null);
+    final Handle metafactory = new Handle(Opcodes.H_INVOKESTATIC,
+        "java/lang/invoke/LambdaMetafactory", "metafactory",
+        "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;"
+            + "Ljava/lang/invoke/MethodType;Ljava/lang/invoke/MethodType;"
+            + "Ljava/lang/invoke/MethodHandle;Ljava/lang/invoke/MethodType;)"
+            + "Ljava/lang/invoke/CallSite;");
+    a.instructions.add(new InvokeDynamicInsnNode("run",
+        "()Ljava/lang/Runnable;", metafactory, Type.getType("()V"),
+        new Handle(Opcodes.H_INVOKESTATIC, node.name, "lambda$a$0", "()V"),
+        Type.getType("()V")));
+    a.instructions.add(new InsnNode(Opcodes.ARETURN));
+    a.maxStack = 1;
+    a.maxLocals = 1;
+    node.methods.add(a);
+
+    final MethodNode lambda = new MethodNode(Opcodes.ACC_PRIVATE
+        | Opcodes.ACC_STATIC | Opcodes.ACC_SYNTHETIC, "lambda$a$0", "()V",
+        null, null);
+    lambda.instructions.add(new IntInsnNode(Opcodes.BIPUSH, constantInLambda));
+    lambda.instructions.add(new InsnNode(Opcodes.POP));
+    lambda.instructions.add(new InsnNode(Opcodes.RETURN));
+    lambda.maxStack = 1;
+    node.methods.add(lambda);
+
+    final ClassWriter cw = new ClassWriter(0);
+    node.accept(cw);
+    return cw.toByteArray();
+  }
+
+  private byte[] modifyMethodB() {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes()).accept(node, 0);
+    for (final MethodNode method : node.methods) {
+      if (method.name.equals("b")) {
+        for (final AbstractInsnNode each : method.instructions.toArray()) {
+          if (each.getOpcode() == Opcodes.ICONST_2) {
+            method.instructions.set(each, new InsnNode(Opcodes.ICONST_4));
+          }
+        }
+      }
+    }
+    final ClassWriter cw = new ClassWriter(0);
+    node.accept(cw);
+    return cw.toByteArray();
+  }
+
+  private byte[] bytes() {
+    return this.source.getBytes(HasMethods.class.getName()).value();
+  }
+
+  static class HasMethods {
+    int limit = 10;
+
+    int a() {
+      return b() + 1;
+    }
+
+    int b() {
+      return 2;
+    }
+
+    int c() {
+      return 3;
+    }
+  }
+
+}
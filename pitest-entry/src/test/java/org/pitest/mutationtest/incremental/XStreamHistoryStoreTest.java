@@ -2,6 +2,7 @@ package org.pitest.mutationtest.incremental;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.when;
@@ -12,9 +13,9 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
-import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,7 +26,9 @@ import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassIdentifier;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
@@ -36,7 +39,7 @@ import org.pitest.mutationtest.report.MutationTestResultMother;
 
 public class XStreamHistoryStoreTest {
 
-  private static final String COV           = BigInteger.TEN.toString(16);
+  private static final String COV           = Long.toHexString(10);
 
   private XStreamHistoryStore testee;
 
@@ -64,7 +67,7 @@ public class XStreamHistoryStoreTest {
   public void setUp() {
     MockitoAnnotations.initMocks(this);
     when(this.coverage.getCoverageIdForClass(any(ClassName.class))).thenReturn(
-        BigInteger.TEN);
+        10L);
   }
 
   @Test
@@ -86,6 +89,45 @@ public class XStreamHistoryStoreTest {
     assertEquals(expected, this.testee.getHistoricClassPath());
   }
 
+  @Test
+  public void shouldRecordAndRetrieveMethodHashes() {
+    final ClassName clazz = ClassName.fromClass(XStreamHistoryStoreTest.class);
+    final MethodHashes hashes = new MethodHashes(
+        ClassloaderByteArraySource.fromContext());
+    this.testee = new XStreamHistoryStore(this.writerFactory,
+        Option.<Reader> none(), Option.some(hashes));
+    this.testee.recordClassPath(Collections.singletonList(new HierarchicalClassId(
+        new ClassIdentifier(0, clazz), "")), this.coverage);
+
+    this.testee = new XStreamHistoryStore(this.writerFactory,
+        Option.<Reader> some(new StringReader(this.output.toString())));
+    this.testee.initialize();
+
+    assertEquals(hashes.hashesFor(clazz), this.testee.getHistoricClassPath()
+        .get(clazz).getMethodHashes());
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveClassesCoveredByTests() {
+    final ClassName foo = ClassName.fromString("foo");
+    final ClassName bar = ClassName.fromString("bar");
+    when(this.coverage.getTestsForClass(foo)).thenReturn(
+        Collections.singletonList(new TestInfo("FooTest", "fooTest", 0,
+            Option.<ClassName> none(), 0)));
+    when(this.coverage.getClassesCoveredByTest("fooTest")).thenReturn(
+        Arrays.asList(foo, bar));
+    recordClassPathWithTestee(new HierarchicalClassId(new ClassIdentifier(0,
+        foo), ""));
+
+    final Reader reader = new StringReader(this.output.toString());
+    this.testee = new XStreamHistoryStore(this.writerFactory,
+        Option.some(reader));
+    this.testee.initialize();
+
+    assertEquals(Collections.singletonMap("fooTest", Arrays.asList(foo, bar)),
+        this.testee.getHistoricTestDependencies());
+  }
+
   @Test
   public void shouldRecordAndRetrieveResults() {
     final HierarchicalClassId foo = new HierarchicalClassId(
@@ -139,6 +181,26 @@ public class XStreamHistoryStoreTest {
     assertFalse(this.testee.getHistoricResults().isEmpty());
   }
 
+  @Test
+  public void shouldIgnoreHistoryWrittenWithoutFormatHeader() {
+    final HierarchicalClassId foo = new HierarchicalClassId(
+        new ClassIdentifier(0, ClassName.fromString("foo")), "");
+    recordClassPathWithTestee(foo);
+    this.testee.recordResult(new MutationResult(
+        MutationTestResultMother.createDetails("foo"),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName")));
+
+    final String legacy = this.output.toString().substring(
+        XStreamHistoryStore.FORMAT_HEADER.length()
+            + System.lineSeparator().length());
+    this.testee = new XStreamHistoryStore(this.writerFactory,
+        Option.<Reader> some(new StringReader(legacy)));
+    this.testee.initialize();
+
+    assertTrue(this.testee.getHistoricClassPath().isEmpty());
+    assertTrue(this.testee.getHistoricResults().isEmpty());
+  }
+
   private void recordClassPathWithTestee(
       final HierarchicalClassId... classIdentifiers) {
     this.testee = new XStreamHistoryStore(this.writerFactory,
@@ -82,6 +82,36 @@ public class XMLReportListenerTest {
     assertEquals(expected, this.out.toString());
   }
 
+  @Test
+  public void shouldEscapeQuotesAmpersandsAndNonAsciiCharacters() {
+    final MutationResult mr = createdKilledMutationWithKillingTestOf("a'b\"c&d\u00e9\n");
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    assertTrue(this.out.toString().contains(
+        "<killingTest>a&#39;b&#34;c&#38;d&#233;&#10;</killingTest>"));
+  }
+
+  @Test
+  public void shouldWriteEachMutationOnItsOwnLine() {
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(createSurvivingMutant(),
+            createdKilledMutationWithKillingTestOf("foo")));
+    final String[] lines = this.out.toString().split("\n");
+    assertEquals(2, lines.length);
+    assertTrue(lines[0].startsWith("<mutation detected='false'"));
+    assertTrue(lines[1].startsWith("<mutation detected='true'"));
+  }
+
+  @Test
+  public void shouldFlagSurvivorsWhoseTestsWereReduced() throws IOException {
+    final MutationResult mr = createSurvivingMutant();
+    mr.getDetails().markTestsReduced();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    final String expected = "<mutation detected='false' status='SURVIVED' testsReduced='true'><sourceFile>file</sourceFile><mutatedClass>clazz</mutatedClass><mutatedMethod>method</mutatedMethod><methodDescription>()I</methodDescription><lineNumber>42</lineNumber><mutator>mutator</mutator><index>1</index><killingTest/><description>desc</description></mutation>\n";
+    assertEquals(expected, this.out.toString());
+  }
+
   private MutationResult createSurvivingMutant() {
     final MutationResult mr = new MutationResult(
         MutationTestResultMother.createDetails(), new MutationStatusTestPair(1,
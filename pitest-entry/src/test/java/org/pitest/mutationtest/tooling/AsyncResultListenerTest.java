@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.tooling;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.util.PitError;
+
+public class AsyncResultListenerTest {
+
+  private final MutationResultListener child  = mock(MutationResultListener.class);
+
+  private final AsyncResultListener    testee = new AsyncResultListener(
+                                                  this.child, 1);
+
+  @Test
+  public void shouldPassAllResultsToChildInOrderBeforeRunEnds() {
+    final ClassMutationResults a = someResults();
+    final ClassMutationResults b = someResults();
+    final ClassMutationResults c = someResults();
+
+    this.testee.runStart();
+    this.testee.handleMutationResult(a);
+    this.testee.handleMutationResult(b);
+    this.testee.handleMutationResult(c);
+    this.testee.runEnd();
+
+    final InOrder order = inOrder(this.child);
+    order.verify(this.child).runStart();
+    order.verify(this.child).handleMutationResult(same(a));
+    order.verify(this.child).handleMutationResult(same(b));
+    order.verify(this.child).handleMutationResult(same(c));
+    order.verify(this.child).runEnd();
+  }
+
+  @Test
+  public void shouldRethrowErrorsFromChildWhenRunEnds() {
+    final RuntimeException expected = new RuntimeException();
+    doThrow(expected).when(this.child).handleMutationResult(
+        any(ClassMutationResults.class));
+
+    this.testee.runStart();
+    this.testee.handleMutationResult(someResults());
+    try {
+      this.testee.runEnd();
+    } catch (final RuntimeException actual) {
+      verify(this.child, never()).runEnd();
+      return;
+    }
+    throw new AssertionError("Expected exception");
+  }
+
+  @Test(timeout = 10000)
+  public void shouldNotBlockCallersWhenListenerThreadIsInterrupted() {
+    doAnswer(interruptCurrentThread()).when(this.child).handleMutationResult(
+        any(ClassMutationResults.class));
+
+    this.testee.runStart();
+    try {
+      for (int i = 0; i != 10; i++) {
+        this.testee.handleMutationResult(someResults());
+      }
+      this.testee.runEnd();
+    } catch (final PitError actual) {
+      verify(this.child, never()).runEnd();
+      return;
+    }
+    throw new AssertionError("Expected exception");
+  }
+
+  private static Answer<Void> interruptCurrentThread() {
+    return new Answer<Void>() {
+      @Override
+      public Void answer(final InvocationOnMock invocation) {
+        Thread.currentThread().interrupt();
+        return null;
+      }
+    };
+  }
+
+  private ClassMutationResults someResults() {
+    return new ClassMutationResults(Collections.<MutationResult> emptyList());
+  }
+
+}
@@ -15,6 +15,7 @@
 package org.pitest.mutationtest.tooling;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.when;
@@ -22,6 +23,7 @@ import static org.mockito.Mockito.when;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.jar.Attributes;
 import java.util.jar.JarInputStream;
@@ -32,6 +34,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.boot.HotSwapAgent;
@@ -49,6 +52,9 @@ public class JarCreatingJarFinderTest {
   @Rule
   public final ExpectedException thrown = ExpectedException.none();
 
+  @Rule
+  public final TemporaryFolder   folder = new TemporaryFolder();
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
@@ -123,6 +129,87 @@ public class JarCreatingJarFinderTest {
     this.testee.getJarLocation();
   }
 
+  @Test
+  public void shouldCreateJarInCacheDirectoryWhenSupplied() throws IOException {
+    final File cache = this.folder.newFolder();
+    this.testee = new JarCreatingJarFinder(this.byteSource, Option.some(cache));
+    final File actual = new File(this.testee.getJarLocation().value());
+    assertEquals(cache.getAbsoluteFile(), actual.getParentFile());
+    assertTrue(actual.isFile());
+  }
+
+  @Test
+  public void shouldPointBootClassPathAtCachedJar() throws IOException {
+    this.testee = new JarCreatingJarFinder(this.byteSource,
+        Option.some(this.folder.newFolder()));
+    final String actual = getGeneratedManifestAttribute(JarCreatingJarFinder.BOOT_CLASSPATH);
+    assertEquals(this.testee.getJarLocation().value().replace('\\', '/'),
+        actual);
+  }
+
+  @Test
+  public void shouldNotDeleteCachedJarOnClose() throws IOException {
+    this.testee = new JarCreatingJarFinder(this.byteSource,
+        Option.some(this.folder.newFolder()));
+    final File jar = new File(this.testee.getJarLocation().value());
+    this.testee.close();
+    assertTrue(jar.isFile());
+  }
+
+  @Test
+  public void shouldReuseCachedJarWithSameContent() throws IOException {
+    final File cache = this.folder.newFolder();
+    this.testee = new JarCreatingJarFinder(this.byteSource, Option.some(cache));
+    final String first = this.testee.getJarLocation().value();
+    final String second = new JarCreatingJarFinder(this.byteSource,
+        Option.some(cache)).getJarLocation().value();
+    assertEquals(first, second);
+    assertEquals(1, cache.listFiles().length);
+  }
+
+  @Test
+  public void shouldReplaceCachedJarWhoseContentDoesNotMatch()
+      throws IOException {
+    final File cache = this.folder.newFolder();
+    this.testee = new JarCreatingJarFinder(this.byteSource, Option.some(cache));
+    final File jar = new File(this.testee.getJarLocation().value());
+    try (FileOutputStream fos = new FileOutputStream(jar)) {
+      fos.write(new byte[] { 1, 2, 3 });
+    }
+
+    final String second = new JarCreatingJarFinder(this.byteSource,
+        Option.some(cache)).getJarLocation().value();
+
+    assertEquals(jar.getAbsolutePath(), second);
+    try (JarInputStream jis = new JarInputStream(new FileInputStream(jar))) {
+      assertEquals(HotSwapAgent.class.getName(), jis.getManifest()
+          .getMainAttributes().getValue("Premain-Class"));
+    }
+  }
+
+  @Test
+  public void shouldCreateNewCachedJarWhenContentChanges() throws IOException {
+    final File cache = this.folder.newFolder();
+    this.testee = new JarCreatingJarFinder(this.byteSource, Option.some(cache));
+    final String first = this.testee.getJarLocation().value();
+    when(this.byteSource.getBytes(anyString())).thenReturn(
+        Option.some(new byte[2]));
+    final String second = new JarCreatingJarFinder(this.byteSource,
+        Option.some(cache)).getJarLocation().value();
+    assertFalse(first.equals(second));
+  }
+
+  @Test
+  public void shouldFallBackToTempDirectoryWhenCacheCannotBeCreated()
+      throws IOException {
+    final File notADirectory = this.folder.newFile();
+    this.testee = new JarCreatingJarFinder(this.byteSource,
+        Option.some(new File(notADirectory, "cache")));
+    final String tempDirLocation = System.getProperty("java.io.tmpdir");
+    assertTrue(this.testee.getJarLocation().value()
+        .startsWith(tempDirLocation));
+  }
+
   private void assertGeneratedManifestEntryEquals(final String key,
       final String expected) throws IOException, FileNotFoundException {
     final String am = getGeneratedManifestAttribute(key);
@@ -25,6 +25,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 
 import org.antlr.stringtemplate.StringTemplate;
@@ -41,6 +45,7 @@ import org.pitest.util.FileUtil;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
 import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.Unchecked;
 
 public class MutationHtmlReportListener implements MutationResultListener {
 
@@ -54,6 +59,10 @@ public class MutationHtmlReportListener implements MutationResultListener {
 
   private final String                    css;
 
+  // groups cache templates once they are parsed
+  private final StringTemplateGroup       group              = new StringTemplateGroup(
+                                                                 "mutation_test");
+
   public MutationHtmlReportListener(final CoverageDatabase coverage,
       final ResultOutputStrategy outputStrategy,
       Collection<String> mutatorNames, final SourceLocator... locators) {
@@ -74,17 +83,60 @@ public class MutationHtmlReportListener implements MutationResultListener {
     return "";
   }
 
+  /**
+   * Writes the source and index pages for each package. Pages are written
+   * only once all results are known, as results for a file may arrive in many
+   * parts. Packages are written in parallel, and the results for each file
+   * are released once its page is written so that only totals are retained.
+   */
+  private void createPackagePages() {
+    final ExecutorService executor = Executors.newFixedThreadPool(Runtime
+        .getRuntime().availableProcessors());
+    try {
+      final List<Future<?>> pages = new ArrayList<>();
+      for (final PackageSummaryData each : this.packageSummaryData.values()) {
+        pages.add(executor.submit(createPackagePages(each)));
+      }
+      for (final Future<?> each : pages) {
+        each.get();
+      }
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
+    } catch (final ExecutionException e) {
+      throw Unchecked.translateCheckedException(e.getCause());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private Runnable createPackagePages(final PackageSummaryData psData) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        for (final MutationTestSummaryData each : psData.getSummaryData()) {
+          generateAnnotatedSourceFile(each);
+          each.releaseResults();
+        }
+        createPackageIndexPage(psData);
+      }
+    };
+  }
+
   private void generateAnnotatedSourceFile(
       final MutationTestSummaryData mutationMetaData) {
 
-
     final String fileName = mutationMetaData.getPackageName()
         + File.separator + mutationMetaData.getFileName() + ".html";
 
     try (Writer writer = this.outputStrategy.createWriterForFile(fileName)) {
 
-      final StringTemplateGroup group = new StringTemplateGroup("mutation_test");
-      final StringTemplate st = group
+      final SourceFile sourceFile;
+      // coverage data is populated lazily and is not thread safe
+      synchronized (this.coverage) {
+        sourceFile = createAnnotatedSourceFile(mutationMetaData);
+      }
+
+      final StringTemplate st = this.group
           .getInstanceOf("templates/mutation/mutation_report");
       st.setAttribute("css", this.css);
 
@@ -92,14 +144,11 @@ public class MutationHtmlReportListener implements MutationResultListener {
 
       st.setAttribute("mutators", mutationMetaData.getMutators());
 
-      final SourceFile sourceFile = createAnnotatedSourceFile(mutationMetaData);
-
       st.setAttribute("sourceFile", sourceFile);
       st.setAttribute("mutatedClasses", mutationMetaData.getMutatedClasses());
 
       writer.write(st.toString());
 
-
     } catch (final IOException ex) {
       Log.getLogger().log(Level.WARNING, "Error while writing report", ex);
     }
@@ -180,6 +229,7 @@ public class MutationHtmlReportListener implements MutationResultListener {
   }
 
   public void onRunEnd() {
+    createPackagePages();
     createIndexPages();
     createCssFile();
   }
@@ -196,8 +246,7 @@ public class MutationHtmlReportListener implements MutationResultListener {
 
   private void createIndexPages() {
 
-    final StringTemplateGroup group = new StringTemplateGroup("mutation_test");
-    final StringTemplate st = group
+    final StringTemplate st = this.group
         .getInstanceOf("templates/mutation/mutation_package_index");
 
     final Writer writer = this.outputStrategy.createWriterForFile("index.html");
@@ -208,7 +257,6 @@ public class MutationHtmlReportListener implements MutationResultListener {
     Collections.sort(psd);
     for (final PackageSummaryData psData : psd) {
       totals.add(psData.getTotals());
-      createPackageIndexPage(psData);
     }
 
     st.setAttribute("totals", totals);
@@ -223,8 +271,7 @@ public class MutationHtmlReportListener implements MutationResultListener {
   }
 
   private void createPackageIndexPage(final PackageSummaryData psData) {
-    final StringTemplateGroup group = new StringTemplateGroup("mutation_test");
-    final StringTemplate st = group
+    final StringTemplate st = this.group
         .getInstanceOf("templates/mutation/package_index");
 
     final Writer writer = this.outputStrategy.createWriterForFile(psData
@@ -247,17 +294,12 @@ public class MutationHtmlReportListener implements MutationResultListener {
 
   @Override
   public void runEnd() {
-    createIndexPages();
-    createCssFile();
+    onRunEnd();
   }
 
   @Override
   public void handleMutationResult(final ClassMutationResults metaData) {
-    final PackageSummaryData packageData = collectPackageSummaries(metaData);
-
-    generateAnnotatedSourceFile(packageData.getForSourceFile(metaData
-        .getFileName()));
-
+    collectPackageSummaries(metaData);
   }
 
 }
\ No newline at end of file
@@ -34,6 +34,7 @@ public class MutationTestSummaryData {
   private final Set<ClassInfo>             classes   = new HashSet<>();
 
   private long                             numberOfCoveredLines;
+  private MutationTotals                   releasedTotals;
 
   public MutationTestSummaryData(final String fileName,
       final Collection<MutationResult> results,
@@ -47,6 +48,9 @@ public class MutationTestSummaryData {
   }
 
   public MutationTotals getTotals() {
+    if (this.releasedTotals != null) {
+      return this.releasedTotals;
+    }
     final MutationTotals mt = new MutationTotals();
     mt.addFiles(1);
     mt.addMutations(this.getNumberOfMutations());
@@ -73,6 +77,15 @@ public class MutationTestSummaryData {
     }
   }
 
+  /**
+   * Discards the mutation results held for the file, retaining only its
+   * totals. Called once the page for the file has been written.
+   */
+  public void releaseResults() {
+    this.releasedTotals = getTotals();
+    this.mutations.clear();
+  }
+
   public Collection<TestInfo> getTests() {
     final Set<TestInfo> uniqueTests = new HashSet<>();
     FCollection.flatMapTo(this.mutations, mutationToTargettedTests(),
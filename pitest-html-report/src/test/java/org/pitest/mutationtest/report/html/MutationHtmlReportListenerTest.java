@@ -15,19 +15,29 @@
 package org.pitest.mutationtest.report.html;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.endsWith;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.io.File;
 import java.io.Reader;
 import java.io.Writer;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.CoverageDatabase;
@@ -36,6 +46,7 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.SourceLocator;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.report.MutationTestResultMother;
 import org.pitest.util.ResultOutputStrategy;
 
@@ -94,7 +105,62 @@ public class MutationHtmlReportListenerTest {
         .thenReturn(Option.<Reader> none());
     this.testee.handleMutationResult(MutationTestResultMother
         .createClassResults(mr));
+    this.testee.runEnd();
     verify(this.sourceLocator).locate(any(Collection.class), eq(fileName));
   }
 
+  @Test
+  public void shouldWriteEachSourceFileOnceWhenResultsArriveInParts() {
+    final String fileName = "foo.java";
+    when(this.sourceLocator.locate(any(Collection.class), any(String.class)))
+        .thenReturn(Option.<Reader> none());
+    for (int i = 0; i != 2; i++) {
+      final MutationResult mr = new MutationResult(
+          MutationTestResultMother.createDetails(fileName),
+          new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+      this.testee.handleMutationResult(MutationTestResultMother
+          .createClassResults(mr));
+    }
+    this.testee.runEnd();
+    verify(this.outputStrategy, times(1)).createWriterForFile(
+        endsWith(fileName + ".html"));
+  }
+
+  @Test
+  public void shouldWriteSourceAndIndexPagesOfEveryPackage() {
+    when(this.sourceLocator.locate(any(Collection.class), any(String.class)))
+        .thenReturn(Option.<Reader> none());
+    when(this.coverageDb.getClassInfo(any(Collection.class))).thenAnswer(
+        classInfoNamedAsRequested());
+    final List<String> packages = Arrays.asList("a", "b", "c");
+    for (final String each : packages) {
+      final MutationDetails details = new MutationDetails(aMutationId()
+          .withLocation(aLocation(each + ".Foo")).build(), "Foo.java", "desc",
+          42, 0);
+      this.testee.handleMutationResult(MutationTestResultMother
+          .createClassResults(new MutationResult(details,
+              new MutationStatusTestPair(1, DetectionStatus.KILLED, "test"))));
+    }
+    this.testee.runEnd();
+    for (final String each : packages) {
+      verify(this.outputStrategy).createWriterForFile(
+          each + File.separator + "Foo.java.html");
+      verify(this.outputStrategy).createWriterForFile(
+          each + File.separator + "index.html");
+    }
+  }
+
+  private static Answer<Collection<ClassInfo>> classInfoNamedAsRequested() {
+    return new Answer<Collection<ClassInfo>>() {
+      @Override
+      public Collection<ClassInfo> answer(final InvocationOnMock invocation) {
+        final ClassName name = ((Collection<ClassName>) invocation
+            .getArguments()[0]).iterator().next();
+        final ClassInfo info = Mockito.mock(ClassInfo.class);
+        when(info.getName()).thenReturn(name);
+        return Collections.singleton(info);
+      }
+    };
+  }
+
 }
@@ -91,6 +91,15 @@ public class MutationTestSummaryDataTest {
     assertEquals(300 + 100, this.testee.getTotals().getNumberOfLinesCovered());
   }
 
+  @Test
+  public void shouldRetainTotalsWhenResultsReleased() {
+    this.testee = buildSummaryData(makeClass(100), 50);
+    this.testee.releaseResults();
+    assertEquals(100, this.testee.getTotals().getNumberOfLines());
+    assertEquals(50, this.testee.getTotals().getNumberOfLinesCovered());
+    assertEquals(0, this.testee.getTests().size());
+  }
+
   private ClassInfo makeClass() {
     return makeClass(100);
   }
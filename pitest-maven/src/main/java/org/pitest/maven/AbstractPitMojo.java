@@ -29,7 +29,7 @@ import uk.org.lidalia.sysoutslf4j.context.SysOutOverSLF4J;
 
 public class AbstractPitMojo extends AbstractMojo {
 
-  private final Predicate<MavenProject> notEmptyProject;
+  protected final Predicate<MavenProject> notEmptyProject;
   
   protected final Predicate<Artifact> filter;
 
@@ -99,6 +99,27 @@ public class AbstractPitMojo extends AbstractMojo {
    */
   @Parameter(property = "historyInputFile")
   private File                        historyInputFile;
+
+  /**
+   * File in which to keep parsed class information between runs, so that
+   * unchanged classes need not be parsed again
+   */
+  @Parameter(property = "classInfoIndexFile")
+  private File                        classInfoIndexFile;
+
+  /**
+   * Keep the generated agent jar between runs rather than writing a new one
+   * for each run
+   */
+  @Parameter(defaultValue = "true", property = "cacheAgentJar")
+  private boolean                     cacheAgentJar;
+
+  /**
+   * Directory in which to keep the agent jar. Defaults to .pitest/agents in
+   * the user's home
+   */
+  @Parameter(property = "agentCacheDirectory")
+  private File                        agentCacheDirectory;
   
   /**
    * Convenience flag to read and write history to a local temp file.
@@ -231,6 +252,18 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "false", property = "exportLineCoverage")
   private boolean                     exportLineCoverage;
 
+  /**
+   * Export line coverage data in a compact binary format
+   */
+  @Parameter(defaultValue = "false", property = "exportBinaryLineCoverage")
+  private boolean                     exportBinaryLineCoverage;
+
+  /**
+   * Export counters and histograms gathered during the run
+   */
+  @Parameter(defaultValue = "false", property = "exportMetrics")
+  private boolean                     exportMetrics;
+
   /**
    * Mutation score threshold at which to fail build
    */
@@ -242,6 +275,37 @@ public class AbstractPitMojo extends AbstractMojo {
    */
   @Parameter(defaultValue = "-1", property = "maxSurviving")
   private int                         maxSurviving = -1;
+
+  /**
+   * Maximum number of tests to record as killing each mutant. Recording more
+   * than one lets incremental analysis reuse a result while any of them is
+   * unchanged, at the cost of running more tests.
+   */
+  @Parameter(defaultValue = "1", property = "maxKillingTests")
+  private int                         maxKillingTests = 1;
+
+  /**
+   * Percentage of the tenured heap in use at which a minion stops between
+   * mutants and leaves the rest of its unit to a new minion. Set to 0 to only
+   * replace minions that run out of memory.
+   */
+  @Parameter(defaultValue = "80", property = "minionHeapRecyclePercent")
+  private int                         minionHeapRecyclePercent = 80;
+
+  /**
+   * Skip tests whose coverage of a mutated method is a subset of another
+   * test's. Reduces the tests run against survivors, but a surviving mutant
+   * might have been killed by one of the skipped tests.
+   */
+  @Parameter(defaultValue = "false", property = "reduceRedundantTests")
+  private boolean                     reduceRedundantTests;
+
+  /**
+   * Run the tests that killed each mutant in the previous run first, when
+   * history is available
+   */
+  @Parameter(defaultValue = "true", property = "orderTestsByHistory")
+  private boolean                     orderTestsByHistory;
     
   /**
    * Line coverage threshold at which to fail build
@@ -543,6 +607,22 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.mutationUnitSize;
   }
 
+  public int getMaxKillingTests() {
+    return this.maxKillingTests;
+  }
+
+  public int getMinionHeapRecyclePercent() {
+    return this.minionHeapRecyclePercent;
+  }
+
+  public boolean isReduceRedundantTests() {
+    return this.reduceRedundantTests;
+  }
+
+  public boolean isOrderTestsByHistory() {
+    return this.orderTestsByHistory;
+  }
+
   public boolean isTimestampedReports() {
     return this.timestampedReports;
   }
@@ -563,20 +643,34 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.historyInputFile;
   }
 
+  public File getClassInfoIndexFile() {
+    return this.classInfoIndexFile;
+  }
+
+  public boolean isCacheAgentJar() {
+    return this.cacheAgentJar;
+  }
+
+  public File getAgentCacheDirectory() {
+    return this.agentCacheDirectory;
+  }
+
   public boolean isExportLineCoverage() {
     return this.exportLineCoverage;
   }
 
+  public boolean isExportBinaryLineCoverage() {
+    return this.exportBinaryLineCoverage;
+  }
+
+  public boolean isExportMetrics() {
+    return this.exportMetrics;
+  }
+
   protected RunDecision shouldRun() {
     RunDecision decision = new RunDecision();
 
-    if (this.skip) {
-      decision.addReason("Execution of PIT should be skipped.");
-    }
-
-    if (this.skipTests) {
-      decision.addReason("Test execution should be skipped (-DskipTests).");
-    }
+    addSkipReasons(decision);
 
     if ("pom".equalsIgnoreCase(this.project.getPackaging())) {
       decision.addReason("Packaging is POM.");
@@ -589,6 +683,16 @@ public class AbstractPitMojo extends AbstractMojo {
     return decision;
   }
 
+  protected void addSkipReasons(final RunDecision decision) {
+    if (this.skip) {
+      decision.addReason("Execution of PIT should be skipped.");
+    }
+
+    if (this.skipTests) {
+      decision.addReason("Test execution should be skipped (-DskipTests).");
+    }
+  }
+
   public String getMutationEngine() {
     return this.mutationEngine;
   }
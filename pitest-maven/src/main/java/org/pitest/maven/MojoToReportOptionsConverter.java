@@ -59,17 +59,41 @@ public class MojoToReportOptionsConverter {
 
     final List<String> classPath = new ArrayList<>();
 
-    try {
-      classPath.addAll(this.mojo.getProject().getTestClasspathElements());
-    } catch (final DependencyResolutionRequiredException e1) {
-      this.log.info(e1);
-    }
+    addTestClassPath(this.mojo.getProject(), classPath);
 
     addOwnDependenciesToClassPath(classPath);
 
     classPath.addAll(this.mojo.getAdditionalClasspathElements());
 
-    for (Object artifact : this.mojo.getProject().getArtifacts()) {
+    removeExcludedDependencies(this.mojo.getProject(), classPath);
+
+    ReportOptions option = parseReportOptions(classPath);
+    return updateFromSurefire(option);
+
+  }
+
+  /**
+   * Adds the test classpath of a project. A project whose dependencies have
+   * not been resolved is analysed without them, which is reported as a
+   * warning as tests are then likely to fail.
+   */
+  void addTestClassPath(final MavenProject project,
+      final List<String> classPath) {
+    try {
+      classPath.addAll(project.getTestClasspathElements());
+    } catch (final DependencyResolutionRequiredException e) {
+      this.log.warn("Dependencies of " + project.getId()
+          + " have not been resolved. Its classpath will be incomplete.", e);
+    }
+  }
+
+  /**
+   * Removes the dependencies of a project that the mojo is configured to
+   * exclude from the classpath.
+   */
+  void removeExcludedDependencies(final MavenProject project,
+      final List<String> classPath) {
+    for (Object artifact : project.getArtifacts()) {
       final Artifact dependency = (Artifact) artifact;
 
       if (this.mojo.getClasspathDependencyExcludes().contains(
@@ -77,10 +101,6 @@ public class MojoToReportOptionsConverter {
         classPath.remove(dependency.getFile().getPath());
       }
     }
-
-    ReportOptions option = parseReportOptions(classPath);
-    return updateFromSurefire(option);
-
   }
 
   private ReportOptions parseReportOptions(final List<String> classPath) {
@@ -135,12 +155,20 @@ public class MojoToReportOptionsConverter {
     setTestGroups(data);
 
     data.setMutationUnitSize(this.mojo.getMutationUnitSize());
+    data.setMaxKillingTests(this.mojo.getMaxKillingTests());
+    data.setMinionHeapRecyclePercent(this.mojo.getMinionHeapRecyclePercent());
+    data.setReduceRedundantTests(this.mojo.isReduceRedundantTests());
+    data.setOrderTestsByHistory(this.mojo.isOrderTestsByHistory());
     data.setShouldCreateTimestampedReports(this.mojo.isTimestampedReports());
     data.setDetectInlinedCode(this.mojo.isDetectInlinedCode());
 
     determineHistory(data);
     
     data.setExportLineCoverage(this.mojo.isExportLineCoverage());
+    data.setExportBinaryLineCoverage(this.mojo.isExportBinaryLineCoverage());
+    data.setExportMetrics(this.mojo.isExportMetrics());
+    data.setCacheAgentJar(this.mojo.isCacheAgentJar());
+    data.setAgentCacheDirectory(this.mojo.getAgentCacheDirectory());
     data.setMutationEngine(this.mojo.getMutationEngine());
     data.setJavaExecutable(this.mojo.getJavaExecutable());
     data.setFreeFormProperties(createPluginProperties());
@@ -151,6 +179,7 @@ public class MojoToReportOptionsConverter {
 
 
   private void determineHistory(final ReportOptions data) {
+    data.setClassInfoIndexLocation(this.mojo.getClassInfoIndexFile());
     if (this.mojo.useHistory()) {
       useHistoryFileInTempDir(data);
     } else {
@@ -173,6 +202,11 @@ public class MojoToReportOptionsConverter {
     if (this.mojo.getHistoryOutputFile() == null) {
       data.setHistoryOutputLocation(historyFile);
     }
+    if (this.mojo.getClassInfoIndexFile() == null) {
+      data.setClassInfoIndexLocation(new File(tempDir, project.getGroupId()
+          + "." + project.getArtifactId() + "." + project.getVersion()
+          + "_pitest_classinfo.xml.gz"));
+    }
   }
   
   private ReportOptions updateFromSurefire(ReportOptions option) {
@@ -264,17 +298,19 @@ public class MojoToReportOptionsConverter {
       final Collection<String> filters) {
     if (!hasValue(filters)) {
       this.mojo.getLog().info("Defaulting target classes to match packages in build directory");
-      return FCollection.map(findOccupiedPackages(), Glob.toGlobPredicate());
+      return FCollection.map(findOccupiedPackages(new File(this.mojo
+          .getProject().getBuild().getOutputDirectory())),
+          Glob.toGlobPredicate());
     } else {
       return FCollection.map(filters, Glob.toGlobPredicate());
     }
   }
   
   
-  private Collection<String> findOccupiedPackages() {
-    String outputDirName = this.mojo.getProject().getBuild()
-        .getOutputDirectory();
-    File outputDir = new File(outputDirName);
+  /**
+   * @return globs matching each package containing classes in the directory
+   */
+  static Collection<String> findOccupiedPackages(final File outputDir) {
     if (outputDir.exists()) {
       DirectoryClassPathRoot root = new DirectoryClassPathRoot(outputDir);
       Set<String> occupiedPackages = new HashSet<>();
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.tooling.CombinedStatistics;
+import org.pitest.util.Glob;
+
+/**
+ * Goal which runs a single coverage mutation report for all modules of a
+ * reactor build.
+ *
+ * The code, tests and classpaths of every module are combined so agent
+ * creation, classpath scanning, coverage and minion start up happen once for
+ * the whole build rather than once per module. A combined report is written to
+ * the reports directory of the project the goal is run from, and a report for
+ * each module is written to pit-reports within its build directory.
+ *
+ * As an aggregator the goal is not bound to a lifecycle phase. Invoke it from
+ * the root of the build after the modules have been compiled, e.g.
+ *
+ * <pre>
+ * mvn test-compile org.pitest:pitest-maven:reactorMutationCoverage
+ * </pre>
+ *
+ * The options for the combined run, such as mutators, thread count and
+ * thresholds, are taken only from the configuration of the root project.
+ * Configuration given to the plugin in individual modules is ignored.
+ */
+@Mojo(name = "reactorMutationCoverage",
+      aggregator = true,
+      requiresDependencyResolution = ResolutionScope.TEST,
+      threadSafe = true)
+public class ReactorPitMojo extends AbstractPitMojo {
+
+  /**
+   * <i>Internal</i>: Projects in the reactor.
+   */
+  @Parameter(defaultValue = "${reactorProjects}", readonly = true, required = true)
+  private List<MavenProject> reactorProjects;
+
+  public ReactorPitMojo(final GoalStrategy strategy,
+      final Predicate<Artifact> filter, final PluginServices plugins,
+      final Predicate<MavenProject> emptyProjectCheck) {
+    super(strategy, filter, plugins, emptyProjectCheck);
+  }
+
+  public ReactorPitMojo() {
+
+  }
+
+  @Override
+  protected RunDecision shouldRun() {
+    final RunDecision decision = new RunDecision();
+    addSkipReasons(decision);
+    if (modulesToAnalyse().isEmpty()) {
+      decision.addReason("No module in the reactor has tests.");
+    }
+    return decision;
+  }
+
+  @Override
+  protected Option<CombinedStatistics> analyse() throws MojoExecutionException {
+    final MojoToReportOptionsConverter converter = new MojoToReportOptionsConverter(
+        this, new SurefireConfigConverter(), this.filter);
+    final ReportOptions data = converter.convert();
+    combineModules(converter, data, modulesToAnalyse());
+    return Option.some(this.goalStrategy.execute(detectBaseDir(), data,
+        this.plugins, getEnvironmentVariables()));
+  }
+
+  private List<MavenProject> modulesToAnalyse() {
+    final List<MavenProject> modules = new ArrayList<>();
+    for (final MavenProject each : this.reactorProjects) {
+      if (!"pom".equalsIgnoreCase(each.getPackaging())
+          && this.notEmptyProject.apply(each)) {
+        modules.add(each);
+      }
+    }
+    return modules;
+  }
+
+  private void combineModules(final MojoToReportOptionsConverter converter,
+      final ReportOptions data, final List<MavenProject> modules) {
+    final Set<String> codePaths = new LinkedHashSet<>();
+    final Set<String> classPath = new LinkedHashSet<>(
+        data.getClassPathElements());
+    final Set<File> sourceDirs = new LinkedHashSet<>(data.getSourceDirs());
+    final Set<String> packages = new LinkedHashSet<>();
+    final Map<String, File> moduleReportDirs = new LinkedHashMap<>();
+
+    for (final MavenProject each : modules) {
+      final String outputDirectory = each.getBuild().getOutputDirectory();
+      this.getLog().info("Mutating from " + outputDirectory);
+      codePaths.add(outputDirectory);
+      final List<String> moduleClassPath = new ArrayList<>();
+      converter.addTestClassPath(each, moduleClassPath);
+      converter.removeExcludedDependencies(each, moduleClassPath);
+      classPath.addAll(moduleClassPath);
+      for (final Object root : each.getCompileSourceRoots()) {
+        sourceDirs.add(new File((String) root));
+      }
+      for (final Object root : each.getTestCompileSourceRoots()) {
+        sourceDirs.add(new File((String) root));
+      }
+      packages.addAll(MojoToReportOptionsConverter
+          .findOccupiedPackages(new File(outputDirectory)));
+      moduleReportDirs.put(outputDirectory, new File(each.getBuild()
+          .getDirectory(), "pit-reports"));
+    }
+
+    data.setCodePaths(codePaths);
+    data.setClassPathElements(classPath);
+    data.setSourceDirs(sourceDirs);
+    data.setModuleReportDirs(moduleReportDirs);
+    if ((getTargetClasses() == null) || getTargetClasses().isEmpty()) {
+      data.setTargetClasses(FCollection.map(packages, Glob.toGlobPredicate()));
+    }
+  }
+
+}
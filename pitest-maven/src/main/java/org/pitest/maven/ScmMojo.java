@@ -6,8 +6,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.apache.maven.artifact.Artifact;
@@ -25,8 +28,11 @@ import org.apache.maven.scm.ScmException;
 import org.apache.maven.scm.ScmFile;
 import org.apache.maven.scm.ScmFileSet;
 import org.apache.maven.scm.ScmFileStatus;
+import org.apache.maven.scm.ScmRevision;
+import org.apache.maven.scm.ScmVersion;
 import org.apache.maven.scm.command.changelog.ChangeLogScmRequest;
 import org.apache.maven.scm.command.changelog.ChangeLogScmResult;
+import org.apache.maven.scm.command.diff.DiffScmResult;
 import org.apache.maven.scm.command.status.StatusScmResult;
 import org.apache.maven.scm.manager.ScmManager;
 import org.apache.maven.scm.repository.ScmRepository;
@@ -77,6 +83,14 @@ public class ScmMojo extends AbstractPitMojo {
   @Parameter(property = "destinationBranch", defaultValue = "master")
   private String destinationBranch;
 
+  /**
+   * Granularity at which changes are mutated. CLASS mutates the whole of every
+   * changed class, METHOD (the default) mutates methods containing a changed
+   * line and LINE mutates only the changed lines themselves.
+   */
+  @Parameter(property = "granularity", defaultValue = "METHOD")
+  private String granularity;
+
   /**
    * Connection type to use when querying scm for changed files. Can either be
    * "connection" or "developerConnection".
@@ -125,12 +139,92 @@ public class ScmMojo extends AbstractPitMojo {
     final ReportOptions data = new MojoToReportOptionsConverter(this,
         new SurefireConfigConverter(), filter).convert();
     data.setFailWhenNoMutations(false);
+    if (!granularity().equals("CLASS")) {
+      restrictToChangedLines(data);
+    }
 
     return Option.some(this.goalStrategy.execute(detectBaseDir(), data,
         plugins, new HashMap<String, String>()));
 
   }
 
+  private void restrictToChangedLines(final ReportOptions data)
+      throws MojoExecutionException {
+    if (!granularity().equals("METHOD") && !granularity().equals("LINE")) {
+      throw new MojoExecutionException("Unknown granularity "
+          + this.granularity + ", expected CLASS, METHOD or LINE");
+    }
+
+    final Map<String, Set<Integer>> changedLines = findChangedLines();
+    if (changedLines.isEmpty()) {
+      this.getLog().warn(
+          "Could not determine changed lines - mutating whole of each changed class");
+      return;
+    }
+
+    data.setChangedLines(changedLines);
+    final List<String> features = new ArrayList<>(data.getFeatures());
+    features.add("+FCHANGED(granularity[" + granularity().toLowerCase()
+        + "])");
+    data.setFeatures(features);
+  }
+
+  private String granularity() {
+    if (this.granularity == null) {
+      return "METHOD";
+    }
+    return this.granularity.toUpperCase();
+  }
+
+  private Map<String, Set<Integer>> findChangedLines()
+      throws MojoExecutionException {
+    final String sourceRoot = normalise(this.project.getBuild()
+        .getSourceDirectory());
+    final Map<String, Set<Integer>> changedLines = new LinkedHashMap<>();
+    for (final Entry<String, Set<Integer>> each : new UnifiedDiffParser().parse(
+        findDiff()).entrySet()) {
+      final String path = normalise(pathByScmDir().apply(each.getKey()));
+      if (path.startsWith(sourceRoot + File.separator)) {
+        changedLines.put(path.substring(sourceRoot.length() + 1)
+            .replace('\\', '/'), each.getValue());
+      }
+    }
+    return changedLines;
+  }
+
+  private static String normalise(final String path) {
+    return new File(path).toPath().toAbsolutePath().normalize().toString();
+  }
+
+  private String findDiff() throws MojoExecutionException {
+    try {
+      final ScmRepository repository = this.manager
+          .makeScmRepository(getSCMConnection());
+      final ScmVersion start;
+      final ScmVersion end;
+      if (this.analyseLastCommit) {
+        start = new ScmRevision("HEAD~1");
+        end = new ScmRevision("HEAD");
+      } else if ((this.originBranch != null) && (this.destinationBranch != null)) {
+        start = new ScmRevision(this.destinationBranch + "..."
+            + this.originBranch);
+        end = null;
+      } else {
+        start = new ScmRevision("HEAD");
+        end = null;
+      }
+      final DiffScmResult diff = this.manager.diff(repository,
+          new ScmFileSet(scmRoot()), start, end);
+      if ((diff == null) || !diff.isSuccess()) {
+        return null;
+      }
+      return diff.getPatch();
+    } catch (final ScmException e) {
+      this.getLog().warn("Error while querying scm for diff", e);
+      return null;
+    }
+  }
+
   private void defaultTargetTestsToGroupNameIfNoValueSet() {
     if (this.getTargetTests() == null || this.getTargetTests().isEmpty()) {
       this.targetTests = makeConcreteList(Collections.singletonList(this
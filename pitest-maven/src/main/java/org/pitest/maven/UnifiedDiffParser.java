@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.maven;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the lines of each file that were added or modified from a patch in
+ * unified diff format.
+ *
+ * Line numbers refer to the new version of each file. Where lines were only
+ * removed the line that now sits in their place is reported, so that the
+ * surrounding code is still considered changed.
+ */
+class UnifiedDiffParser {
+
+  private static final Pattern HUNK = Pattern
+      .compile("^@@ -\\d+(?:,(\\d+))? \\+(\\d+)(?:,(\\d+))? @@.*");
+
+  Map<String, Set<Integer>> parse(final String patch) {
+    final Map<String, Set<Integer>> changes = new LinkedHashMap<>();
+    if (patch == null) {
+      return changes;
+    }
+
+    Set<Integer> lines = null;
+    int line = 0;
+    int oldRemaining = 0;
+    int newRemaining = 0;
+    for (final String each : patch.split("\\r?\\n")) {
+      if ((oldRemaining > 0) || (newRemaining > 0)) {
+        if (each.startsWith("+")) {
+          lines.add(line);
+          line++;
+          newRemaining--;
+        } else if (each.startsWith("-")) {
+          lines.add(line);
+          oldRemaining--;
+        } else if (!each.startsWith("\\")) {
+          line++;
+          oldRemaining--;
+          newRemaining--;
+        }
+        continue;
+      }
+
+      final Matcher hunk = HUNK.matcher(each);
+      if (each.startsWith("+++ ")) {
+        lines = linesFor(changes, each.substring(4));
+      } else if ((lines != null) && hunk.matches()) {
+        oldRemaining = countOf(hunk.group(1));
+        line = Integer.parseInt(hunk.group(2));
+        newRemaining = countOf(hunk.group(3));
+      }
+    }
+
+    return changes;
+  }
+
+  private static int countOf(final String count) {
+    return count != null ? Integer.parseInt(count) : 1;
+  }
+
+  private static Set<Integer> linesFor(final Map<String, Set<Integer>> changes,
+      final String header) {
+    String path = header;
+    final int tab = path.indexOf('\t');
+    if (tab != -1) {
+      path = path.substring(0, tab);
+    }
+    if (path.equals("/dev/null")) {
+      return null;
+    }
+    if (path.startsWith("b/")) {
+      path = path.substring(2);
+    }
+    Set<Integer> lines = changes.get(path);
+    if (lines == null) {
+      lines = new TreeSet<>();
+      changes.put(path, lines);
+    }
+    return lines;
+  }
+
+}
@@ -279,6 +279,26 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
         actual.getMutationUnitSize());
   }
 
+  public void testParsesMaxKillingTests() {
+    final ReportOptions actual = parseConfig("<maxKillingTests>3</maxKillingTests>");
+    assertEquals(3, actual.getMaxKillingTests());
+  }
+
+  public void testParsesMinionHeapRecyclePercent() {
+    final ReportOptions actual = parseConfig("<minionHeapRecyclePercent>60</minionHeapRecyclePercent>");
+    assertEquals(60, actual.getMinionHeapRecyclePercent());
+  }
+
+  public void testParsesReduceRedundantTests() {
+    final ReportOptions actual = parseConfig("<reduceRedundantTests>true</reduceRedundantTests>");
+    assertTrue(actual.shouldReduceRedundantTests());
+  }
+
+  public void testParsesOrderTestsByHistory() {
+    final ReportOptions actual = parseConfig("<orderTestsByHistory>false</orderTestsByHistory>");
+    assertFalse(actual.shouldOrderTestsByHistory());
+  }
+
   public void testParsesTimeStampedReports() {
     final ReportOptions actual = parseConfig("<timestampedReports>false</timestampedReports>");
     assertEquals(false, actual.shouldCreateTimeStampedReports());
@@ -303,6 +323,30 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertThat(actual.getHistoryInputLocation().getAbsolutePath()).endsWith(expected);
   }
 
+  public void testParsesClassInfoIndexFile() {
+    final ReportOptions actual = parseConfig("<classInfoIndexFile>foo</classInfoIndexFile>");
+    assertEquals(new File("foo"), actual.getClassInfoIndexLocation());
+  }
+
+  public void testUsesClassInfoIndexInTempDirWithLocalHistory() {
+    when(this.project.getGroupId()).thenReturn("com.example");
+    when(this.project.getArtifactId()).thenReturn("foo");
+    when(this.project.getVersion()).thenReturn("0.1-SNAPSHOT");
+    final ReportOptions actual = parseConfig("<withHistory>true</withHistory>");
+    String expected = "com.example.foo.0.1-SNAPSHOT_pitest_classinfo.xml.gz";
+    assertThat(actual.getClassInfoIndexLocation().getAbsolutePath()).endsWith(expected);
+  }
+
+  public void testParsesCacheAgentJarFlag() {
+    final ReportOptions actual = parseConfig("<cacheAgentJar>false</cacheAgentJar>");
+    assertFalse(actual.shouldCacheAgentJar());
+  }
+
+  public void testParsesAgentCacheDirectory() {
+    final ReportOptions actual = parseConfig("<agentCacheDirectory>foo</agentCacheDirectory>");
+    assertEquals(new File("foo"), actual.getAgentCacheDirectory());
+  }
+
   public void testParsesLineCoverageExportFlagWhenSet() {
     final ReportOptions actual = parseConfig("<exportLineCoverage>true</exportLineCoverage>");
     assertTrue(actual.shouldExportLineCoverage());
@@ -313,6 +357,16 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  public void testParsesBinaryLineCoverageExportFlagWhenSet() {
+    final ReportOptions actual = parseConfig("<exportBinaryLineCoverage>true</exportBinaryLineCoverage>");
+    assertTrue(actual.shouldExportBinaryLineCoverage());
+  }
+
+  public void testParsesMetricsExportFlagWhenSet() {
+    final ReportOptions actual = parseConfig("<exportMetrics>true</exportMetrics>");
+    assertTrue(actual.shouldExportMetrics());
+  }
+
   public void testParsesEngineWhenSet() {
     final ReportOptions actual = parseConfig("<mutationEngine>foo</mutationEngine>");
     assertEquals("foo", actual.getMutationEngine());
@@ -353,6 +407,16 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
         + "group-artifact-1.0.0.jar"));
   }
 
+  public void testConvertsWithoutTestClasspathWhenDependenciesUnresolved()
+      throws DependencyResolutionRequiredException {
+    final DependencyResolutionRequiredException unresolved = new DependencyResolutionRequiredException(
+        Mockito.mock(Artifact.class));
+    when(this.project.getTestClasspathElements()).thenThrow(unresolved);
+
+    final ReportOptions actual = parseConfig("");
+    assertFalse(actual.getClassPathElements().containsAll(this.classPath));
+  }
+
   public void testParsesSurefireConfigWhenFlagSet() {
     parseConfig("<parseSurefireConfig>true</parseSurefireConfig>");
     verify(this.surefireConverter).update(any(ReportOptions.class),
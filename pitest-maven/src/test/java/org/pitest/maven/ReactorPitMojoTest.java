@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.maven;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.project.MavenProject;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+
+public class ReactorPitMojoTest extends BasePitMojoTest {
+
+  private ReactorPitMojo testee;
+
+  private File           baseDir;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    this.baseDir = Files.createTempDirectory("reactor").toFile();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    deleteRecursively(this.baseDir);
+    super.tearDown();
+  }
+
+  public void testRunsOneAnalysisForAllModules() throws Exception {
+    this.testee = createReactorMojo(aModule("pom"), aModule("a"), aModule("b"));
+    this.testee.execute();
+    verify(this.executionStrategy).execute(any(File.class),
+        any(ReportOptions.class), any(PluginServices.class), anyMap());
+  }
+
+  public void testMutatesClassesOfEveryModule() throws Exception {
+    final ReportOptions actual = analyse(aModule("a"), aModule("b"));
+    assertEquals(Arrays.asList(classesOf("a"), classesOf("b")),
+        new ArrayList<>(actual.getCodePaths()));
+  }
+
+  public void testCombinesClasspathsOfEveryModule() throws Exception {
+    final ReportOptions actual = analyse(aModule("a"), aModule("b"));
+    assertTrue(actual.getClassPathElements().contains("a-dependency.jar"));
+    assertTrue(actual.getClassPathElements().contains("b-dependency.jar"));
+  }
+
+  public void testCombinesSourceRootsOfEveryModule() throws Exception {
+    final ReportOptions actual = analyse(aModule("a"), aModule("b"));
+    assertTrue(actual.getSourceDirs().contains(new File("a-src")));
+    assertTrue(actual.getSourceDirs().contains(new File("b-test-src")));
+  }
+
+  public void testTargetsPackagesFoundInEveryModule() throws Exception {
+    final ReportOptions actual = analyse(aModule("a"), aModule("b"));
+    assertTrue(actual.getTargetClassesFilter().apply("com.example.a.Foo"));
+    assertTrue(actual.getTargetClassesFilter().apply("com.example.b.Foo"));
+    assertFalse(actual.getTargetClassesFilter().apply("com.example.c.Foo"));
+  }
+
+  public void testWritesReportForEachModuleInItsBuildDirectory()
+      throws Exception {
+    final ReportOptions actual = analyse(aModule("a"), aModule("b"));
+    assertEquals(new File(new File(this.baseDir, "a"), "pit-reports"), actual
+        .getModuleReportDirs().get(classesOf("a")));
+    assertEquals(new File(new File(this.baseDir, "b"), "pit-reports"), actual
+        .getModuleReportDirs().get(classesOf("b")));
+  }
+
+  public void testIgnoresPomModules() throws Exception {
+    final ReportOptions actual = analyse(aModule("pom"), aModule("a"));
+    assertEquals(Collections.singletonList(classesOf("a")),
+        new ArrayList<>(actual.getCodePaths()));
+  }
+
+  public void testDoesNotRunWhenNoModuleHasCode() throws Exception {
+    this.testee = createReactorMojo(aModule("pom"));
+    this.testee.execute();
+    verify(this.executionStrategy, never()).execute(any(File.class),
+        any(ReportOptions.class), any(PluginServices.class), anyMap());
+  }
+
+  private ReportOptions analyse(final MavenProject... modules)
+      throws Exception {
+    this.testee = createReactorMojo(modules);
+    this.testee.execute();
+    final ArgumentCaptor<ReportOptions> captor = ArgumentCaptor
+        .forClass(ReportOptions.class);
+    verify(this.executionStrategy).execute(any(File.class), captor.capture(),
+        any(PluginServices.class), anyMap());
+    return captor.getValue();
+  }
+
+  private ReactorPitMojo createReactorMojo(final MavenProject... modules)
+      throws Exception {
+    final ReactorPitMojo mojo = new ReactorPitMojo(this.executionStrategy,
+        this.filter, this.plugins, True.<MavenProject> all());
+    configurePitMojo(mojo, createPomWithConfiguration(""));
+    setVariableValueToObject(mojo, "reactorProjects", Arrays.asList(modules));
+    return mojo;
+  }
+
+  private MavenProject aModule(final String name) throws Exception {
+    final MavenProject module = mock(MavenProject.class);
+    if (name.equals("pom")) {
+      when(module.getPackaging()).thenReturn("pom");
+      return module;
+    }
+    when(module.getPackaging()).thenReturn("jar");
+
+    final File classes = new File(classesOf(name));
+    final File packageDir = new File(classes, "com/example/" + name);
+    packageDir.mkdirs();
+    new File(packageDir, "Foo.class").createNewFile();
+
+    final Build build = new Build();
+    build.setDirectory(new File(this.baseDir, name).getAbsolutePath());
+    build.setOutputDirectory(classes.getAbsolutePath());
+    when(module.getBuild()).thenReturn(build);
+    when(module.getTestClasspathElements()).thenReturn(
+        Arrays.asList(classes.getAbsolutePath(), name + "-dependency.jar"));
+    when(module.getCompileSourceRoots()).thenReturn(
+        Collections.singletonList(name + "-src"));
+    when(module.getTestCompileSourceRoots()).thenReturn(
+        Collections.singletonList(name + "-test-src"));
+    when(module.getArtifacts()).thenReturn(Collections.emptySet());
+    return module;
+  }
+
+  private String classesOf(final String module) {
+    return new File(new File(this.baseDir, module), "classes")
+        .getAbsolutePath();
+  }
+
+  private Map<String, String> anyMap() {
+    return Matchers.<Map<String, String>> any();
+  }
+
+  private static void deleteRecursively(final File file) throws IOException {
+    final File[] children = file.listFiles();
+    if (children != null) {
+      for (final File each : children) {
+        deleteRecursively(each);
+      }
+    }
+    file.delete();
+  }
+
+}
@@ -22,12 +22,15 @@ import org.apache.maven.scm.ScmException;
 import org.apache.maven.scm.ScmFile;
 import org.apache.maven.scm.ScmFileSet;
 import org.apache.maven.scm.ScmFileStatus;
+import org.apache.maven.scm.ScmVersion;
 import org.apache.maven.scm.command.changelog.ChangeLogScmRequest;
 import org.apache.maven.scm.command.changelog.ChangeLogScmResult;
 import org.apache.maven.scm.command.changelog.ChangeLogSet;
+import org.apache.maven.scm.command.diff.DiffScmResult;
 import org.apache.maven.scm.command.status.StatusScmResult;
 import org.apache.maven.scm.manager.ScmManager;
 import org.apache.maven.scm.repository.ScmRepository;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.pitest.functional.predicate.True;
@@ -181,6 +184,96 @@ public class ScmMojoTest extends BasePitMojoTest {
         any(ReportOptions.class), any(PluginServices.class), anyMap());
   }
 
+  public void testRestrictsMutationToLinesChangedInDiff() throws Exception {
+    setupConnection();
+    setFileWithStatus(ScmFileStatus.MODIFIED);
+    givenDiff("--- a/foo/bar/Bar.java\n" + "+++ b/foo/bar/Bar.java\n"
+        + "@@ -3 +3 @@\n" + "-a\n" + "+b\n");
+    final ReportOptions actual = analyse();
+    assertEquals(Collections.singleton(3),
+        actual.getChangedLines().get("foo/bar/Bar.java"));
+    assertTrue(actual.getFeatures().contains(
+        "+FCHANGED(granularity[method])"));
+  }
+
+  public void testCanRestrictMutationToChangedLinesOnly() throws Exception {
+    setupConnection();
+    setFileWithStatus(ScmFileStatus.MODIFIED);
+    configurePitMojo(this.testee,
+        createPomWithConfiguration("<granularity>LINE</granularity>"));
+    givenDiff("--- a/foo/bar/Bar.java\n" + "+++ b/foo/bar/Bar.java\n"
+        + "@@ -3 +3 @@\n" + "-a\n" + "+b\n");
+    assertTrue(analyse().getFeatures().contains(
+        "+FCHANGED(granularity[line])"));
+  }
+
+  public void testMutatesWholeClassesWhenGranularityIsClass() throws Exception {
+    setupConnection();
+    setFileWithStatus(ScmFileStatus.MODIFIED);
+    configurePitMojo(this.testee,
+        createPomWithConfiguration("<granularity>CLASS</granularity>"));
+    final ReportOptions actual = analyse();
+    assertTrue(actual.getChangedLines().isEmpty());
+    verify(this.manager, never()).diff(any(ScmRepository.class),
+        any(ScmFileSet.class), any(ScmVersion.class), any(ScmVersion.class));
+  }
+
+  public void testMutatesWholeClassesWhenDiffUnavailable() throws Exception {
+    setupConnection();
+    setFileWithStatus(ScmFileStatus.MODIFIED);
+    final ReportOptions actual = analyse();
+    assertTrue(actual.getChangedLines().isEmpty());
+    assertFalse(actual.getFeatures().contains(
+        "+FCHANGED(granularity[method])"));
+  }
+
+  public void testIgnoresChangedLinesOutsideSourceRoot() throws Exception {
+    setupConnection();
+    setFileWithStatus(ScmFileStatus.MODIFIED);
+    givenDiff("--- a/foo/bar/Bar.java\n" + "+++ b/foo/bar/Bar.java\n"
+        + "@@ -3 +3 @@\n" + "-a\n" + "+b\n" + "--- a/../README\n"
+        + "+++ b/../README\n" + "@@ -1 +1 @@\n" + "-a\n" + "+b\n");
+    assertEquals(Collections.singleton("foo/bar/Bar.java"), analyse()
+        .getChangedLines().keySet());
+  }
+
+  public void testMutatesWholeOfChangedClassesMissingFromDiff()
+      throws Exception {
+    setupConnection();
+    configurePitMojo(
+        this.testee,
+        createPomWithConfiguration("<include><value>MODIFIED</value><value>UNKNOWN</value></include>"));
+    when(this.manager.status(any(ScmRepository.class), any(ScmFileSet.class)))
+        .thenReturn(
+            new StatusScmResult("", Arrays.asList(new ScmFile(
+                "foo/bar/Bar.java", ScmFileStatus.MODIFIED), new ScmFile(
+                "foo/bar/Untracked.java", ScmFileStatus.UNKNOWN))));
+    // untracked files do not appear in a diff against HEAD
+    givenDiff("--- a/foo/bar/Bar.java\n" + "+++ b/foo/bar/Bar.java\n"
+        + "@@ -3 +3 @@\n" + "-a\n" + "+b\n");
+    final ReportOptions actual = analyse();
+    assertTrue(actual.getTargetClassesFilter().apply("foo.bar.Untracked"));
+    assertEquals(Collections.singleton("foo/bar/Bar.java"), actual
+        .getChangedLines().keySet());
+  }
+
+  private void givenDiff(final String patch) throws ScmException {
+    when(
+        this.manager.diff(any(ScmRepository.class), any(ScmFileSet.class),
+            any(ScmVersion.class), any(ScmVersion.class))).thenReturn(
+        new DiffScmResult("", Collections.<ScmFile> emptyList(),
+            Collections.<String, CharSequence> emptyMap(), patch));
+  }
+
+  private ReportOptions analyse() throws Exception {
+    this.testee.execute();
+    final ArgumentCaptor<ReportOptions> captor = ArgumentCaptor
+        .forClass(ReportOptions.class);
+    verify(this.executionStrategy).execute(any(File.class), captor.capture(),
+        any(PluginServices.class), anyMap());
+    return captor.getValue();
+  }
+
   private void setupConnection() {
     when(this.scm.getConnection()).thenReturn("url");
     this.testee.setConnectionType("connection");
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.maven;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class UnifiedDiffParserTest {
+
+  private final UnifiedDiffParser testee = new UnifiedDiffParser();
+
+  @Test
+  public void shouldReturnNoChangesForEmptyPatch() {
+    assertTrue(this.testee.parse("").isEmpty());
+    assertTrue(this.testee.parse(null).isEmpty());
+  }
+
+  @Test
+  public void shouldReportAddedLinesAgainstNewFile() {
+    final String patch = "diff --git a/src/Foo.java b/src/Foo.java\n"
+        + "index 1111111..2222222 100644\n"
+        + "--- a/src/Foo.java\n"
+        + "+++ b/src/Foo.java\n"
+        + "@@ -10,3 +10,5 @@ class Foo {\n"
+        + " a\n"
+        + "+b\n"
+        + "+c\n"
+        + " d\n"
+        + " e\n";
+    assertEquals(lines(11, 12), this.testee.parse(patch).get("src/Foo.java"));
+  }
+
+  @Test
+  public void shouldReportModifiedLines() {
+    final String patch = "--- a/Foo.java\n"
+        + "+++ b/Foo.java\n"
+        + "@@ -1,3 +1,3 @@\n"
+        + " a\n"
+        + "-b\n"
+        + "+B\n"
+        + " c\n";
+    assertEquals(lines(2), this.testee.parse(patch).get("Foo.java"));
+  }
+
+  @Test
+  public void shouldReportLineNowInPlaceOfRemovedLines() {
+    final String patch = "--- a/Foo.java\n"
+        + "+++ b/Foo.java\n"
+        + "@@ -4,4 +4,2 @@\n"
+        + " a\n"
+        + "-b\n"
+        + "-c\n"
+        + " d\n";
+    assertEquals(lines(5), this.testee.parse(patch).get("Foo.java"));
+  }
+
+  @Test
+  public void shouldTrackLinesAcrossMultipleHunks() {
+    final String patch = "--- a/Foo.java\n"
+        + "+++ b/Foo.java\n"
+        + "@@ -1,2 +1,3 @@\n"
+        + " a\n"
+        + "+b\n"
+        + " c\n"
+        + "@@ -20 +21 @@\n"
+        + "-x\n"
+        + "+y\n";
+    assertEquals(lines(2, 21), this.testee.parse(patch).get("Foo.java"));
+  }
+
+  @Test
+  public void shouldReportChangesForEachFile() {
+    final String patch = "--- a/Foo.java\n"
+        + "+++ b/Foo.java\n"
+        + "@@ -1 +1 @@\n"
+        + "-a\n"
+        + "+b\n"
+        + "--- a/Bar.java\n"
+        + "+++ b/Bar.java\n"
+        + "@@ -3 +3,2 @@\n"
+        + " a\n"
+        + "+++ looks like a header\n";
+    final Map<String, Set<Integer>> actual = this.testee.parse(patch);
+    assertEquals(Arrays.asList("Foo.java", "Bar.java"),
+        Arrays.asList(actual.keySet().toArray()));
+    assertEquals(lines(1), actual.get("Foo.java"));
+    assertEquals(lines(4), actual.get("Bar.java"));
+  }
+
+  @Test
+  public void shouldIgnoreDeletedFiles() {
+    final String patch = "--- a/Foo.java\n"
+        + "+++ /dev/null\n"
+        + "@@ -1,2 +0,0 @@\n"
+        + "-a\n"
+        + "-b\n";
+    assertTrue(this.testee.parse(patch).isEmpty());
+  }
+
+  @Test
+  public void shouldIgnoreMissingNewlineMarkers() {
+    final String patch = "--- a/Foo.java\n"
+        + "+++ b/Foo.java\n"
+        + "@@ -1 +1,2 @@\n"
+        + " a\n"
+        + "\\ No newline at end of file\n"
+        + "+b\n";
+    assertEquals(lines(2), this.testee.parse(patch).get("Foo.java"));
+  }
+
+  @Test
+  public void shouldStripTimestampsFromFileHeaders() {
+    final String patch = "--- Foo.java\t2017-01-01 10:00:00\n"
+        + "+++ Foo.java\t2017-01-02 10:00:00\n"
+        + "@@ -1 +1 @@\n"
+        + "-a\n"
+        + "+b\n";
+    assertEquals(Collections.singleton("Foo.java"), this.testee.parse(patch)
+        .keySet());
+  }
+
+  private static Set<Integer> lines(final Integer... lines) {
+    return new LinkedHashSet<>(Arrays.asList(lines));
+  }
+
+}
@@ -15,7 +15,6 @@
 package org.pitest.classinfo;
 
 import java.lang.annotation.Annotation;
-import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
@@ -114,21 +113,25 @@ public class ClassInfo {
     return new HierarchicalClassId(this.id, getDeepHash());
   }
 
-  public BigInteger getDeepHash() {
-    BigInteger hash = getHash();
+  public long getDeepHash() {
+    long hash = getHash();
     final Option<ClassInfo> parent = getParent();
     if (parent.hasSome()) {
-      hash = hash.add(parent.value().getHash());
+      hash = combine(hash, parent.value().getHash());
     }
     final Option<ClassInfo> outer = getOuterClass();
     if (outer.hasSome()) {
-      hash = hash.add(outer.value().getHash());
+      hash = combine(hash, outer.value().getHash());
     }
     return hash;
   }
 
-  public BigInteger getHash() {
-    return BigInteger.valueOf(this.id.getHash());
+  public long getHash() {
+    return this.id.getHash();
+  }
+
+  private static long combine(final long hash, final long other) {
+    return (hash * 31) + XxHash64.avalanche(other);
   }
 
   private Option<ClassInfo> getParent() {
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.classinfo;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.pitest.functional.Option;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.XStreamException;
+
+/**
+ * Parsed class information keyed by class name, length and hash of the class
+ * file, so that classes unchanged since a previous run need not be parsed
+ * again. Only entries used during a run are saved, so classes removed from
+ * the classpath drop out of the index.
+ */
+public class ClassInfoIndex {
+
+  private static final Logger                LOG     = Log.getLogger();
+
+  // increment when the information gathered for a class changes
+  static final int                           VERSION = 1;
+
+  private static final XStream               XSTREAM = configureXStream();
+
+  private static final ClassInfoIndex        NONE    = new ClassInfoIndex(
+      Collections.<String, Entry> emptyMap(), false);
+
+  private final Map<String, Entry>           previous;
+  private final ConcurrentMap<String, Entry> current = new ConcurrentHashMap<>();
+  private final boolean                      recording;
+
+  public ClassInfoIndex() {
+    this(new HashMap<String, Entry>(), true);
+  }
+
+  private ClassInfoIndex(final Map<String, Entry> previous,
+      final boolean recording) {
+    this.previous = previous;
+    this.recording = recording;
+  }
+
+  /**
+   * An index that records nothing, for use when the index is not persisted
+   * and retaining every parsed class would only cost memory.
+   *
+   * @return the index
+   */
+  public static ClassInfoIndex none() {
+    return NONE;
+  }
+
+  /**
+   * Loads an index saved by a previous run. An empty index is returned if the
+   * file does not exist or was written by a different version.
+   *
+   * @param file file to load from
+   * @return the index
+   */
+  public static ClassInfoIndex load(final File file) {
+    if (!file.exists()) {
+      return new ClassInfoIndex();
+    }
+    try (Reader r = new InputStreamReader(new GZIPInputStream(
+        new FileInputStream(file)), StandardCharsets.UTF_8)) {
+      final Snapshot snapshot = (Snapshot) XSTREAM.fromXML(r);
+      if (snapshot.version != VERSION) {
+        LOG.info("Ignoring class info index written by version "
+            + snapshot.version);
+        return new ClassInfoIndex();
+      }
+      return new ClassInfoIndex(snapshot.entries, true);
+    } catch (final IOException | XStreamException | ClassCastException e) {
+      LOG.warning("Could not read class info index " + file + " : "
+          + e.getMessage());
+      return new ClassInfoIndex();
+    }
+  }
+
+  public void save(final File file) {
+    final Snapshot snapshot = new Snapshot(VERSION,
+        new HashMap<>(this.current));
+    try (Writer w = new OutputStreamWriter(new GZIPOutputStream(
+        new FileOutputStream(file)), StandardCharsets.UTF_8)) {
+      XSTREAM.toXML(snapshot, w);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  public int size() {
+    return this.current.size();
+  }
+
+  Option<ClassInfoBuilder> find(final ClassName name, final byte[] bytes,
+      final long hash) {
+    final String key = name.asInternalName();
+    Entry entry = this.current.get(key);
+    if (entry == null) {
+      entry = this.previous.get(key);
+    }
+    if (entry == null || !entry.matches(bytes.length, hash)) {
+      return Option.none();
+    }
+    this.current.putIfAbsent(key, entry);
+    return Option.some(entry.info);
+  }
+
+  void record(final ClassName name, final byte[] bytes, final long hash,
+      final ClassInfoBuilder info) {
+    if (!this.recording) {
+      return;
+    }
+    this.current.put(name.asInternalName(), new Entry(bytes.length, hash,
+        info));
+  }
+
+  private static XStream configureXStream() {
+    final XStream xstream = new XStream();
+    xstream.alias("classInfoIndex", Snapshot.class);
+    xstream.alias("entry", Entry.class);
+    xstream.alias("classInfo", ClassInfoBuilder.class);
+    xstream.alias("classId", ClassIdentifier.class);
+    xstream.alias("name", ClassName.class);
+    xstream.useAttributeFor(Snapshot.class, "version");
+    xstream.useAttributeFor(Entry.class, "length");
+    xstream.useAttributeFor(Entry.class, "hash");
+    return xstream;
+  }
+
+  private static class Snapshot {
+    private final int                version;
+    private final Map<String, Entry> entries;
+
+    Snapshot(final int version, final Map<String, Entry> entries) {
+      this.version = version;
+      this.entries = entries;
+    }
+  }
+
+  private static class Entry {
+    private final int              length;
+    private final long             hash;
+    private final ClassInfoBuilder info;
+
+    Entry(final int length, final long hash, final ClassInfoBuilder info) {
+      this.length = length;
+      this.hash = hash;
+      this.info = info;
+    }
+
+    boolean matches(final int length, final long hash) {
+      return this.length == length && this.hash == hash;
+    }
+  }
+
+}
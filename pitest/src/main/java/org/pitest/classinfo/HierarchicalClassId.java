@@ -1,7 +1,5 @@
 package org.pitest.classinfo;
 
-import java.math.BigInteger;
-
 public final class HierarchicalClassId {
 
   private final ClassIdentifier classId;
@@ -13,8 +11,8 @@ public final class HierarchicalClassId {
     this.hierarchicalHash = hierarchicalHash;
   }
 
-  public HierarchicalClassId(final ClassIdentifier id, final BigInteger deepHash) {
-    this(id, deepHash.toString(16));
+  public HierarchicalClassId(final ClassIdentifier id, final long deepHash) {
+    this(id, Long.toHexString(deepHash));
   }
 
   public HierarchicalClassId(final long hash, final ClassName name,
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.classinfo;
+
+/**
+ * 64 bit xxHash of a byte array, as described at
+ * https://github.com/Cyan4973/xxHash. Much less likely to collide than a 32 bit
+ * checksum while still being cheap to compute for every class on the
+ * classpath.
+ */
+public class XxHash64 implements HashFunction {
+
+  private static final long PRIME1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME3 = 0x165667B19E3779F9L;
+  private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+  private final long        seed;
+
+  public XxHash64() {
+    this(0);
+  }
+
+  public XxHash64(final long seed) {
+    this.seed = seed;
+  }
+
+  @Override
+  public long hash(final byte[] value) {
+    final int length = value.length;
+    int offset = 0;
+    long h;
+
+    if (length >= 32) {
+      long v1 = this.seed + PRIME1 + PRIME2;
+      long v2 = this.seed + PRIME2;
+      long v3 = this.seed;
+      long v4 = this.seed - PRIME1;
+      final int limit = length - 32;
+      do {
+        v1 = round(v1, readLong(value, offset));
+        v2 = round(v2, readLong(value, offset + 8));
+        v3 = round(v3, readLong(value, offset + 16));
+        v4 = round(v4, readLong(value, offset + 24));
+        offset = offset + 32;
+      } while (offset <= limit);
+
+      h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7)
+          + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+      h = mergeRound(h, v1);
+      h = mergeRound(h, v2);
+      h = mergeRound(h, v3);
+      h = mergeRound(h, v4);
+    } else {
+      h = this.seed + PRIME5;
+    }
+
+    h = h + length;
+
+    while (offset + 8 <= length) {
+      h = h ^ round(0, readLong(value, offset));
+      h = (Long.rotateLeft(h, 27) * PRIME1) + PRIME4;
+      offset = offset + 8;
+    }
+
+    if (offset + 4 <= length) {
+      h = h ^ (readInt(value, offset) * PRIME1);
+      h = (Long.rotateLeft(h, 23) * PRIME2) + PRIME3;
+      offset = offset + 4;
+    }
+
+    while (offset < length) {
+      h = h ^ ((value[offset] & 0xFFL) * PRIME5);
+      h = Long.rotateLeft(h, 11) * PRIME1;
+      offset++;
+    }
+
+    return avalanche(h);
+  }
+
+  /**
+   * Mixes the bits of a single value so that combining hashes with simple
+   * arithmetic does not lose the spread of the inputs.
+   *
+   * @param value value to mix
+   * @return mixed value
+   */
+  public static long avalanche(final long value) {
+    long h = value;
+    h = h ^ (h >>> 33);
+    h = h * PRIME2;
+    h = h ^ (h >>> 29);
+    h = h * PRIME3;
+    return h ^ (h >>> 32);
+  }
+
+  private static long round(final long acc, final long input) {
+    return Long.rotateLeft(acc + (input * PRIME2), 31) * PRIME1;
+  }
+
+  private static long mergeRound(final long acc, final long val) {
+    return ((acc ^ round(0, val)) * PRIME1) + PRIME4;
+  }
+
+  private static long readLong(final byte[] b, final int i) {
+    return (b[i] & 0xFFL) | ((b[i + 1] & 0xFFL) << 8)
+        | ((b[i + 2] & 0xFFL) << 16) | ((b[i + 3] & 0xFFL) << 24)
+        | ((b[i + 4] & 0xFFL) << 32) | ((b[i + 5] & 0xFFL) << 40)
+        | ((b[i + 6] & 0xFFL) << 48) | ((b[i + 7] & 0xFFL) << 56);
+  }
+
+  private static long readInt(final byte[] b, final int i) {
+    return (b[i] & 0xFFL) | ((b[i + 1] & 0xFFL) << 8)
+        | ((b[i + 2] & 0xFFL) << 16) | ((b[i + 3] & 0xFFL) << 24);
+  }
+
+}
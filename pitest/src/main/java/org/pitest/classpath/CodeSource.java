@@ -1,14 +1,15 @@
 package org.pitest.classpath;
 
-import static org.pitest.functional.FCollection.flatMap;
 import static org.pitest.functional.prelude.Prelude.not;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoIndex;
 import org.pitest.classinfo.ClassInfoSource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.NameToClassInfo;
@@ -26,9 +27,19 @@ public class CodeSource implements ClassInfoSource {
   private final ProjectClassPaths   classPath;
   private final Repository          classRepository;
 
+  // the classpath does not change during a run so scans are done once
+  private List<ClassInfo>           code;
+  private Set<ClassName>            codeNames;
+  private List<ClassInfo>           tests;
+
   public CodeSource(final ProjectClassPaths classPath) {
+    this(classPath, ClassInfoIndex.none());
+  }
+
+  public CodeSource(final ProjectClassPaths classPath,
+      final ClassInfoIndex index) {
     this(classPath, new Repository(new ClassPathByteArraySource(
-        classPath.getClassPath())));
+        classPath.getClassPath()), index));
   }
 
   CodeSource(final ProjectClassPaths classPath,
@@ -38,18 +49,27 @@ public class CodeSource implements ClassInfoSource {
   }
 
   public Collection<ClassInfo> getCode() {
-    return FCollection.flatMap(this.classPath.code(), nameToClassInfo());
+    if (this.code == null) {
+      this.code = Collections.unmodifiableList(scan(this.classPath.code()));
+    }
+    return this.code;
   }
 
   public Set<ClassName> getCodeUnderTestNames() {
-    final Set<ClassName> codeClasses = new HashSet<>();
-    FCollection.mapTo(getCode(), ClassInfo.toClassName(), codeClasses);
-    return codeClasses;
+    if (this.codeNames == null) {
+      final Set<ClassName> codeClasses = new HashSet<>();
+      FCollection.mapTo(getCode(), ClassInfo.toClassName(), codeClasses);
+      this.codeNames = Collections.unmodifiableSet(codeClasses);
+    }
+    return this.codeNames;
   }
 
   public List<ClassInfo> getTests() {
-    return flatMap(this.classPath.test(), nameToClassInfo()).filter(
-                    not(ClassInfo.matchIfAbstract()));
+    if (this.tests == null) {
+      this.tests = Collections.unmodifiableList(FCollection.filter(
+          scan(this.classPath.test()), not(ClassInfo.matchIfAbstract())));
+    }
+    return this.tests;
   }
 
   public ClassPath getClassPath() {
@@ -79,6 +99,11 @@ public class CodeSource implements ClassInfoSource {
     return this.classRepository.fetchClass(clazz);
   }
 
+  private List<ClassInfo> scan(final Iterable<ClassName> names) {
+    return this.classRepository.fetchClasses(names, Runtime.getRuntime()
+        .availableProcessors());
+  }
+
   private F<ClassName, Option<ClassInfo>> nameToClassInfo() {
     return new NameToClassInfo(this.classRepository);
   }
@@ -40,6 +40,13 @@ public final class TestInfo {
     return this.name;
   }
 
+  public Option<ClassName> getDefiningClass() {
+    if (this.definingClass == null) {
+      return Option.none();
+    }
+    return Option.some(ClassName.fromString(this.definingClass));
+  }
+
   public int getTime() {
     return this.time;
   }
@@ -22,6 +22,12 @@ import java.net.Socket;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -31,7 +37,8 @@ import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.coverage.CoverageTransformer;
 import org.pitest.dependency.DependencyExtractor;
-import org.pitest.functional.FCollection;
+import org.pitest.functional.F;
+import org.pitest.functional.Option;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.PitHelpError;
@@ -141,7 +148,8 @@ public class CoverageMinion {
     Configuration testPlugin = createTestPlugin(paramsFromParent);
     verifyEnvironment(testPlugin);
     
-    final List<TestUnit> tus = discoverTests(testPlugin, classes);
+    final List<TestUnit> tus = discoverTests(testPlugin,
+        loadClasses(classes, Runtime.getRuntime().availableProcessors()));
 
     final DependencyFilter filter = new DependencyFilter(
         new DependencyExtractor(new ClassPathByteArraySource(),
@@ -156,15 +164,65 @@ public class CoverageMinion {
 
   }
 
+  // Discovery may run user code (static initializers, parameter methods etc)
+  // so is done serially to avoid deadlocks between class initializers.
   private static List<TestUnit> discoverTests(final Configuration testPlugin,
- final List<ClassName> classes) {
+      final List<Class<?>> classes) {
     final FindTestUnits finder = new FindTestUnits(testPlugin);
     final List<TestUnit> tus = finder
-        .findTestUnitsForAllSuppliedClasses(FCollection.flatMap(classes,
-            ClassName.nameToClass()));
+        .findTestUnitsForAllSuppliedClasses(classes);
     LOG.info("Found  " + tus.size() + " tests");
     return tus;
   }
+
+  /**
+   * Loads, but does not initialize, the supplied classes using a pool of
+   * threads. Classes are returned in the order supplied, with any that
+   * cannot be loaded omitted.
+   */
+  static List<Class<?>> loadClasses(final List<ClassName> classes,
+      final int threads) {
+    final F<ClassName, Option<Class<?>>> nameToClass = ClassName.nameToClass();
+    final ExecutorService executor = Executors.newFixedThreadPool(
+        Math.max(1, threads), daemonThreads());
+    try {
+      final List<Future<Option<Class<?>>>> results = new ArrayList<>(
+          classes.size());
+      for (final ClassName each : classes) {
+        results.add(executor.submit(new Callable<Option<Class<?>>>() {
+          @Override
+          public Option<Class<?>> call() {
+            return nameToClass.apply(each);
+          }
+        }));
+      }
+
+      final List<Class<?>> loaded = new ArrayList<>(classes.size());
+      for (final Future<Option<Class<?>>> each : results) {
+        for (final Class<?> clazz : each.get()) {
+          loaded.add(clazz);
+        }
+      }
+      return loaded;
+    } catch (final InterruptedException e) {
+      throw translateCheckedException(e);
+    } catch (final ExecutionException e) {
+      throw translateCheckedException(e.getCause());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static ThreadFactory daemonThreads() {
+    return new ThreadFactory() {
+      @Override
+      public Thread newThread(final Runnable r) {
+        final Thread t = new Thread(r, "pit-class-loader");
+        t.setDaemon(true);
+        return t;
+      }
+    };
+  }
   
   private static Configuration createTestPlugin(
       final CoverageOptions paramsFromParent) {
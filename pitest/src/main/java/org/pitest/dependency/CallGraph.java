@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.dependency;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+import org.objectweb.asm.ClassReader;
+import org.pitest.bytecode.NullVisitor;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect1;
+import org.pitest.util.Log;
+
+/**
+ * Lazily built graph of the members each class accesses. Each class is read
+ * and visited at most once, so the graph can be shared between queries for
+ * many test classes. Safe for concurrent use, although the underlying byte
+ * source is only ever accessed by one thread at a time.
+ */
+public class CallGraph {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final ClassByteArraySource                          classToBytes;
+  private final ConcurrentMap<String, List<DependencyAccess>> edges = new ConcurrentHashMap<>();
+
+  public CallGraph(final ClassByteArraySource classToBytes) {
+    this.classToBytes = classToBytes;
+  }
+
+  /**
+   * Returns the distinct accesses made by the named class to members of
+   * other classes.
+   *
+   * @param clazz name of class in java or internal format
+   * @return accesses made by the class
+   */
+  List<DependencyAccess> accessesFrom(final String clazz) {
+    final List<DependencyAccess> known = this.edges.get(clazz);
+    if (known != null) {
+      return known;
+    }
+    final List<DependencyAccess> accesses = extract(clazz);
+    final List<DependencyAccess> existing = this.edges.putIfAbsent(clazz,
+        accesses);
+    return existing != null ? existing : accesses;
+  }
+
+  int size() {
+    return this.edges.size();
+  }
+
+  private List<DependencyAccess> extract(final String clazz) {
+    final Option<byte[]> bytes = readBytes(clazz);
+    if (bytes.hasNone()) {
+      LOG.warning("No bytes found for " + clazz);
+      return Collections.emptyList();
+    }
+    final ClassReader reader = new ClassReader(bytes.value());
+    final Set<DependencyAccess> dependencies = new LinkedHashSet<>();
+
+    final SideEffect1<DependencyAccess> se = new SideEffect1<DependencyAccess>() {
+      @Override
+      public void apply(final DependencyAccess a) {
+        if (!a.getDest().getOwner().equals(clazz)) {
+          dependencies.add(a);
+        }
+      }
+    };
+    final DependencyClassVisitor dcv = new DependencyClassVisitor(
+        new NullVisitor(), se);
+    reader.accept(dcv, ClassReader.EXPAND_FRAMES);
+    return Collections.unmodifiableList(new ArrayList<>(dependencies));
+  }
+
+  private Option<byte[]> readBytes(final String clazz) {
+    synchronized (this.classToBytes) {
+      return this.classToBytes.getBytes(clazz);
+    }
+  }
+
+}
@@ -17,16 +17,28 @@ package org.pitest.junit.adapter;
 
 import static org.pitest.util.Unchecked.translateCheckedException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.junit.internal.builders.AllDefaultPossibilitiesBuilder;
+import org.junit.internal.builders.IgnoredClassRunner;
 import org.junit.internal.runners.ErrorReportingRunner;
 import org.junit.runner.Runner;
 import org.junit.runner.manipulation.Filter;
 import org.junit.runner.manipulation.Filterable;
 import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runners.BlockJUnit4ClassRunner;
+import org.junit.runners.JUnit4;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.RunnerBuilder;
+import org.junit.runners.model.TestClass;
 import org.pitest.functional.Option;
 import org.pitest.testapi.AbstractTestUnit;
 import org.pitest.testapi.ResultCollector;
@@ -36,9 +48,30 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
 
   private static final Logger                LOG = Log.getLogger();
 
+  // Runners that execute no user code during construction can be reused for
+  // each mutant. Others may hold values calculated from code that has since
+  // been mutated, so are rebuilt for each execution. Parameterized runners are
+  // the exception, see parametersFor.
+  private static final Set<Class<?>>         REUSABLE_RUNNERS = new HashSet<Class<?>>(
+      Arrays.<Class<?>> asList(BlockJUnit4ClassRunner.class, JUnit4.class,
+          IgnoredClassRunner.class));
+
+  // parameter values that tests cannot modify
+  private static final Set<Class<?>>         IMMUTABLE_VALUES = new HashSet<Class<?>>(
+      Arrays.<Class<?>> asList(String.class, Integer.class, Long.class,
+          Short.class, Byte.class, Character.class, Boolean.class,
+          Double.class, Float.class, Class.class));
+
   private final Class<?>                     clazz;
   private final Option<Filter>               filter;
 
+  private Runner                             reusableRunner;
+  private boolean                            noTestsRemain;
+
+  private Runner                             parameterisedRunner;
+  private FrameworkMethod                    parametersMethod;
+  private Object[]                           runnerParameters;
+  private boolean                            parametersComparable = true;
 
   public AdaptedJUnitTestUnit(
       final Class<?> clazz, final Option<Filter> filter) {
@@ -59,9 +92,10 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
   @Override
   public void execute(final ResultCollector rc) {
 
-    final Runner runner = createRunner(this.clazz);
-    checkForErrorRunner(runner);
-    filterIfRequired(rc, runner);
+    final Runner runner = prepareRunner();
+    if (this.noTestsRemain) {
+      rc.notifySkipped(this.getDescription());
+    }
 
     try {
         final CustomRunnerExecutor nativeCe = new CustomRunnerExecutor(
@@ -76,6 +110,115 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
 
   }
 
+  private Runner prepareRunner() {
+    if (this.reusableRunner != null) {
+      return this.reusableRunner;
+    }
+
+    Option<Object[]> parameters = Option.none();
+    if (this.parameterisedRunner != null) {
+      parameters = currentParameters(this.parametersMethod);
+      if (parameters.hasSome()
+          && Arrays.deepEquals(parameters.value(), this.runnerParameters)) {
+        return this.parameterisedRunner;
+      }
+    }
+
+    final Runner runner = createRunner(this.clazz);
+    checkForErrorRunner(runner);
+    // the filter is fixed for this unit, so a reused runner need only be
+    // filtered once
+    this.noTestsRemain = !filterIfRequired(runner);
+    this.parameterisedRunner = null;
+    if (REUSABLE_RUNNERS.contains(runner.getClass())) {
+      this.reusableRunner = runner;
+    } else if (runner.getClass() == Parameterized.class
+        && this.parametersComparable) {
+      if (this.parametersMethod == null) {
+        this.parametersMethod = findParametersMethod(this.clazz);
+      }
+      if (parameters.hasNone()) {
+        parameters = currentParameters(this.parametersMethod);
+      }
+      if (parameters.hasSome()) {
+        this.parameterisedRunner = runner;
+        this.runnerParameters = parameters.value();
+      } else {
+        // don't pay for a second call to the parameters method each time
+        this.parametersComparable = false;
+      }
+    }
+    return runner;
+  }
+
+  private static FrameworkMethod findParametersMethod(final Class<?> clazz) {
+    try {
+      final List<FrameworkMethod> methods = new TestClass(clazz)
+          .getAnnotatedMethods(Parameters.class);
+      if (methods.size() == 1 && methods.get(0).isStatic()) {
+        return methods.get(0);
+      }
+    } catch (final RuntimeException ex) {
+      // the runner will already have reported any problem with the class
+    }
+    return null;
+  }
+
+  /**
+   * A Parameterized runner can be reused while its parameters method, which
+   * may have been mutated, still returns the same values. This is only safe
+   * to check when the values are immutable, as the runner holds its own copies
+   * which the tests may otherwise have changed.
+   *
+   * @return the current parameters, or none if they cannot be compared
+   */
+  private static Option<Object[]> currentParameters(
+      final FrameworkMethod method) {
+    if (method == null) {
+      return Option.none();
+    }
+    try {
+      final Object parameters = method.invokeExplosively(null);
+      final Object[] values;
+      if (parameters instanceof Iterable) {
+        final List<Object> list = new ArrayList<Object>();
+        for (final Object each : (Iterable<?>) parameters) {
+          list.add(each);
+        }
+        values = list.toArray();
+      } else if (parameters instanceof Object[]) {
+        values = ((Object[]) parameters).clone();
+      } else {
+        return Option.none();
+      }
+      if (!isImmutable(values)) {
+        return Option.none();
+      }
+      return Option.some(values);
+    } catch (final OutOfMemoryError e) {
+      throw e;
+    } catch (final Throwable t) {
+      // leave it to the runner to report the error
+      return Option.none();
+    }
+  }
+
+  private static boolean isImmutable(final Object value) {
+    if (value == null || value instanceof Enum
+        || IMMUTABLE_VALUES.contains(value.getClass())) {
+      return true;
+    }
+    if (value instanceof Object[]) {
+      for (final Object each : (Object[]) value) {
+        if (!isImmutable(each)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
   private void checkForErrorRunner(final Runner runner) {
     if (runner instanceof ErrorReportingRunner) {
       LOG.warning("JUnit error for class " + this.clazz + " : "
@@ -84,21 +227,21 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
 
   }
 
-  private void filterIfRequired(final ResultCollector rc, final Runner runner) {
+  private boolean filterIfRequired(final Runner runner) {
     if (this.filter.hasSome()) {
       if (!(runner instanceof Filterable)) {
         LOG.warning("Not able to filter " + runner.getDescription()
             + ". Mutation may have prevented JUnit from constructing test");
-        return;
+        return true;
       }
       final Filterable f = (Filterable) runner;
       try {
         f.filter(this.filter.value());
       } catch (final NoTestsRemainException e1) {
-        rc.notifySkipped(this.getDescription());
-        return;
+        return false;
       }
     }
+    return true;
   }
 
   public static Runner createRunner(final Class<?> clazz) {
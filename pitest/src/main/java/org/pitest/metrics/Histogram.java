@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.metrics;
+
+/**
+ * Distribution of non negative values. Values are counted into power of two
+ * buckets, so percentiles are approximate but the memory cost is fixed.
+ */
+public final class Histogram {
+
+  private static final int BUCKETS = 64;
+
+  private long             count;
+  private long             total;
+  private long             min     = Long.MAX_VALUE;
+  private long             max;
+  private final long[]     buckets = new long[BUCKETS];
+
+  void record(final long value) {
+    final long v = Math.max(0, value);
+    this.count++;
+    this.total = this.total + v;
+    this.min = Math.min(this.min, v);
+    this.max = Math.max(this.max, v);
+    this.buckets[bucketFor(v)]++;
+  }
+
+  void merge(final Histogram other) {
+    this.count = this.count + other.count;
+    this.total = this.total + other.total;
+    this.min = Math.min(this.min, other.min);
+    this.max = Math.max(this.max, other.max);
+    for (int i = 0; i != BUCKETS; i++) {
+      this.buckets[i] = this.buckets[i] + other.buckets[i];
+    }
+  }
+
+  Histogram copy() {
+    final Histogram h = new Histogram();
+    h.merge(this);
+    return h;
+  }
+
+  public long getCount() {
+    return this.count;
+  }
+
+  public long getTotal() {
+    return this.total;
+  }
+
+  public long getMin() {
+    return this.count == 0 ? 0 : this.min;
+  }
+
+  public long getMax() {
+    return this.max;
+  }
+
+  public long getMean() {
+    return this.count == 0 ? 0 : this.total / this.count;
+  }
+
+  /**
+   * Returns an upper bound for the given percentile, accurate to within a
+   * factor of two and never greater than the largest recorded value.
+   *
+   * @param percentile value between 0 and 100
+   * @return approximate value at the percentile
+   */
+  public long getPercentile(final int percentile) {
+    if (this.count == 0) {
+      return 0;
+    }
+    final long rank = (long) Math.ceil((this.count * percentile) / 100d);
+    long seen = 0;
+    for (int i = 0; i != BUCKETS; i++) {
+      seen = seen + this.buckets[i];
+      if (seen >= rank && seen != 0) {
+        return Math.min(upperBoundOf(i), this.max);
+      }
+    }
+    return this.max;
+  }
+
+  private static int bucketFor(final long value) {
+    return BUCKETS - Long.numberOfLeadingZeros(value);
+  }
+
+  private static long upperBoundOf(final int bucket) {
+    if (bucket >= BUCKETS - 1) {
+      return Long.MAX_VALUE;
+    }
+    return (1L << bucket) - 1;
+  }
+
+  @Override
+  public String toString() {
+    return "count=" + this.count + ", mean=" + getMean() + ", p50="
+        + getPercentile(50) + ", p95=" + getPercentile(95) + ", max="
+        + this.max;
+  }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.metrics;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Named counters and histograms gathered during a run. Instances are
+ * serialised from minions to the main process and merged there, so only
+ * simple data is held.
+ *
+ * By convention durations are recorded in microseconds against names ending
+ * in "_us".
+ */
+public final class Metrics {
+
+  private final Map<String, Long>      counters   = new TreeMap<>();
+  private final Map<String, Histogram> histograms = new TreeMap<>();
+
+  public void increment(final String name) {
+    add(name, 1);
+  }
+
+  public synchronized void add(final String name, final long amount) {
+    final Long current = this.counters.get(name);
+    this.counters.put(name, current == null ? amount : current + amount);
+  }
+
+  public synchronized void record(final String name, final long value) {
+    histogramFor(name).record(value);
+  }
+
+  /**
+   * Records the time elapsed since the supplied start time.
+   *
+   * @param name name of the histogram, which should end in "_us"
+   * @param startNanos start time as given by System.nanoTime
+   */
+  public void recordSince(final String name, final long startNanos) {
+    record(name,
+        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+  }
+
+  public void merge(final Metrics other) {
+    // other is copied before this is locked, so merges in opposite
+    // directions cannot deadlock
+    final Metrics snapshot = other.copy();
+    synchronized (this) {
+      for (final Entry<String, Long> each : snapshot.counters.entrySet()) {
+        add(each.getKey(), each.getValue());
+      }
+      for (final Entry<String, Histogram> each : snapshot.histograms
+          .entrySet()) {
+        histogramFor(each.getKey()).merge(each.getValue());
+      }
+    }
+  }
+
+  public synchronized long getCounter(final String name) {
+    final Long value = this.counters.get(name);
+    return value == null ? 0 : value;
+  }
+
+  public synchronized Histogram getHistogram(final String name) {
+    final Histogram h = this.histograms.get(name);
+    return h == null ? new Histogram() : h.copy();
+  }
+
+  public synchronized boolean isEmpty() {
+    return this.counters.isEmpty() && this.histograms.isEmpty();
+  }
+
+  public synchronized void report(final PrintStream ps) {
+    for (final Entry<String, Long> each : this.counters.entrySet()) {
+      ps.println("> " + each.getKey() + " : " + each.getValue());
+    }
+    for (final Entry<String, Histogram> each : this.histograms.entrySet()) {
+      ps.println("> " + each.getKey() + " : " + each.getValue());
+    }
+  }
+
+  /**
+   * Writes all values as comma separated rows of type, name, count, total,
+   * min, mean, p50, p95 and max. Counters populate only the count column.
+   *
+   * @param out writer to export to. It is not closed.
+   * @throws IOException if the writer fails
+   */
+  public synchronized void export(final Writer out) throws IOException {
+    out.write("type,name,count,total,min,mean,p50,p95,max\n");
+    for (final Entry<String, Long> each : this.counters.entrySet()) {
+      out.write("counter," + each.getKey() + "," + each.getValue()
+          + ",,,,,,\n");
+    }
+    for (final Entry<String, Histogram> each : this.histograms.entrySet()) {
+      final Histogram h = each.getValue();
+      out.write("histogram," + each.getKey() + "," + h.getCount() + ","
+          + h.getTotal() + "," + h.getMin() + "," + h.getMean() + ","
+          + h.getPercentile(50) + "," + h.getPercentile(95) + ","
+          + h.getMax() + "\n");
+    }
+  }
+
+  private synchronized Metrics copy() {
+    final Metrics m = new Metrics();
+    m.counters.putAll(this.counters);
+    for (final Entry<String, Histogram> each : this.histograms.entrySet()) {
+      m.histograms.put(each.getKey(), each.getValue().copy());
+    }
+    return m;
+  }
+
+  private Histogram histogramFor(final String name) {
+    Histogram h = this.histograms.get(name);
+    if (h == null) {
+      h = new Histogram();
+      this.histograms.put(name, h);
+    }
+    return h;
+  }
+
+}
@@ -14,6 +14,10 @@
  */
 package org.pitest.mutationtest;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.pitest.functional.Option;
 
 public final class MutationStatusTestPair {
@@ -21,16 +25,31 @@ public final class MutationStatusTestPair {
   private final int             numberOfTestsRun;
   private final DetectionStatus status;
   private final Option<String>  killingTest;
+  private final List<String>    killingTests;
 
   public MutationStatusTestPair(final int numberOfTestsRun,
       final DetectionStatus status) {
-    this(numberOfTestsRun, status, null);
+    this(numberOfTestsRun, status, (String) null);
   }
 
   public MutationStatusTestPair(final int numberOfTestsRun,
       final DetectionStatus status, final String killingTest) {
+    this(numberOfTestsRun, status, killingTest == null ? Collections
+        .<String> emptyList() : Collections.singletonList(killingTest));
+  }
+
+  /**
+   * @param numberOfTestsRun number of tests run against the mutant
+   * @param status status of the mutant
+   * @param killingTests names of the tests that killed the mutant, in the
+   *          order they were run. The first is reported as the killing test.
+   */
+  public MutationStatusTestPair(final int numberOfTestsRun,
+      final DetectionStatus status, final List<String> killingTests) {
     this.status = status;
-    this.killingTest = Option.some(killingTest);
+    this.killingTests = new ArrayList<>(killingTests);
+    this.killingTest = Option.some(killingTests.isEmpty() ? null
+        : killingTests.get(0));
     this.numberOfTestsRun = numberOfTestsRun;
   }
 
@@ -42,6 +61,13 @@ public final class MutationStatusTestPair {
     return this.killingTest;
   }
 
+  public List<String> getKillingTests() {
+    if (this.killingTests == null) {
+      return Collections.emptyList();
+    }
+    return Collections.unmodifiableList(this.killingTests);
+  }
+
   public int getNumberOfTestsRun() {
     return this.numberOfTestsRun;
   }
@@ -62,6 +88,7 @@ public final class MutationStatusTestPair {
     int result = 1;
     result = (prime * result)
         + ((this.killingTest == null) ? 0 : this.killingTest.hashCode());
+    result = (prime * result) + getKillingTests().hashCode();
     result = (prime * result) + this.numberOfTestsRun;
     result = (prime * result)
         + ((this.status == null) ? 0 : this.status.hashCode());
@@ -87,6 +114,9 @@ public final class MutationStatusTestPair {
     } else if (!this.killingTest.equals(other.killingTest)) {
       return false;
     }
+    if (!getKillingTests().equals(other.getKillingTests())) {
+      return false;
+    }
     if (this.numberOfTestsRun != other.numberOfTestsRun) {
       return false;
     }
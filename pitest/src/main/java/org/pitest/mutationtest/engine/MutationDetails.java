@@ -37,6 +37,7 @@ public final class MutationDetails {
   private final ArrayList<TestInfo> testsInOrder = new ArrayList<>();
   private final boolean             isInFinallyBlock;
   private final PoisonStatus        poison;
+  private boolean                   testsReduced;
 
   public MutationDetails(final MutationIdentifier id, final String filename,
       final String description, final int lineNumber, final int block) {
@@ -72,6 +73,15 @@ public final class MutationDetails {
   public MutationDetails withPoisonStatus(PoisonStatus poisonStatus) {
     return new MutationDetails(id, filename, description, lineNumber, block, isInFinallyBlock, poisonStatus);
   }
+
+  /**
+   * Returns a copy of this mutation with no tests assigned
+   *
+   * @return copy without tests
+   */
+  public MutationDetails withoutTests() {
+    return new MutationDetails(id, filename, description, lineNumber, block, isInFinallyBlock, poison);
+  }
   
   /**
    * Returns the human readable description of the mutation. This may be a
@@ -181,6 +191,33 @@ public final class MutationDetails {
     this.testsInOrder.trimToSize();
   }
 
+  /**
+   * Records that some tests covering this mutation were judged redundant and
+   * left out of the covering tests
+   */
+  public void markTestsReduced() {
+    this.testsReduced = true;
+  }
+
+  /**
+   * Records that the covering tests of this mutation should not be reported
+   * as reduced, e.g because its result was not obtained by running them
+   */
+  public void clearTestsReduced() {
+    this.testsReduced = false;
+  }
+
+  /**
+   * Indicates if some tests covering this mutation were left out of the
+   * covering tests, so a surviving mutant might have been killed by the full
+   * set
+   * 
+   * @return true if the covering tests were reduced
+   */
+  public boolean isTestsReduced() {
+    return this.testsReduced;
+  }
+
   /**
    * Indicates if this mutation might poison state within the jvm (e.g affect
    * the values of static variable)
@@ -26,6 +26,10 @@ import java.util.Set;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 import org.pitest.bytecode.FrameOptions;
 import org.pitest.bytecode.NullVisitor;
 import org.pitest.classinfo.ClassByteArraySource;
@@ -36,12 +40,12 @@ import org.pitest.functional.FCollection;
 import org.pitest.functional.FunctionalList;
 import org.pitest.functional.Option;
 import org.pitest.functional.predicate.Predicate;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.Mutant;
-import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
-public class GregorMutater implements Mutater {
+public class GregorMutater implements MethodMutater {
 
   private final Map<String, String>       computeCache   = new HashMap<>();
   private final Predicate<MethodInfo>     filter;
@@ -114,6 +118,28 @@ public class GregorMutater implements Mutater {
 
   }
 
+  @Override
+  public byte[] getMethodMutation(final MutationIdentifier id) {
+
+    final ClassContext context = new ClassContext();
+    context.setTargetMutation(Option.some(id));
+
+    final Option<byte[]> bytes = this.byteSource.getBytes(id.getClassName()
+        .asJavaName());
+
+    // only the mutated method is passed through the mutating visitors, and
+    // frames are not recomputed so no class hierarchy lookups are needed
+    final ClassReader reader = new ClassReader(bytes.value());
+    final ClassWriter w = new ClassWriter(0);
+    final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
+        filterMethods(), FCollection.filter(this.mutators,
+            isMutatorFor(id)));
+    reader.accept(new SingleMethodVisitor(mca, id.getLocation()),
+        ClassReader.EXPAND_FRAMES);
+
+    return w.toByteArray();
+  }
+
   private static Predicate<MethodMutatorFactory> isMutatorFor(
       final MutationIdentifier id) {
     return new Predicate<MethodMutatorFactory>() {
@@ -163,4 +189,34 @@ public class GregorMutater implements Mutater {
     };
   }
 
+  /**
+   * Passes on only the given method of a class
+   */
+  private static class SingleMethodVisitor extends ClassVisitor {
+
+    private final Location location;
+
+    SingleMethodVisitor(final ClassVisitor cv, final Location location) {
+      super(Opcodes.ASM6, cv);
+      this.location = location;
+    }
+
+    @Override
+    public FieldVisitor visitField(final int access, final String name,
+        final String desc, final String signature, final Object value) {
+      return null;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(final int access, final String name,
+        final String desc, final String signature, final String[] exceptions) {
+      if (this.location.getMethodName().name().equals(name)
+          && this.location.getMethodDesc().equals(desc)) {
+        return super.visitMethod(access, name, desc, signature, exceptions);
+      }
+      return null;
+    }
+
+  }
+
 }
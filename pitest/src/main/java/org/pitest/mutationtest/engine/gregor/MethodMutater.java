@@ -0,0 +1,39 @@
+/*
+ * Copyright 2010 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.engine.gregor;
+
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Optionally implemented by mutaters that can mutate a single method without
+ * creating the full mutant class. Mutaters that do not implement it are
+ * analysed by creating the full mutant with {@link Mutater#getMutation}.
+ */
+public interface MethodMutater extends Mutater {
+
+  /**
+   * Creates a class containing only the method mutated by the given
+   * MutationIdentifier. Unlike getMutation frames and max stack and locals
+   * are not recomputed, so the bytes are suitable for analysis only and must
+   * not be loaded.
+   *
+   * @param id
+   *          the mutant to create
+   * @return bytes of a class holding only the mutated method
+   */
+  byte[] getMethodMutation(MutationIdentifier id);
+
+}
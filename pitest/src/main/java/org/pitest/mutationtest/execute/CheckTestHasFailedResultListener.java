@@ -14,6 +14,9 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.testapi.Description;
@@ -22,12 +25,14 @@ import org.pitest.testapi.TestResult;
 
 public class CheckTestHasFailedResultListener implements TestListener {
 
-  private Option<Description> lastFailingTest = Option.none();
-  private int                 testsRun        = 0;
+  private Option<Description>     lastFailingTest = Option.none();
+  private final List<Description> failingTests    = new ArrayList<>();
+  private int                     testsRun        = 0;
 
   @Override
   public void onTestFailure(final TestResult tr) {
     this.lastFailingTest = Option.some(tr.getDescription());
+    this.failingTests.add(tr.getDescription());
   }
 
   @Override
@@ -57,6 +62,13 @@ public class CheckTestHasFailedResultListener implements TestListener {
     return this.lastFailingTest;
   }
 
+  /**
+   * @return every failing test, in the order they were run
+   */
+  public List<Description> failingTests() {
+    return this.failingTests;
+  }
+
   public int getNumberOfTestsRun() {
     return this.testsRun;
   }
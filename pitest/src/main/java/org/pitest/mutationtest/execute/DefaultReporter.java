@@ -17,6 +17,7 @@ package org.pitest.mutationtest.execute;
 import java.io.IOException;
 import java.io.OutputStream;
 
+import org.pitest.metrics.Metrics;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
@@ -48,6 +49,13 @@ public class DefaultReporter implements Reporter {
     this.w.flush();
   }
 
+  @Override
+  public synchronized void metrics(final Metrics metrics) {
+    this.w.writeByte(Id.METRICS);
+    this.w.write(metrics);
+    this.w.flush();
+  }
+
   @Override
   public synchronized void done(final ExitCode exitCode) {
     this.w.writeByte(Id.DONE);
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+
+/**
+ * Reports how full the tenured heap of the current JVM is.
+ *
+ * The current usage of each tenured pool is read rather than its collection
+ * usage. Collection usage is only updated when a pool is itself collected,
+ * which under G1 means a mixed or full collection. A minion whose old
+ * generation grows through young collections alone would never appear full
+ * and would run out of memory before being recycled. The cost is that current
+ * usage includes promoted garbage not yet reclaimed, so with collectors that
+ * defer old generation collection (Serial, Parallel, CMS and G1 alike) a
+ * minion may be recycled earlier than strictly necessary.
+ */
+public class HeapMonitor {
+
+  /**
+   * @return percentage of the fullest tenured heap pool currently in use, or 0
+   *         if no tenured pool reports a maximum size
+   */
+  public int percentUsed() {
+    long worst = 0;
+    for (final MemoryPoolMXBean each : ManagementFactory
+        .getMemoryPoolMXBeans()) {
+      // only tenured pools support usage thresholds. Young generation pools
+      // routinely fill to their small maximum between collections
+      if ((each.getType() == MemoryType.HEAP)
+          && each.isUsageThresholdSupported()) {
+        final MemoryUsage usage = each.getUsage();
+        if ((usage != null) && (usage.getMax() > 0)) {
+          worst = Math.max(worst, (usage.getUsed() * 100) / usage.getMax());
+        }
+      }
+    }
+    return (int) worst;
+  }
+
+}
@@ -14,28 +14,69 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
 
+/**
+ * Everything a minion needs to analyse a unit of mutations.
+ *
+ * Mutations in a unit typically share most of their covering tests, so rather
+ * than each mutation carrying its own list of tests the distinct tests are
+ * held once in a table and each mutation refers to its tests by index.
+ *
+ * XStream would write a shared test in full only once anyway, but each further
+ * occurrence becomes an XPath reference of a hundred or more characters, which
+ * dominates the payload for large units. An index is a few characters.
+ */
 public class MinionArguments {
 
-  final Collection<MutationDetails> mutations;
+  private final List<MutationDetails> mutations;
+  private final List<TestInfo>        tests;
+  private final List<int[]>           testIndexes;
   final Collection<ClassName>       testClasses;
   final MutationEngine              engine;
   final TimeoutLengthStrategy       timeoutStrategy;
   final boolean                     verbose;
   final TestPluginArguments         pitConfig;
+  final int                         maxKillingTests;
+  final int                         heapRecyclePercent;
 
   public MinionArguments(final Collection<MutationDetails> mutations,
       final Collection<ClassName> tests, final MutationEngine engine,
       final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
       final TestPluginArguments pitConfig) {
-    this.mutations = mutations;
+    this(mutations, tests, engine, timeoutStrategy, verbose, pitConfig, 1);
+  }
+
+  public MinionArguments(final Collection<MutationDetails> mutations,
+      final Collection<ClassName> tests, final MutationEngine engine,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
+      final TestPluginArguments pitConfig, final int maxKillingTests) {
+    this(mutations, tests, engine, timeoutStrategy, verbose, pitConfig,
+        maxKillingTests, 0);
+  }
+
+  public MinionArguments(final Collection<MutationDetails> mutations,
+      final Collection<ClassName> tests, final MutationEngine engine,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
+      final TestPluginArguments pitConfig, final int maxKillingTests,
+      final int heapRecyclePercent) {
+    this.maxKillingTests = maxKillingTests;
+    this.heapRecyclePercent = heapRecyclePercent;
+    this.mutations = new ArrayList<>(mutations.size());
+    this.tests = new ArrayList<>();
+    this.testIndexes = new ArrayList<>(mutations.size());
+    internTests(mutations);
     this.testClasses = tests;
     this.engine = engine;
     this.timeoutStrategy = timeoutStrategy;
@@ -47,4 +88,45 @@ public class MinionArguments {
     return this.verbose;
   }
 
+  /**
+   * @return the mutations to analyse, each with its tests in priority order
+   */
+  public List<MutationDetails> getMutations() {
+    final List<MutationDetails> expanded = new ArrayList<>(
+        this.mutations.size());
+    for (int i = 0; i != this.mutations.size(); i++) {
+      final int[] indexes = this.testIndexes.get(i);
+      final List<TestInfo> testsForMutation = new ArrayList<>(indexes.length);
+      for (final int each : indexes) {
+        testsForMutation.add(this.tests.get(each));
+      }
+      final MutationDetails mutation = this.mutations.get(i).withoutTests();
+      mutation.addTestsInOrder(testsForMutation);
+      expanded.add(mutation);
+    }
+    return expanded;
+  }
+
+  private void internTests(final Collection<MutationDetails> toIntern) {
+    // tests are shared instances from the coverage data, so identity is
+    // enough to find duplicates
+    final Map<TestInfo, Integer> table = new IdentityHashMap<>();
+    for (final MutationDetails each : toIntern) {
+      final List<TestInfo> testsForMutation = each.getTestsInOrder();
+      final int[] indexes = new int[testsForMutation.size()];
+      for (int i = 0; i != indexes.length; i++) {
+        final TestInfo test = testsForMutation.get(i);
+        Integer index = table.get(test);
+        if (index == null) {
+          index = this.tests.size();
+          table.put(test, index);
+          this.tests.add(test);
+        }
+        indexes[i] = index;
+      }
+      this.mutations.add(each.withoutTests());
+      this.testIndexes.add(indexes);
+    }
+  }
+
 }
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.lang.management.MemoryNotificationInfo;
 import java.net.Socket;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -31,12 +32,15 @@ import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.functional.F;
 import org.pitest.functional.F3;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
+import org.pitest.metrics.Metrics;
 import org.pitest.mutationtest.config.ClientPluginServices;
 import org.pitest.mutationtest.config.MinionSettings;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.mocksupport.BendJavassistToMyWillTransformer;
 import org.pitest.mutationtest.mocksupport.JavassistInputStreamInterceptorAdapater;
 import org.pitest.mutationtest.mocksupport.JavassistInterceptor;
@@ -69,6 +73,9 @@ public class MutationTestMinion {
   }
 
   public void run() {
+    final Metrics metrics = new Metrics();
+    final long start = System.nanoTime();
+    ExitCode exitCode = ExitCode.OK;
     try {
       
       final MinionArguments paramsFromParent = this.dis
@@ -85,22 +92,39 @@ public class MutationTestMinion {
           byteSource);
       
       final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          paramsFromParent.engine.createMutator(byteSource), loader);
-
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
-      
-      worker.run(paramsFromParent.mutations, this.reporter,
-          new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
-              tests, this.reporter));
+          paramsFromParent.engine.createMutator(byteSource), loader, metrics,
+          paramsFromParent.maxKillingTests,
+          paramsFromParent.heapRecyclePercent, new HeapMonitor());
+
+      final F<ClassName, List<TestUnit>> finder = findTestsForTestClass(loader,
+          createTestPlugin(paramsFromParent.pitConfig), metrics);
+      final List<MutationDetails> mutations = paramsFromParent.getMutations();
+      final TimeOutDecoratedTestSource testSource = new TimeOutDecoratedTestSource(
+          paramsFromParent.timeoutStrategy, paramsFromParent.testClasses,
+          finder, this.reporter);
+      testSource.discoverTestsFor(mutations);
+      metrics.recordSince("minion.startup_us", start);
+
+      worker.run(mutations, this.reporter, testSource);
       
-      this.reporter.done(ExitCode.OK);
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
       LOG.log(Level.WARNING, "Error during mutation test", ex);
-      this.reporter.done(ExitCode.UNKNOWN_ERROR);
+      exitCode = ExitCode.UNKNOWN_ERROR;
     }
 
+    sendMetrics(metrics);
+    this.reporter.done(exitCode);
+
+  }
+
+  private void sendMetrics(final Metrics metrics) {
+    // failing to send metrics must not stop the exit code being sent
+    try {
+      this.reporter.metrics(metrics);
+    } catch (final Throwable ex) {
+      LOG.log(Level.WARNING, "Could not send metrics", ex);
+    }
   }
   
   private Configuration createTestPlugin(TestPluginArguments pitConfig) {
@@ -138,13 +162,23 @@ public class MutationTestMinion {
 
   }
 
-  private static List<TestUnit> findTestsForTestClasses(
-      final ClassLoader loader, final Collection<ClassName> testClasses,
-      final Configuration pitConfig) {
-    final Collection<Class<?>> tcs = FCollection.flatMap(testClasses,
-        ClassName.nameToClass(loader));
-    FindTestUnits finder = new FindTestUnits(pitConfig);
-    return finder.findTestUnitsForAllSuppliedClasses(tcs);
+  private static F<ClassName, List<TestUnit>> findTestsForTestClass(
+      final ClassLoader loader, final Configuration pitConfig,
+      final Metrics metrics) {
+    final FindTestUnits finder = new FindTestUnits(pitConfig);
+    return new F<ClassName, List<TestUnit>>() {
+      @Override
+      public List<TestUnit> apply(final ClassName testClass) {
+        final long start = System.nanoTime();
+        final Collection<Class<?>> tcs = FCollection.flatMap(
+            Collections.singletonList(testClass), ClassName.nameToClass(loader));
+        final List<TestUnit> tests = finder
+            .findTestUnitsForAllSuppliedClasses(tcs);
+        metrics.recordSince("minion.test_discovery_us", start);
+        metrics.add("minion.tests_discovered", tests.size());
+        return tests;
+      }
+    };
   }
 
   @SuppressWarnings("unchecked")
@@ -179,6 +213,7 @@ public class MutationTestMinion {
               + " has exceeded the shutdown threshold : " + memInfo.getCount()
               + " times.\n" + memInfo.getUsage());
 
+          // metrics are not sent as the heap is nearly exhausted
           r.done(ExitCode.OUT_OF_MEMORY);
 
         } else {
@@ -26,6 +26,7 @@ import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.F3;
+import org.pitest.metrics.Metrics;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.Mutant;
@@ -33,6 +34,7 @@ import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.mocksupport.JavassistInterceptor;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.TestResult;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.Container;
@@ -55,18 +57,60 @@ public class MutationTestWorker {
   private final Mutater                                     mutater;
   private final ClassLoader                                 loader;
   private final F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
+  private final Metrics                                     metrics;
+  private final int                                         maxKillingTests;
+  private final int                                         heapRecyclePercent;
+  private final HeapMonitor                                 heap;
 
   public MutationTestWorker(
       final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
       final Mutater mutater, final ClassLoader loader) {
+    this(hotswap, mutater, loader, new Metrics());
+  }
+
+  public MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader, final Metrics metrics) {
+    this(hotswap, mutater, loader, metrics, 1);
+  }
+
+  /**
+   * @param maxKillingTests number of killing tests to find before moving on
+   *          to the next mutant. Values above one cause more tests to be run
+   *          against killed mutants.
+   */
+  public MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader, final Metrics metrics,
+      final int maxKillingTests) {
+    this(hotswap, mutater, loader, metrics, maxKillingTests, 0,
+        new HeapMonitor());
+  }
+
+  /**
+   * @param heapRecyclePercent percentage of the tenured heap in use at which
+   *          to stop analysing further mutants so the parent can continue in
+   *          a fresh minion. Zero disables recycling.
+   */
+  public MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader, final Metrics metrics,
+      final int maxKillingTests, final int heapRecyclePercent,
+      final HeapMonitor heap) {
+    this.maxKillingTests = Math.max(1, maxKillingTests);
+    this.heapRecyclePercent = heapRecyclePercent;
+    this.heap = heap;
     this.loader = loader;
     this.mutater = mutater;
     this.hotswap = hotswap;
+    this.metrics = metrics;
   }
 
   protected void run(final Collection<MutationDetails> range, final Reporter r,
       final TimeOutDecoratedTestSource testSource) throws IOException {
 
+    int analysed = 0;
+    boolean canRecycle = false;
     for (final MutationDetails mutation : range) {
       if (DEBUG) {
         LOG.fine("Running mutation " + mutation);
@@ -77,6 +121,21 @@ public class MutationTestWorker {
         LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
             + " ms.");
       }
+
+      analysed++;
+      final int heapUsed = this.heap.percentUsed();
+      this.metrics.record("minion.heap_used_percent", heapUsed);
+      // a fresh minion that is over the threshold after a single mutant would
+      // be no better off, so only recycle if usage has grown past it
+      if (analysed == 1) {
+        canRecycle = heapUsed < this.heapRecyclePercent;
+      } else if (canRecycle && (heapUsed >= this.heapRecyclePercent)
+          && (analysed < range.size())) {
+        LOG.fine("Heap " + heapUsed + "% full after " + analysed
+            + " mutations. Leaving remainder to a new minion.");
+        this.metrics.increment("minion.heap_recycles");
+        return;
+      }
     }
 
   }
@@ -86,7 +145,9 @@ public class MutationTestWorker {
       final MutationDetails mutationDetails) throws IOException {
 
     final MutationIdentifier mutationId = mutationDetails.getId();
+    final long t0 = System.nanoTime();
     final Mutant mutatedClass = this.mutater.getMutation(mutationId);
+    this.metrics.recordSince("minion.create_mutant_us", t0);
 
     // For the benefit of mocking frameworks such as PowerMock
     // mess with the internals of Javassist so our mutated class
@@ -105,6 +166,8 @@ public class MutationTestWorker {
         mutationDetails, mutatedClass, relevantTests);
 
     r.report(mutationId, mutationDetected);
+    this.metrics.increment("minion.mutations_analysed");
+    this.metrics.add("minion.tests_run", mutationDetected.getNumberOfTestsRun());
     if (DEBUG) {
       LOG.fine("Mutation " + mutationId + " detected = " + mutationDetected);
     }
@@ -138,13 +201,19 @@ public class MutationTestWorker {
 
     final Container c = createNewContainer();
     final long t0 = System.currentTimeMillis();
+    final long swapStart = System.nanoTime();
     if (this.hotswap.apply(mutationId.getClassName(), this.loader,
         mutatedClass.getBytes())) {
+      this.metrics.recordSince("minion.hotswap_us", swapStart);
       if (DEBUG) {
         LOG.fine("replaced class with mutant in "
             + (System.currentTimeMillis() - t0) + " ms");
       }
+      final long testStart = System.nanoTime();
       mutationDetected = doTestsDetectMutation(c, relevantTests);
+      this.metrics.recordSince("minion.test_execution_us", testStart);
+      this.metrics.recordSince("minion.test_execution."
+          + mutatorName(mutationId) + "_us", testStart);
     } else {
       LOG.warning("Mutation " + mutationId + " was not viable ");
       mutationDetected = new MutationStatusTestPair(0,
@@ -153,13 +222,14 @@ public class MutationTestWorker {
     return mutationDetected;
   }
 
-  private static Container createNewContainer() {
+  private Container createNewContainer() {
+    final int failuresBeforeExit = this.maxKillingTests;
     final Container c = new UnContainer() {
       @Override
       public List<TestResult> execute(final TestUnit group) {
         List<TestResult> results = new ArrayList<>();
         final ExitingResultCollector rc = new ExitingResultCollector(
-            new ConcreteResultCollector(results));
+            new ConcreteResultCollector(results), failuresBeforeExit);
         group.execute(rc);
         return results;
       }
@@ -169,6 +239,11 @@ public class MutationTestWorker {
 
 
 
+  private static String mutatorName(final MutationDetails details) {
+    final String mutator = details.getMutator();
+    return mutator.substring(mutator.lastIndexOf('.') + 1);
+  }
+
   @Override
   public String toString() {
     return "MutationTestWorker [mutater=" + this.mutater + ", loader="
@@ -193,9 +268,12 @@ public class MutationTestWorker {
   private MutationStatusTestPair createStatusTestPair(
       final CheckTestHasFailedResultListener listener) {
     if (listener.lastFailingTest().hasSome()) {
+      final List<String> killingTests = new ArrayList<>();
+      for (final Description each : listener.failingTests()) {
+        killingTests.add(each.getQualifiedName());
+      }
       return new MutationStatusTestPair(listener.getNumberOfTestsRun(),
-          listener.status(), listener.lastFailingTest().value()
-              .getQualifiedName());
+          listener.status(), killingTests);
     } else {
       return new MutationStatusTestPair(listener.getNumberOfTestsRun(),
           listener.status());
@@ -16,6 +16,7 @@ package org.pitest.mutationtest.execute;
 
 import java.io.IOException;
 
+import org.pitest.metrics.Metrics;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
@@ -27,6 +28,14 @@ public interface Reporter {
   void report(MutationIdentifier i, MutationStatusTestPair mutationDetected)
       throws IOException;
 
+  /**
+   * Sends the metrics gathered by the minion. Called once before done by
+   * minions that finish or fail with an error. Minions that run out of memory
+   * or are killed after timing out exit without sending them, so their work
+   * is not counted.
+   */
+  void metrics(Metrics metrics);
+
   void done(ExitCode exitCode);
 
 }
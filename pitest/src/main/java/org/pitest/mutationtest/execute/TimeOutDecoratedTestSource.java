@@ -15,28 +15,56 @@
 
 package org.pitest.mutationtest.execute;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.testapi.TestUnit;
 
 public class TimeOutDecoratedTestSource {
 
-  private final Map<String, TestUnit> allTests = new HashMap<>();
-  private final TimeoutLengthStrategy timeoutStrategy;
-  private final Reporter              r;
+  private final Map<String, TestUnit>       allTests = new HashMap<>();
+  private final Set<ClassName>              undiscovered;
+  private final F<ClassName, List<TestUnit>> finder;
+  private final TimeoutLengthStrategy       timeoutStrategy;
+  private final Reporter                    r;
 
   public TimeOutDecoratedTestSource(
       final TimeoutLengthStrategy timeoutStrategy,
       final List<TestUnit> allTests, final Reporter r) {
-    this.timeoutStrategy = timeoutStrategy;
+    this(timeoutStrategy, Collections.<ClassName> emptyList(),
+        noTests(), r);
     mapTests(allTests);
+  }
+
+  /**
+   * Creates a source that discovers only the test classes that contain tests
+   * assigned to the mutations it is asked to prepare for.
+   *
+   * @param timeoutStrategy strategy used to calculate test timeouts
+   * @param testClasses classes that may contain tests
+   * @param finder function to discover the tests within a class
+   * @param r reporter to notify of timeouts
+   */
+  public TimeOutDecoratedTestSource(
+      final TimeoutLengthStrategy timeoutStrategy,
+      final Collection<ClassName> testClasses,
+      final F<ClassName, List<TestUnit>> finder, final Reporter r) {
+    this.timeoutStrategy = timeoutStrategy;
+    this.undiscovered = new LinkedHashSet<>(testClasses);
+    this.finder = finder;
     this.r = r;
   }
 
@@ -46,17 +74,65 @@ public class TimeOutDecoratedTestSource {
     }
   }
 
+  /**
+   * Discovers the tests assigned to the supplied mutations. Discovery may run
+   * code under test (e.g. to construct parameterised tests), so this must be
+   * called before any mutant is inserted, or the discovered tests will have
+   * been built from mutated code.
+   *
+   * @param mutations mutations that will later be passed to
+   *          {@link #translateTests(List)}
+   */
+  public void discoverTestsFor(final Collection<MutationDetails> mutations) {
+    for (final MutationDetails each : mutations) {
+      for (final TestInfo test : each.getTestsInOrder()) {
+        findTest(test);
+      }
+    }
+  }
+
   public List<TestUnit> translateTests(final List<TestInfo> testsInOrder) {
     return FCollection.flatMap(testsInOrder, testToTestUnit());
   }
 
+  private TestUnit findTest(final TestInfo test) {
+    TestUnit tu = this.allTests.get(test.getName());
+    if (tu == null && test.getDefiningClass().hasSome()) {
+      discover(test.getDefiningClass().value());
+      tu = this.allTests.get(test.getName());
+    }
+    if (tu == null && !this.undiscovered.isEmpty()) {
+      // test was not found within its defining class, so fall back to
+      // searching everything we were given
+      for (final ClassName each : new ArrayList<>(this.undiscovered)) {
+        discover(each);
+      }
+      tu = this.allTests.get(test.getName());
+    }
+    return tu;
+  }
+
+  private void discover(final ClassName clazz) {
+    if (this.undiscovered.remove(clazz)) {
+      mapTests(this.finder.apply(clazz));
+    }
+  }
+
+  private static F<ClassName, List<TestUnit>> noTests() {
+    return new F<ClassName, List<TestUnit>>() {
+      @Override
+      public List<TestUnit> apply(final ClassName a) {
+        return Collections.emptyList();
+      }
+    };
+  }
+
   private F<TestInfo, Option<TestUnit>> testToTestUnit() {
     return new F<TestInfo, Option<TestUnit>>() {
 
       @Override
       public Option<TestUnit> apply(final TestInfo a) {
-        final TestUnit tu = TimeOutDecoratedTestSource.this.allTests.get(a
-            .getName());
+        final TestUnit tu = findTest(a);
         if (tu != null) {
           return Option
               .<TestUnit> some(new MutationTimeoutDecorator(tu,
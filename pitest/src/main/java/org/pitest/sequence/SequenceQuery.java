@@ -1,7 +1,11 @@
 package org.pitest.sequence;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class SequenceQuery<T> {
@@ -138,73 +142,179 @@ public class SequenceQuery<T> {
 
 }
 
+/**
+ * Matches sequences by simulating the NFA built from a query. The state graph
+ * is flattened when the matcher is created, so that each step works over
+ * arrays of state indexes rather than walking the graph and rehashing state
+ * objects. Predicates shared between states are evaluated at most once per
+ * item.
+ */
 class NFASequenceMatcher<T> implements SequenceMatcher<T> {
 
-  private final boolean debug;
-  private final Match<T> ignore;
-  private final State<T> start;
+  private final boolean    debug;
+  private final Match<T>   ignore;
 
+  // one entry per distinct predicate in the query
+  private final Match<T>[] predicates;
+
+  // for each consuming state, the index of the predicate it tests and the
+  // states that are active once it has consumed an item
+  private final int[]      predicateForState;
+  private final int[][]    transitions;
+
+  private final int[]      startStates;
+  private final int        matchState;
+
+  @SuppressWarnings("unchecked")
   NFASequenceMatcher(Match<T> ignore, State<T> state, boolean debug) {
     this.ignore = ignore;
-    this.start = state;
     this.debug = debug;
+
+    final Map<State<T>, Integer> stateIndexes = new IdentityHashMap<>();
+    final List<Consume<T>> consumers = new ArrayList<>();
+    indexConsumers(state, stateIndexes, consumers,
+        Collections.newSetFromMap(new IdentityHashMap<State<T>, Boolean>()));
+    this.matchState = consumers.size();
+
+    final Map<Match<T>, Integer> predicateIndexes = new IdentityHashMap<>();
+    final List<Match<T>> distinctPredicates = new ArrayList<>();
+    this.predicateForState = new int[consumers.size()];
+    this.transitions = new int[consumers.size()][];
+    for (int i = 0; i != consumers.size(); i++) {
+      final Consume<T> each = consumers.get(i);
+      Integer predicate = predicateIndexes.get(each.c);
+      if (predicate == null) {
+        predicate = distinctPredicates.size();
+        predicateIndexes.put(each.c, predicate);
+        distinctPredicates.add(each.c);
+      }
+      this.predicateForState[i] = predicate;
+      this.transitions[i] = closure(each.out, stateIndexes);
+    }
+    this.predicates = distinctPredicates
+        .toArray(new Match[distinctPredicates.size()]);
+    this.startStates = closure(state, stateIndexes);
   }
-  
 
   @Override
   public boolean matches(List<T> sequence) {
-    return matches(sequence, Context.start(sequence, debug));
+    return matches(sequence, Context.start(sequence, this.debug));
   }
 
   @Override
   public boolean matches(List<T> sequence, Context<T> context) {
-    Set<State<T>> currentState = new HashSet<>();
-    addstate(currentState, this.start);
-
-    for (T t : sequence) {      
+    final int stateCount = this.matchState + 1;
+    int[] current = new int[stateCount];
+    int[] next = new int[stateCount];
+    int currentSize = this.startStates.length;
+    System.arraycopy(this.startStates, 0, current, 0, currentSize);
+
+    // generation stamps avoid clearing arrays between steps
+    final int[] queuedAt = new int[stateCount];
+    final int[] evaluatedAt = new int[this.predicates.length];
+    final boolean[] results = new boolean[this.predicates.length];
+    int generation = 0;
+
+    for (final T t : sequence) {
       context.moveForward();
-      
-      if (ignore.test(context, t)) {
+
+      if (this.ignore.test(context, t)) {
         continue;
       }
-      
-      final Set<State<T>> nextStates = step(context, currentState, t);
-      currentState = nextStates;
+
+      generation++;
+      int nextSize = 0;
+      for (int i = 0; i != currentSize; i++) {
+        final int state = current[i];
+        if (state == this.matchState) {
+          continue;
+        }
+        final int predicate = this.predicateForState[state];
+        if (evaluatedAt[predicate] != generation) {
+          evaluatedAt[predicate] = generation;
+          results[predicate] = this.predicates[predicate].test(context, t);
+        }
+        if (results[predicate]) {
+          for (final int target : this.transitions[state]) {
+            if (queuedAt[target] != generation) {
+              queuedAt[target] = generation;
+              next[nextSize] = target;
+              nextSize++;
+            }
+          }
+        }
+      }
+
+      final int[] temp = current;
+      current = next;
+      next = temp;
+      currentSize = nextSize;
+
+      // no way to recover once every path has failed
+      if (currentSize == 0) {
+        return false;
+      }
     }
-    return isMatch(currentState);
+    return isMatch(current, currentSize);
   }
 
-  
-  private static <T> void addstate(Set<State<T>> set, State<T> state) {
-    if (state == null) {
+  private boolean isMatch(int[] states, int size) {
+    for (int i = 0; i != size; i++) {
+      if (states[i] == this.matchState) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static <T> void indexConsumers(State<T> state,
+      Map<State<T>, Integer> indexes, List<Consume<T>> consumers,
+      Set<State<T>> visited) {
+    if (state == null || !visited.add(state)) {
       return;
     }
     if (state instanceof Split) {
       final Split<T> split = (Split<T>) state;
-      addstate(set, split.out1);
-      addstate(set, split.out2);
-    } else {
-      set.add(state);
+      indexConsumers(split.out1, indexes, consumers, visited);
+      indexConsumers(split.out2, indexes, consumers, visited);
+    } else if (state instanceof Consume) {
+      final Consume<T> consume = (Consume<T>) state;
+      indexes.put(consume, consumers.size());
+      consumers.add(consume);
+      indexConsumers(consume.out, indexes, consumers, visited);
     }
-
   }
 
-  private static <T> Set<State<T>> step(Context<T> context, Set<State<T>> currentState, T c) {
-
-    final Set<State<T>> nextStates = new HashSet<>();
-    for (final State<T> each : currentState) {
-      if (each instanceof Consume) {
-        final Consume<T> consume = (Consume<T>) each;
-        if (consume.c.test(context, c)) {
-          addstate(nextStates, consume.out);
-        }
-      }
+  private int[] closure(State<T> state, Map<State<T>, Integer> indexes) {
+    final Set<Integer> reachable = new LinkedHashSet<>();
+    addstate(reachable, state, indexes,
+        Collections.newSetFromMap(new IdentityHashMap<State<T>, Boolean>()));
+    final int[] closure = new int[reachable.size()];
+    int i = 0;
+    for (final Integer each : reachable) {
+      closure[i] = each;
+      i++;
     }
-    return nextStates;
+    return closure;
   }
 
-  private static <T> boolean isMatch(Set<State<T>> currentState) {
-    return currentState.contains(EndMatch.MATCH);
+  private void addstate(Set<Integer> set, State<T> state,
+      Map<State<T>, Integer> indexes, Set<State<T>> visitedSplits) {
+    if (state == null) {
+      return;
+    }
+    if (state instanceof Split) {
+      if (!visitedSplits.add(state)) {
+        return;
+      }
+      final Split<T> split = (Split<T>) state;
+      addstate(set, split.out1, indexes, visitedSplits);
+      addstate(set, split.out2, indexes, visitedSplits);
+    } else if (state == EndMatch.MATCH) {
+      set.add(this.matchState);
+    } else {
+      set.add(indexes.get(state));
+    }
   }
 
 }
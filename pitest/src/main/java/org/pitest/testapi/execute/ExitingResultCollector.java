@@ -20,10 +20,22 @@ import org.pitest.testapi.ResultCollector;
 public class ExitingResultCollector implements ResultCollector {
 
   private final ResultCollector child;
-  private boolean               hadFailure = false;
+  private final int             failuresBeforeExit;
+  private int                   failures = 0;
 
   public ExitingResultCollector(final ResultCollector child) {
+    this(child, 1);
+  }
+
+  /**
+   * @param child collector to forward results to
+   * @param failuresBeforeExit number of failures to allow before requesting
+   *          that no more tests are run
+   */
+  public ExitingResultCollector(final ResultCollector child,
+      final int failuresBeforeExit) {
     this.child = child;
+    this.failuresBeforeExit = failuresBeforeExit;
   }
 
   @Override
@@ -38,14 +50,14 @@ public class ExitingResultCollector implements ResultCollector {
 
   @Override
   public boolean shouldExit() {
-    return this.hadFailure;
+    return this.failures >= this.failuresBeforeExit;
   }
 
   @Override
   public void notifyEnd(final Description description, final Throwable t) {
     this.child.notifyEnd(description, t);
     if (t != null) {
-      this.hadFailure = true;
+      this.failures++;
     }
 
   }
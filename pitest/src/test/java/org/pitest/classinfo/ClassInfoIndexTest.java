@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.classinfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.coverage.codeassist.ClassUtils;
+import org.pitest.functional.Option;
+
+public class ClassInfoIndexTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final byte[]   bytes  = bytesFor(Integer.class);
+
+  @Test
+  public void shouldFindRecordedClassWhenLengthAndHashMatch() {
+    final ClassInfoIndex testee = new ClassInfoIndex();
+    final ClassInfoBuilder info = new ClassInfoBuilder();
+    testee.record(ClassName.fromString("foo"), this.bytes, 42, info);
+    assertThat(testee.find(ClassName.fromString("foo"), this.bytes, 42)
+        .value()).isSameAs(info);
+  }
+
+  @Test
+  public void shouldNotRetainClassesInNoneIndex() {
+    final ClassInfoIndex testee = ClassInfoIndex.none();
+    testee.record(ClassName.fromString("foo"), this.bytes, 42,
+        new ClassInfoBuilder());
+    assertThat(testee.size()).isEqualTo(0);
+    assertThat(testee.find(ClassName.fromString("foo"), this.bytes, 42))
+        .isEqualTo(Option.none());
+  }
+
+  @Test
+  public void shouldNotFindClassWhenHashDiffers() {
+    final ClassInfoIndex testee = new ClassInfoIndex();
+    testee.record(ClassName.fromString("foo"), this.bytes, 42,
+        new ClassInfoBuilder());
+    assertThat(testee.find(ClassName.fromString("foo"), this.bytes, 43))
+        .isEqualTo(Option.none());
+  }
+
+  @Test
+  public void shouldNotFindClassWhenLengthDiffers() {
+    final ClassInfoIndex testee = new ClassInfoIndex();
+    testee.record(ClassName.fromString("foo"), this.bytes, 42,
+        new ClassInfoBuilder());
+    assertThat(testee.find(ClassName.fromString("foo"), new byte[1], 42))
+        .isEqualTo(Option.none());
+  }
+
+  @Test
+  public void shouldRestoreClassesParsedInPreviousRun() throws IOException {
+    final File file = this.folder.newFile();
+    final ClassInfoIndex first = new ClassInfoIndex();
+    final ClassInfo expected = new Repository(
+        ClassloaderByteArraySource.fromContext(), first).fetchClass(
+        Integer.class).value();
+    first.save(file);
+
+    final ClassInfoIndex second = ClassInfoIndex.load(file);
+    final ClassInfo actual = new Repository(
+        ClassloaderByteArraySource.fromContext(), second).fetchClass(
+        Integer.class).value();
+
+    assertThat(second.size()).isEqualTo(1);
+    assertThat(actual.getId()).isEqualTo(expected.getId());
+    assertThat(actual.getNumberOfCodeLines()).isEqualTo(
+        expected.getNumberOfCodeLines());
+    assertThat(actual.getSuperClass().value().getName()).isEqualTo(
+        ClassName.fromClass(Number.class));
+  }
+
+  @Test
+  public void shouldOnlySaveClassesUsedInRun() throws IOException {
+    final File file = this.folder.newFile();
+    final ClassInfoIndex first = new ClassInfoIndex();
+    first.record(ClassName.fromString("foo"), this.bytes, 1,
+        new ClassInfoBuilder());
+    first.save(file);
+
+    final ClassInfoIndex second = ClassInfoIndex.load(file);
+    second.save(file);
+
+    assertThat(ClassInfoIndex.load(file).find(ClassName.fromString("foo"),
+        this.bytes, 1)).isEqualTo(Option.none());
+  }
+
+  @Test
+  public void shouldReturnEmptyIndexWhenFileMissing() {
+    final ClassInfoIndex actual = ClassInfoIndex.load(new File(
+        this.folder.getRoot(), "missing"));
+    assertThat(actual.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldReturnEmptyIndexWhenFileCorrupt() throws IOException {
+    final File file = this.folder.newFile();
+    try (FileOutputStream fos = new FileOutputStream(file)) {
+      fos.write(new byte[] { 1, 2, 3 });
+    }
+    final ClassInfoIndex actual = ClassInfoIndex.load(file);
+    assertThat(actual.find(ClassName.fromString("foo"), this.bytes, 1))
+        .isEqualTo(Option.none());
+  }
+
+  @Test
+  public void shouldReparseClassWhenBytesChange() {
+    final ClassInfoIndex index = new ClassInfoIndex();
+    final ClassInfo before = new Repository(sourceReturning(bytesFor(String.class)),
+        index).fetchClass(ClassName.fromString("foo")).value();
+    final ClassInfo after = new Repository(sourceReturning(this.bytes), index)
+        .fetchClass(ClassName.fromString("foo")).value();
+    assertThat(after.getHash()).isNotEqualTo(before.getHash());
+    assertThat(after.getHash()).isEqualTo(
+        new XxHash64().hash(this.bytes));
+  }
+
+  private static ClassByteArraySource sourceReturning(final byte[] bytes) {
+    return new ClassByteArraySource() {
+      @Override
+      public Option<byte[]> getBytes(final String clazz) {
+        return Option.some(bytes);
+      }
+    };
+  }
+
+  private static byte[] bytesFor(final Class<?> clazz) {
+    try {
+      return ClassUtils.classAsBytes(clazz);
+    } catch (final ClassNotFoundException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+}
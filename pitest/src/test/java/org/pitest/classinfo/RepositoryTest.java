@@ -16,6 +16,7 @@ package org.pitest.classinfo;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
@@ -24,6 +25,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -95,6 +98,24 @@ public class RepositoryTest {
     verify(this.source, times(1)).getBytes("foo");
   }
 
+  @Test
+  public void shouldFetchManyClassesInSuppliedOrderOmittingUnknownClasses() {
+    final List<ClassInfo> actual = this.testee.fetchClasses(Arrays.asList(
+        ClassName.fromClass(String.class),
+        ClassName.fromString("never.heard.of.you"),
+        ClassName.fromClass(Integer.class)), 2);
+    assertEquals(2, actual.size());
+    assertEquals(ClassName.fromClass(String.class), actual.get(0).getName());
+    assertEquals(ClassName.fromClass(Integer.class), actual.get(1).getName());
+  }
+
+  @Test
+  public void shouldReturnSameInstancesFromBulkAndSingleFetches() {
+    final List<ClassInfo> actual = this.testee.fetchClasses(
+        Arrays.asList(ClassName.fromClass(Integer.class)), 2);
+    assertSame(actual.get(0), this.testee.fetchClass(Integer.class).value());
+  }
+
   @Test
   public void shouldReturnInfoForClassOnClassPath() {
     assertTrue(this.testee.fetchClass(Integer.class).hasSome());
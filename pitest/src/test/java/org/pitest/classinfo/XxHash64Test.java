@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.classinfo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.pitest.coverage.codeassist.ClassUtils;
+
+public class XxHash64Test {
+
+  private final XxHash64 testee = new XxHash64();
+
+  @Test
+  public void shouldMatchReferenceValueForEmptyInput() {
+    assertEquals(0xEF46DB3751D8E999L, hash(""));
+  }
+
+  @Test
+  public void shouldMatchReferenceValuesForShortInputs() {
+    assertEquals(0xD24EC4F1A98C6E5BL, hash("a"));
+    assertEquals(0x44BC2CF5AD770999L, hash("abc"));
+  }
+
+  @Test
+  public void shouldMatchReferenceValueForInputLongerThanOneStripe() {
+    assertEquals(0xFBCEA83C8A378BF1L,
+        hash("Nobody inspects the spammish repetition"));
+  }
+
+  @Test
+  public void shouldGenerateSameHashForSameInput()
+      throws ClassNotFoundException {
+    final long expected = this.testee.hash(ClassUtils
+        .classAsBytes(String.class));
+    assertEquals(expected,
+        this.testee.hash(ClassUtils.classAsBytes(String.class)));
+  }
+
+  @Test
+  public void shouldCreateDifferentHashesForDifferentClasses()
+      throws ClassNotFoundException {
+    assertTrue(this.testee.hash(ClassUtils.classAsBytes(Comparable.class)) != this.testee
+        .hash(ClassUtils.classAsBytes(Serializable.class)));
+  }
+
+  @Test
+  public void shouldCreateDifferentHashesForDifferentSeeds() {
+    final byte[] bytes = "abc".getBytes(StandardCharsets.UTF_8);
+    assertTrue(new XxHash64(1).hash(bytes) != this.testee.hash(bytes));
+  }
+
+  private long hash(final String value) {
+    return this.testee.hash(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
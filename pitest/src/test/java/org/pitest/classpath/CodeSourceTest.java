@@ -2,15 +2,22 @@ package org.pitest.classpath;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassInfoMother;
 import org.pitest.classinfo.ClassName;
@@ -35,6 +42,8 @@ public class CodeSourceTest {
   public void setUp() {
     MockitoAnnotations.initMocks(this);
     this.testee = new CodeSource(this.classPath, this.repository);
+    when(this.repository.fetchClasses(any(Iterable.class), anyInt()))
+        .thenAnswer(fetchEachClass());
     this.foo = makeClassInfo("Foo");
     this.bar = makeClassInfo("Bar");
   }
@@ -104,6 +113,32 @@ public class CodeSourceTest {
     verify(this.repository).querySource(ClassName.fromString("Foo"));
   }
 
+  @Test
+  public void shouldScanCodeOnlyOnce() {
+    when(this.classPath.code()).thenReturn(
+        Arrays.asList(this.foo.getName(), this.bar.getName()));
+    this.testee.getCode();
+    this.testee.getCodeUnderTestNames();
+    this.testee.getCodeUnderTestNames();
+    verify(this.classPath, times(1)).code();
+  }
+
+  private Answer<List<ClassInfo>> fetchEachClass() {
+    return new Answer<List<ClassInfo>>() {
+      @Override
+      public List<ClassInfo> answer(final InvocationOnMock invocation) {
+        final List<ClassInfo> found = new ArrayList<>();
+        for (final Object each : (Iterable<?>) invocation.getArguments()[0]) {
+          for (final ClassInfo info : CodeSourceTest.this.repository
+              .fetchClass((ClassName) each)) {
+            found.add(info);
+          }
+        }
+        return found;
+      }
+    };
+  }
+
   private ClassInfo makeClassInfo(final String name) {
     final ClassInfo ci = ClassInfoMother.make(name);
     when(this.repository.fetchClass(ClassName.fromString(name))).thenReturn(
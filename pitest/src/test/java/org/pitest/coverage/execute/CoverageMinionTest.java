@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+
+public class CoverageMinionTest {
+
+  @Test
+  public void shouldLoadClassesInSuppliedOrder() {
+    final List<Class<?>> expected = Arrays.<Class<?>> asList(String.class,
+        Integer.class, List.class, ArrayList.class, Long.class, Test.class);
+    final List<ClassName> names = new ArrayList<>();
+    for (final Class<?> each : expected) {
+      names.add(ClassName.fromClass(each));
+    }
+
+    assertThat(CoverageMinion.loadClasses(names, 3)).isEqualTo(expected);
+  }
+
+  @Test
+  public void shouldOmitClassesThatCannotBeLoaded() {
+    final List<ClassName> names = Arrays.asList(
+        ClassName.fromString("com.example.DoesNotExist"),
+        ClassName.fromClass(String.class));
+
+    assertThat(CoverageMinion.loadClasses(names, 2))
+        .containsExactly(String.class);
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.dependency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.functional.Option;
+
+public class CallGraphTest {
+
+  private final CountingSource source = new CountingSource();
+
+  private final CallGraph testee = new CallGraph(this.source);
+
+  static class Caller {
+    void call() {
+      new Callee().call();
+      new Callee().call();
+    }
+  }
+
+  static class Callee {
+    void call() {
+      selfCall();
+    }
+
+    private void selfCall() {
+
+    }
+  }
+
+  @Test
+  public void shouldReadEachClassOnlyOnce() {
+    this.testee.accessesFrom(internalName(Caller.class));
+    this.testee.accessesFrom(internalName(Caller.class));
+    assertThat(this.source.reads.get(internalName(Caller.class))).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRecordDistinctAccessesToOtherClasses() {
+    for (final DependencyAccess each : this.testee
+        .accessesFrom(internalName(Caller.class))) {
+      assertThat(each.getDest().getOwner()).isNotEqualTo(
+          internalName(Caller.class));
+    }
+    assertThat(this.testee.accessesFrom(internalName(Caller.class)))
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void shouldNotRecordAccessesToOwnMembers() {
+    assertThat(this.testee.accessesFrom(internalName(Callee.class))).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnNoAccessesForUnknownClasses() {
+    assertThat(this.testee.accessesFrom("com/example/DoesNotExist")).isEmpty();
+  }
+
+  private static String internalName(final Class<?> clazz) {
+    return clazz.getName().replace('.', '/');
+  }
+
+  private static class CountingSource implements ClassByteArraySource {
+    private final ClassByteArraySource child = ClassloaderByteArraySource
+        .fromContext();
+    private final Map<String, Integer> reads = new HashMap<>();
+
+    @Override
+    public Option<byte[]> getBytes(final String clazz) {
+      final Integer count = this.reads.get(clazz);
+      this.reads.put(clazz, count == null ? 1 : count + 1);
+      return this.child.getBytes(clazz);
+    }
+  }
+
+}
@@ -66,6 +66,31 @@ public class DependencyExtractorTest {
     CyclicFoo f = new CyclicFoo();
   }
 
+  public static class Diamond {
+    DiamondLongWay a = new DiamondLongWay();
+    DiamondShortWay b = new DiamondShortWay();
+  }
+
+  public static class DiamondLongWay {
+    DiamondMiddle c = new DiamondMiddle();
+  }
+
+  public static class DiamondMiddle {
+    DiamondJoin d = new DiamondJoin();
+  }
+
+  public static class DiamondShortWay {
+    DiamondJoin d = new DiamondJoin();
+  }
+
+  public static class DiamondJoin {
+    DiamondEnd e = new DiamondEnd();
+  }
+
+  public static class DiamondEnd {
+
+  }
+
   @Test
   public void shouldFindOnlyImmediateDependenciesWhenDepthIsOne()
       throws Exception {
@@ -133,6 +158,38 @@ public class DependencyExtractorTest {
     assertCollectionEquals(expected, actual);
   }
 
+  @Test
+  public void shouldFindClassesByShortestPathWhenReachableByLongerOne()
+      throws Exception {
+    constructWithDepthOf(3);
+    final Collection<String> actual = this.testee
+        .extractCallDependenciesForPackages(Diamond.class.getName(),
+            True.<String> all());
+    final Set<String> expected = asSet(classToJvmName(DiamondLongWay.class),
+        classToJvmName(DiamondShortWay.class),
+        classToJvmName(DiamondMiddle.class), classToJvmName(DiamondJoin.class),
+        classToJvmName(DiamondEnd.class));
+    assertCollectionEquals(expected, actual);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenGraphSharedBetweenExtractors()
+      throws Exception {
+    final CallGraph graph = new CallGraph(new ClassPathByteArraySource());
+    final DependencyExtractor depthOne = new DependencyExtractor(graph, 1);
+    final DependencyExtractor unbounded = new DependencyExtractor(graph, 0);
+
+    assertCollectionEquals(
+        asSet(classToJvmName(Bar.class), classToJvmName(Car.class)),
+        depthOne.extractCallDependenciesForPackages(Foo.class.getName(),
+            True.<String> all()));
+    assertCollectionEquals(
+        asSet(classToJvmName(Bar.class), classToJvmName(Car.class),
+            classToJvmName(Far.class), classToJvmName(VeryFar.class)),
+        unbounded.extractCallDependenciesForPackages(Foo.class.getName(),
+            True.<String> all()));
+  }
+
   private Predicate<DependencyAccess> ignoreCoreClasses() {
     return new Predicate<DependencyAccess>() {
 
@@ -15,14 +15,25 @@
 
 package org.pitest.junit.adapter;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.Description;
+import org.junit.runner.RunWith;
 import org.junit.runner.manipulation.Filter;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.functional.Option;
@@ -56,6 +67,30 @@ public class AdaptedJUnitTestUnitTest {
 
     }
 
+    @RunWith(Parameterized.class)
+    public static class ParameterisedTest {
+
+      static int          parameterCalls;
+      static Object       parameter = 1;
+      static List<Object> seen      = new ArrayList<Object>();
+
+      public ParameterisedTest(final Object o) {
+        seen.add(o);
+      }
+
+      @Parameters
+      public static Collection<Object[]> params() {
+        parameterCalls++;
+        return Arrays.asList(new Object[][] { { parameter } });
+      }
+
+      @Test
+      public void pass() {
+
+      }
+
+    }
+
   }
 
   @Test
@@ -83,6 +118,79 @@ public class AdaptedJUnitTestUnitTest {
         any(Throwable.class));
   }
 
+  @Test
+  public void shouldRunOnlyFilteredTestWhenExecutedRepeatedly() {
+    createTestee(HideFromJUnit.JUnit4Test.class,
+        "pass");
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+    verify(this.rc, times(2)).notifyEnd(this.testee.getDescription());
+    verify(this.rc, times(0)).notifyEnd(eq(this.testee.getDescription()),
+        any(Throwable.class));
+  }
+
+  @Test
+  public void shouldReportSkippedOnEachExecutionWhenFilterRemovesAllTests() {
+    createTestee(HideFromJUnit.JUnit4Test.class,
+        "doesNotExist");
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+    verify(this.rc, times(2)).notifySkipped(this.testee.getDescription());
+  }
+
+  @Test
+  public void shouldRecalculateParametersForEachExecution() {
+    resetParameterisedTest(1);
+    this.testee = new AdaptedJUnitTestUnit(
+        HideFromJUnit.ParameterisedTest.class, Option.<Filter> none());
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+    // once to build the runner and once per execution to check the values
+    assertEquals(3, HideFromJUnit.ParameterisedTest.parameterCalls);
+  }
+
+  @Test
+  public void shouldReuseParameterisedRunnerWhileParametersAreUnchanged() {
+    resetParameterisedTest(1);
+    this.testee = new AdaptedJUnitTestUnit(
+        HideFromJUnit.ParameterisedTest.class, Option.<Filter> none());
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+    verify(this.rc, times(2)).notifyEnd(this.testee.getDescription());
+    assertSame(HideFromJUnit.ParameterisedTest.seen.get(0),
+        HideFromJUnit.ParameterisedTest.seen.get(1));
+  }
+
+  @Test
+  public void shouldRebuildParameterisedRunnerWhenParametersChange() {
+    resetParameterisedTest(1);
+    this.testee = new AdaptedJUnitTestUnit(
+        HideFromJUnit.ParameterisedTest.class, Option.<Filter> none());
+    this.testee.execute(this.rc);
+    HideFromJUnit.ParameterisedTest.parameter = 2;
+    this.testee.execute(this.rc);
+    assertEquals(Arrays.<Object> asList(1, 2),
+        HideFromJUnit.ParameterisedTest.seen);
+  }
+
+  @Test
+  public void shouldRebuildParameterisedRunnerWhenParametersAreMutable() {
+    resetParameterisedTest(new StringBuilder("a"));
+    this.testee = new AdaptedJUnitTestUnit(
+        HideFromJUnit.ParameterisedTest.class, Option.<Filter> none());
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+    // the values are checked once then the runner is rebuilt each time
+    assertEquals(4, HideFromJUnit.ParameterisedTest.parameterCalls);
+  }
+
+  private static void resetParameterisedTest(final Object parameter) {
+    HideFromJUnit.ParameterisedTest.parameterCalls = 0;
+    HideFromJUnit.ParameterisedTest.parameter = parameter;
+    HideFromJUnit.ParameterisedTest.seen.clear();
+  }
+
   private void createTestee(
       final Class<?> clazz, final String method) {
     this.testee = new AdaptedJUnitTestUnit(clazz,
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+public class MetricsTest {
+
+  private Metrics testee = new Metrics();
+
+  @Test
+  public void shouldReturnZeroForUnknownCounter() {
+    assertThat(this.testee.getCounter("unknown")).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldSumCounters() {
+    this.testee.increment("foo");
+    this.testee.add("foo", 41);
+    assertThat(this.testee.getCounter("foo")).isEqualTo(42);
+  }
+
+  @Test
+  public void shouldRecordValuesInHistograms() {
+    this.testee.record("foo", 1);
+    this.testee.record("foo", 3);
+    this.testee.record("foo", 8);
+    final Histogram actual = this.testee.getHistogram("foo");
+    assertThat(actual.getCount()).isEqualTo(3);
+    assertThat(actual.getTotal()).isEqualTo(12);
+    assertThat(actual.getMin()).isEqualTo(1);
+    assertThat(actual.getMax()).isEqualTo(8);
+    assertThat(actual.getMean()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldApproximatePercentilesToWithinPowerOfTwo() {
+    for (int i = 1; i <= 100; i++) {
+      this.testee.record("foo", i);
+    }
+    final Histogram actual = this.testee.getHistogram("foo");
+    assertThat(actual.getPercentile(50)).isBetween(50L, 100L);
+    assertThat(actual.getPercentile(100)).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldReturnEmptyHistogramForUnknownName() {
+    final Histogram actual = this.testee.getHistogram("unknown");
+    assertThat(actual.getCount()).isEqualTo(0);
+    assertThat(actual.getMin()).isEqualTo(0);
+    assertThat(actual.getPercentile(95)).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldMergeCountersAndHistograms() {
+    this.testee.increment("count");
+    this.testee.record("hist", 2);
+    final Metrics other = new Metrics();
+    other.increment("count");
+    other.increment("other");
+    other.record("hist", 6);
+
+    this.testee.merge(other);
+
+    assertThat(this.testee.getCounter("count")).isEqualTo(2);
+    assertThat(this.testee.getCounter("other")).isEqualTo(1);
+    assertThat(this.testee.getHistogram("hist").getCount()).isEqualTo(2);
+    assertThat(this.testee.getHistogram("hist").getMax()).isEqualTo(6);
+  }
+
+  @Test
+  public void shouldNotShareStateWithMergedMetrics() {
+    final Metrics other = new Metrics();
+    other.record("hist", 6);
+    this.testee.merge(other);
+    this.testee.record("hist", 1);
+    assertThat(other.getHistogram("hist").getCount()).isEqualTo(1);
+  }
+
+  @Test(timeout = 10000)
+  public void shouldMergeConcurrentlyInOppositeDirections()
+      throws InterruptedException {
+    final Metrics other = new Metrics();
+    final Thread thread = new Thread(mergeRepeatedly(other, this.testee));
+    thread.start();
+    mergeRepeatedly(this.testee, other).run();
+    thread.join();
+    assertThat(this.testee.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldExportAsCommaSeparatedValues() throws IOException {
+    this.testee.increment("count");
+    this.testee.record("hist", 4);
+    final StringWriter out = new StringWriter();
+    this.testee.export(out);
+    assertThat(out.toString()).isEqualTo(
+        "type,name,count,total,min,mean,p50,p95,max\n"
+            + "counter,count,1,,,,,,\n"
+            + "histogram,hist,1,4,4,4,4,4,4\n");
+  }
+
+  private static Runnable mergeRepeatedly(final Metrics into,
+      final Metrics from) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        for (int i = 0; i != 1000; i++) {
+          into.merge(from);
+        }
+      }
+    };
+  }
+
+}
@@ -1,8 +1,14 @@
 package org.pitest.mutationtest;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
 import nl.jqno.equalsverifier.EqualsVerifier;
 
 import org.junit.Test;
+import org.pitest.functional.Option;
 
 public class MutationStatusTestPairTest {
 
@@ -11,4 +17,27 @@ public class MutationStatusTestPairTest {
     EqualsVerifier.forClass(MutationStatusTestPair.class).verify();
   }
 
+  @Test
+  public void shouldReportFirstOfSeveralKillingTestsAsKillingTest() {
+    final MutationStatusTestPair testee = new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, Arrays.asList("first", "second"));
+    assertThat(testee.getKillingTest()).isEqualTo(Option.some("first"));
+    assertThat(testee.getKillingTests()).containsExactly("first", "second");
+  }
+
+  @Test
+  public void shouldReportSingleKillingTestInKillingTests() {
+    final MutationStatusTestPair testee = new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "first");
+    assertThat(testee.getKillingTests()).containsExactly("first");
+  }
+
+  @Test
+  public void shouldReportNoKillingTestsWhenNoneRecorded() {
+    final MutationStatusTestPair testee = new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, Collections.<String> emptyList());
+    assertThat(testee.getKillingTest()).isEqualTo(Option.<String> none());
+    assertThat(testee.getKillingTests()).isEmpty();
+  }
+
 }
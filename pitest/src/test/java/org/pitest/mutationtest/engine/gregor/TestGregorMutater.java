@@ -19,14 +19,22 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.Collection;
 import java.util.List;
 
 import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.util.Textifier;
+import org.objectweb.asm.util.TraceMethodVisitor;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.FunctionalList;
 import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.gregor.config.Mutator;
 import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
@@ -70,6 +78,30 @@ public class TestGregorMutater extends MutatorTestBase {
 
   }
 
+  @Test
+  public void shouldMutateSingleMethodIdenticallyToFullMutant() {
+    // mutators that create unreachable code are not used as the class writer
+    // replaces dead code when frames are computed
+    createTesteeWith(MathMutator.MATH_MUTATOR,
+        ReturnValsMutator.RETURN_VALS_MUTATOR,
+        InvertNegsMutator.INVERT_NEGS_MUTATOR,
+        IncrementsMutator.INCREMENTS_MUTATOR);
+
+    final List<MutationDetails> actualDetails = findMutationsFor(HasMultipleMutations.class);
+    assertThat(actualDetails).isNotEmpty();
+
+    for (final MutationDetails each : actualDetails) {
+      final Mutant mutant = this.engine.getMutation(each.getId());
+      final MethodNode expected = methodNamed(toClassNode(mutant.getBytes()),
+          each.getMethod().name());
+      final ClassNode actual = toClassNode(this.engine.getMethodMutation(each
+          .getId()));
+      assertThat(actual.methods).hasSize(1);
+      assertEquals(each.getDescription(), instructionsAsText(expected),
+          instructionsAsText(actual.methods.get(0)));
+    }
+  }
+
   @Test
   public void shouldFindNoMutationsWhenNoMutationOperatorsSupplied()
       throws Exception {
@@ -359,6 +391,37 @@ public class TestGregorMutater extends MutatorTestBase {
   }
   
   
+  private static ClassNode toClassNode(final byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes).accept(node, ClassReader.EXPAND_FRAMES);
+    return node;
+  }
+
+  private static MethodNode methodNamed(final ClassNode node, final String name) {
+    for (final MethodNode each : node.methods) {
+      if (each.name.equals(name)) {
+        return each;
+      }
+    }
+    throw new IllegalArgumentException(name);
+  }
+
+  private static String instructionsAsText(final MethodNode method) {
+    final Textifier textifier = new Textifier();
+    method.accept(new TraceMethodVisitor(textifier));
+    final StringWriter writer = new StringWriter();
+    textifier.print(new PrintWriter(writer));
+    // frames and maxs are only recalculated when a class is written out
+    final StringBuilder sb = new StringBuilder();
+    for (final String line : writer.toString().split("\n")) {
+      final String trimmed = line.trim();
+      if (!trimmed.startsWith("FRAME") && !trimmed.startsWith("MAX")) {
+        sb.append(line).append("\n");
+      }
+    }
+    return sb.toString();
+  }
+
   private static F<MutationDetails, Boolean> isInFinallyBlock() {
     return new F<MutationDetails, Boolean>() {
       @Override
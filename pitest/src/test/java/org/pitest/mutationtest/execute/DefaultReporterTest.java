@@ -9,6 +9,7 @@ import java.io.IOException;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pitest.metrics.Metrics;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -57,6 +58,16 @@ public class DefaultReporterTest {
     return is;
   }
 
+  @Test
+  public void shouldSendMetrics() {
+    final Metrics metrics = new Metrics();
+    metrics.increment("foo");
+    this.testee.metrics(metrics);
+    final SafeDataInputStream is = resultToStream();
+    assertEquals(Id.METRICS, is.readByte());
+    assertEquals(1, is.read(Metrics.class).getCounter("foo"));
+  }
+
   @Test
   public void shouldSendExitCode() {
     this.testee.done(ExitCode.TIMEOUT);
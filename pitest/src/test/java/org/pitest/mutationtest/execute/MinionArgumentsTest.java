@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.util.IsolationUtils;
+
+public class MinionArgumentsTest {
+
+  private final TestInfo a = new TestInfo("FooTest", "FooTest.a", 10,
+                               Option.<ClassName> none(), 1);
+  private final TestInfo b = new TestInfo("FooTest", "FooTest.b", 20,
+                               Option.<ClassName> none(), 2);
+  private final TestInfo c = new TestInfo("FooTest", "FooTest.c", 30,
+                               Option.<ClassName> none(), 3);
+
+  @Test
+  public void shouldProvideMutationsWithTestsInOriginalOrder() {
+    final MinionArguments testee = makeArguments(mutant(0, this.a, this.b),
+        mutant(1, this.c, this.a), mutant(2));
+    final List<MutationDetails> actual = testee.getMutations();
+    assertEquals(3, actual.size());
+    assertEquals(Arrays.asList(this.a, this.b), actual.get(0).getTestsInOrder());
+    assertEquals(Arrays.asList(this.c, this.a), actual.get(1).getTestsInOrder());
+    assertEquals(Collections.emptyList(), actual.get(2).getTestsInOrder());
+  }
+
+  @Test
+  public void shouldPreserveMutationDetails() {
+    final MutationDetails mutant = mutant(0, this.a);
+    final MutationDetails actual = makeArguments(mutant).getMutations().get(0);
+    assertEquals(mutant, actual);
+    assertEquals(mutant.getLineNumber(), actual.getLineNumber());
+    assertEquals(mutant.getBlock(), actual.getBlock());
+  }
+
+  @Test
+  public void shouldShareTestsBetweenMutationsWhenSerialized() {
+    final MinionArguments original = makeArguments(mutant(0, this.a, this.b),
+        mutant(1, this.b));
+    final MinionArguments actual = (MinionArguments) IsolationUtils
+        .fromXml(IsolationUtils.toXml(original));
+    final List<MutationDetails> mutations = actual.getMutations();
+    assertSame(mutations.get(0).getTestsInOrder().get(1), mutations.get(1)
+        .getTestsInOrder().get(0));
+    assertEquals(this.b.getTime(), mutations.get(1).getTestsInOrder().get(0)
+        .getTime());
+  }
+
+  private MinionArguments makeArguments(final MutationDetails... mutations) {
+    return new MinionArguments(Arrays.asList(mutations),
+        Collections.<ClassName> emptyList(), mock(MutationEngine.class),
+        mock(TimeoutLengthStrategy.class), false,
+        TestPluginArguments.defaults());
+  }
+
+  private static MutationDetails mutant(final int index,
+      final TestInfo... tests) {
+    final MutationDetails mutant = new MutationDetails(aMutationId()
+        .withIndex(index).withMutator("foo").build(), "file", "desc", 42, 3);
+    mutant.addTestsInOrder(Arrays.asList(tests));
+    return mutant;
+  }
+
+}
@@ -1,5 +1,6 @@
 package org.pitest.mutationtest.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -7,23 +8,37 @@ import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
+import org.pitest.junit.JUnitCompatibleConfiguration;
+import org.pitest.metrics.Metrics;
 import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.MinionSettings;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.testapi.Configuration;
+import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.ExitCode;
 import org.pitest.util.PitError;
 import org.pitest.util.SafeDataInputStream;
@@ -65,10 +80,7 @@ public class MutationTestMinionTest {
     this.mutations = new ArrayList<>();
     this.tests = new ArrayList<>();
 
-    this.args = new MinionArguments(this.mutations, this.tests,  this.engine,
-        this.timeoutStrategy, false, TestPluginArguments.defaults());
-
-    when(this.is.read(MinionArguments.class)).thenReturn(this.args);
+    givenArguments();
     when(this.engine.createMutator(any(ClassByteArraySource.class)))
     .thenReturn(this.mutater);
     
@@ -86,14 +98,99 @@ public class MutationTestMinionTest {
     verify(this.reporter).done(ExitCode.OK);
   }
 
+  @Test
+  public void shouldSendMetricsBeforeFinishing() {
+    this.testee.run();
+    final InOrder order = Mockito.inOrder(this.reporter);
+    order.verify(this.reporter).metrics(any(Metrics.class));
+    order.verify(this.reporter).done(ExitCode.OK);
+  }
+
+  @Test
+  public void shouldFinishWhenMetricsCannotBeSent() {
+    Mockito.doThrow(new PitError("foo")).when(this.reporter)
+        .metrics(any(Metrics.class));
+    this.testee.run();
+    verify(this.reporter).done(ExitCode.OK);
+  }
+
   @Test
   public void shouldReportErrorWhenOneOccursDuringAnalysis() {
     this.mutations.add(new MutationDetails(aMutationId().withIndex(0)
         .withMutator("foo").build(), "file", "desc", 0, 0));
+    givenArguments();
     when(this.mutater.getMutation(any(MutationIdentifier.class))).thenThrow(
         new PitError("foo"));
     this.testee.run();
     verify(this.reporter).done(ExitCode.UNKNOWN_ERROR);
   }
 
+  @Test
+  public void shouldDiscoverTestsBeforeAnyMutantIsCreated() {
+    CodeUnderTest.mutated = false;
+    ParameterizedTestee.valuesSeen.clear();
+    final MutationDetails mutation = new MutationDetails(aMutationId()
+        .withIndex(0).withMutator("foo").build(), "file", "desc", 0, 0);
+    mutation.addTestsInOrder(Collections.singletonList(new TestInfo(
+        ParameterizedTestee.class.getName(), "test", 0,
+        Option.<ClassName> none(), 0)));
+    this.mutations.add(mutation);
+    this.tests.add(ClassName.fromClass(ParameterizedTestee.class));
+    givenArguments();
+    when(
+        this.settings.getTestFrameworkPlugin(any(TestPluginArguments.class),
+            any(ClassByteArraySource.class))).thenReturn(
+        new JUnitCompatibleConfiguration(new TestGroupConfig(), Collections
+            .<String> emptyList(), Collections.<String> emptyList()));
+    when(this.mutater.getMutation(any(MutationIdentifier.class))).thenAnswer(
+        new Answer<Mutant>() {
+          @Override
+          public Mutant answer(final InvocationOnMock invocation) {
+            // stands in for the mutant being swapped in
+            CodeUnderTest.mutated = true;
+            throw new PitError("stop");
+          }
+        });
+
+    this.testee.run();
+
+    assertThat(ParameterizedTestee.valuesSeen).isNotEmpty().containsOnly(1);
+  }
+
+  static class CodeUnderTest {
+    static boolean mutated;
+
+    static int value() {
+      return mutated ? -1 : 1;
+    }
+  }
+
+  @RunWith(Parameterized.class)
+  public static class ParameterizedTestee {
+    static final List<Integer> valuesSeen = new ArrayList<>();
+
+    public ParameterizedTestee(final int value) {
+
+    }
+
+    @Parameters
+    public static Collection<Object[]> params() {
+      final int value = CodeUnderTest.value();
+      valuesSeen.add(value);
+      return Collections.singletonList(new Object[] { value });
+    }
+
+    @Test
+    public void test() {
+
+    }
+  }
+
+  private void givenArguments() {
+    this.args = new MinionArguments(this.mutations, this.tests,  this.engine,
+        this.timeoutStrategy, false, TestPluginArguments.defaults());
+
+    when(this.is.read(MinionArguments.class)).thenReturn(this.args);
+  }
+
 }
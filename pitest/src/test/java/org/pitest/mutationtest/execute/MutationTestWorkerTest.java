@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.execute;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
@@ -21,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.F3;
+import org.pitest.metrics.Metrics;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.Mutant;
@@ -50,6 +52,9 @@ public class MutationTestWorkerTest {
   @Mock
   private Reporter                                    reporter;
 
+  @Mock
+  private HeapMonitor                                 heap;
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
@@ -127,6 +132,48 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @Test
+  public void shouldLeaveRemainingMutantsWhenHeapUsageGrowsPastRecycleThreshold()
+      throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final MutationDetails mutantThree = makeMutant("foo", 3);
+    when(this.heap.percentUsed()).thenReturn(50, 85);
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, new Metrics(), 1, 80, this.heap);
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo, mutantThree),
+        this.reporter, this.testSource);
+    verify(this.reporter).describe(mutantTwo.getId());
+    verify(this.reporter, never()).describe(mutantThree.getId());
+  }
+
+  @Test
+  public void shouldNotRecycleWhenHeapOverThresholdAfterFirstMutant()
+      throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final MutationDetails mutantThree = makeMutant("foo", 3);
+    when(this.heap.percentUsed()).thenReturn(85);
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, new Metrics(), 1, 80, this.heap);
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo, mutantThree),
+        this.reporter, this.testSource);
+    verify(this.reporter).describe(mutantThree.getId());
+  }
+
+  @Test
+  public void shouldNotRecycleWhenRecycleThresholdIsZero() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final MutationDetails mutantThree = makeMutant("foo", 3);
+    when(this.heap.percentUsed()).thenReturn(0, 99);
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, new Metrics(), 1, 0, this.heap);
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo, mutantThree),
+        this.reporter, this.testSource);
+    verify(this.reporter).describe(mutantThree.getId());
+  }
+
   private TestUnit makeFailingTest() {
     return new TestUnit() {
 
@@ -16,7 +16,9 @@ package org.pitest.mutationtest.execute;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -27,8 +29,10 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.TestInfo;
+import org.pitest.functional.F;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
@@ -71,6 +75,78 @@ public class TimeOutDecoratedTestSourceTest {
     assertEquals(1, actual.size());
   }
 
+  @Test
+  public void shouldOnlyDiscoverTestsInClassOfRequestedTest() {
+    final List<ClassName> searched = new ArrayList<>();
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy,
+        Arrays.asList(ClassName.fromString("foo"), ClassName.fromString("bar")),
+        recordingFinder(searched), this.reporter);
+
+    final List<TestUnit> actual = this.testee.translateTests(Arrays
+        .asList(new TestInfo("foo", "foo.one", 42, Option.<ClassName> none(), 0)));
+
+    assertEquals(1, actual.size());
+    assertEquals(Arrays.asList(ClassName.fromString("foo")), searched);
+  }
+
+  @Test
+  public void shouldDiscoverTestsInEachClassOnlyOnce() {
+    final List<ClassName> searched = new ArrayList<>();
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy,
+        Arrays.asList(ClassName.fromString("foo")),
+        recordingFinder(searched), this.reporter);
+
+    this.testee.translateTests(Arrays.asList(new TestInfo("foo", "foo.one",
+        42, Option.<ClassName> none(), 0)));
+    this.testee.translateTests(Arrays.asList(new TestInfo("foo", "foo.two",
+        42, Option.<ClassName> none(), 0)));
+
+    assertEquals(1, searched.size());
+  }
+
+  @Test
+  public void shouldSearchAllClassesWhenTestNotFoundInDefiningClass() {
+    final List<ClassName> searched = new ArrayList<>();
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy,
+        Arrays.asList(ClassName.fromString("foo"), ClassName.fromString("bar")),
+        recordingFinder(searched), this.reporter);
+
+    final List<TestUnit> actual = this.testee.translateTests(Arrays
+        .asList(new TestInfo("foo", "bar.one", 42, Option.<ClassName> none(), 0)));
+
+    assertEquals(1, actual.size());
+    assertEquals(2, searched.size());
+  }
+
+  @Test
+  public void shouldDiscoverTestsOfMutationsWhenPrepared() {
+    final List<ClassName> searched = new ArrayList<>();
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy,
+        Arrays.asList(ClassName.fromString("foo"), ClassName.fromString("bar")),
+        recordingFinder(searched), this.reporter);
+    final MutationDetails mutation = new MutationDetails(aMutationId().build(),
+        "file", "desc", 0, 0);
+    mutation.addTestsInOrder(Arrays.asList(new TestInfo("foo", "foo.one", 42,
+        Option.<ClassName> none(), 0)));
+
+    this.testee.discoverTestsFor(Arrays.asList(mutation));
+    this.testee.translateTests(mutation.getTestsInOrder());
+
+    assertEquals(Arrays.asList(ClassName.fromString("foo")), searched);
+  }
+
+  private F<ClassName, List<TestUnit>> recordingFinder(
+      final List<ClassName> searched) {
+    return new F<ClassName, List<TestUnit>>() {
+      @Override
+      public List<TestUnit> apply(final ClassName a) {
+        searched.add(a);
+        return Arrays.asList(makeTestUnit(a.asJavaName() + ".one"),
+            makeTestUnit(a.asJavaName() + ".two"));
+      }
+    };
+  }
+
   private TestUnit makeTestUnit(final String name) {
     return new TestUnit() {
       private final Description description = new Description(name);
@@ -1,9 +1,12 @@
 package org.pitest.sequence;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
 
 import org.junit.Test;
@@ -106,6 +109,91 @@ public class SequenceQueryTest {
     assertTrue(testee.matches(asList(1, 99, 2)));
   }
 
+  @Test
+  public void shouldMatchWithinLongSequences() {
+    SequenceMatcher<Integer> testee = QueryStart
+        .any(Integer.class)
+        .then(eq(1))
+        .then(eq(2))
+        .zeroOrMore(QueryStart.match(Match.<Integer>always()))
+        .compile();
+
+    List<Integer> sequence = new ArrayList<>();
+    for (int i = 0; i != 100000; i++) {
+      sequence.add(i % 2 == 0 ? 3 : 4);
+    }
+    assertFalse(testee.matches(sequence));
+
+    sequence.add(50000, 2);
+    sequence.add(50000, 1);
+    assertTrue(testee.matches(sequence));
+    assertTrue(testee.matches(new LinkedList<>(sequence)));
+  }
+
+  @Test
+  public void shouldMatchNestedZeroOrMores() {
+    SequenceQuery<Integer> inner = QueryStart
+        .match(eq(2))
+        .zeroOrMore(QueryStart.match(eq(3)));
+
+    SequenceMatcher<Integer> testee = QueryStart
+        .match(eq(1))
+        .zeroOrMore(inner)
+        .then(eq(4))
+        .compile();
+
+    assertTrue(testee.matches(asList(1, 4)));
+    assertTrue(testee.matches(asList(1, 2, 4)));
+    assertTrue(testee.matches(asList(1, 2, 3, 3, 4)));
+    assertTrue(testee.matches(asList(1, 2, 2, 3, 2, 3, 3, 4)));
+    assertFalse(testee.matches(asList(1, 3, 4)));
+    assertFalse(testee.matches(asList(1, 2, 3)));
+    assertFalse(testee.matches(asList(2, 3, 4)));
+  }
+
+  @Test
+  public void shouldTestSharedPredicatesOncePerItem() {
+    CountingMatch two = new CountingMatch(2);
+    SequenceMatcher<Integer> testee = QueryStart
+        .match(eq(1))
+        .thenAnyOf(QueryStart.match(two).then(eq(3)),
+            QueryStart.match(two).then(eq(4)))
+        .compile();
+
+    assertTrue(testee.matches(asList(1, 2, 4)));
+    assertEquals(1, two.count);
+  }
+
+  @Test
+  public void shouldShareSlotsBetweenStepsOfAMatch() {
+    final Slot<Integer> slot = Slot.create(Integer.class);
+    SequenceMatcher<Integer> testee = QueryStart
+        .match(store(slot.write()))
+        .then(load(slot.read()))
+        .compile();
+
+    assertTrue(testee.matches(asList(5, 5)));
+    assertFalse(testee.matches(asList(5, 6)));
+  }
+
+  private static Match<Integer> store(final SlotWrite<Integer> slot) {
+    return new Match<Integer>() {
+      @Override
+      public boolean test(Context<Integer> c, Integer t) {
+        return c.store(slot, t);
+      }
+    };
+  }
+
+  private static Match<Integer> load(final SlotRead<Integer> slot) {
+    return new Match<Integer>() {
+      @Override
+      public boolean test(Context<Integer> c, Integer t) {
+        return t.equals(c.retrieve(slot).value());
+      }
+    };
+  }
+
   private Match<Integer> eq(final int i) {
     return Match.isEqual(i);
   }
@@ -114,4 +202,19 @@ public class SequenceQueryTest {
     return Arrays.asList(is);
   }
 
+  static class CountingMatch extends Match<Integer> {
+    private final int value;
+    int count;
+
+    CountingMatch(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean test(Context<Integer> c, Integer t) {
+      this.count++;
+      return t == this.value;
+    }
+  }
+
 }
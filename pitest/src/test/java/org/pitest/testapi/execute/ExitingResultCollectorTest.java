@@ -75,4 +75,14 @@ public class ExitingResultCollectorTest {
     assertTrue(this.testee.shouldExit());
   }
 
+  @Test
+  public void shouldRequestStopOnlyOnceRequiredNumberOfTestsHaveFailed() {
+    this.testee = new ExitingResultCollector(this.rc, 2);
+    final RuntimeException er = new RuntimeException();
+    this.testee.notifyEnd(this.description, er);
+    assertFalse(this.testee.shouldExit());
+    this.testee.notifyEnd(this.description, er);
+    assertTrue(this.testee.shouldExit());
+  }
+
 }